@@ -0,0 +1,59 @@
+package org.example.realworldapi.benchmark;
+
+import org.example.realworldapi.infrastructure.web.model.request.UpdateArticleRequest;
+import org.example.realworldapi.infrastructure.web.model.request.UpdateUserRequest;
+import org.example.realworldapi.infrastructure.web.validation.constraint.AtLeastOneFieldMustBeNotNull;
+import org.example.realworldapi.infrastructure.web.validation.validator.AtLeastOneFieldMustBeNotNullValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AtLeastOneFieldMustBeNotNullValidatorBenchmark {
+
+  private AtLeastOneFieldMustBeNotNullValidator articleValidator;
+  private AtLeastOneFieldMustBeNotNullValidator userValidator;
+  private UpdateArticleRequest lastFieldPresentArticleRequest;
+  private UpdateArticleRequest emptyArticleRequest;
+  private UpdateUserRequest updateUserRequest;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    articleValidator = createValidator(UpdateArticleRequest.class);
+    userValidator = createValidator(UpdateUserRequest.class);
+
+    lastFieldPresentArticleRequest = new UpdateArticleRequest();
+    lastFieldPresentArticleRequest.setBody("body");
+
+    emptyArticleRequest = new UpdateArticleRequest();
+
+    updateUserRequest = new UpdateUserRequest();
+    updateUserRequest.setEmail("user@mail.com");
+  }
+
+  @Benchmark
+  public boolean validUpdateArticleRequest() {
+    return articleValidator.isValid(lastFieldPresentArticleRequest, null);
+  }
+
+  @Benchmark
+  public boolean invalidUpdateArticleRequest() {
+    return articleValidator.isValid(emptyArticleRequest, null);
+  }
+
+  @Benchmark
+  public boolean validUpdateUserRequest() {
+    return userValidator.isValid(updateUserRequest, null);
+  }
+
+  private AtLeastOneFieldMustBeNotNullValidator createValidator(Class<?> requestClass) {
+    AtLeastOneFieldMustBeNotNullValidator validator = new AtLeastOneFieldMustBeNotNullValidator();
+    validator.initialize(requestClass.getAnnotation(AtLeastOneFieldMustBeNotNull.class));
+    return validator;
+  }
+}
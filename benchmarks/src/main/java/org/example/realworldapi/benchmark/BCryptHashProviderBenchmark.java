@@ -0,0 +1,36 @@
+package org.example.realworldapi.benchmark;
+
+import org.example.realworldapi.infrastructure.provider.BCryptHashProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class BCryptHashProviderBenchmark {
+
+  private BCryptHashProvider hashProvider;
+  private String password;
+  private String hashedPassword;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    hashProvider = new BCryptHashProvider();
+    password = "user123";
+    hashedPassword = hashProvider.hashPassword(password);
+  }
+
+  @Benchmark
+  public String hashPassword() {
+    return hashProvider.hashPassword(password);
+  }
+
+  @Benchmark
+  public boolean checkPassword() {
+    return hashProvider.checkPassword(password, hashedPassword);
+  }
+}
@@ -0,0 +1,30 @@
+package org.example.realworldapi.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+public class BenchmarkRunner {
+
+  private static final String RESULT_FILE = "benchmarks-result.json";
+
+  public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+
+    CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+
+    Options options =
+        new OptionsBuilder()
+            .parent(commandLineOptions)
+            .addProfiler(GCProfiler.class)
+            .resultFormat(commandLineOptions.getResultFormat().orElse(ResultFormatType.JSON))
+            .result(commandLineOptions.getResult().orElse(RESULT_FILE))
+            .build();
+
+    new Runner(options).run();
+  }
+}
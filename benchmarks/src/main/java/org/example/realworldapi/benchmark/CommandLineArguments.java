@@ -0,0 +1,51 @@
+package org.example.realworldapi.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class CommandLineArguments {
+
+  private static final String OPTION_PREFIX = "--";
+
+  private final Map<String, String> values;
+
+  private CommandLineArguments(Map<String, String> values) {
+    this.values = values;
+  }
+
+  public static CommandLineArguments parse(String[] args) {
+    Map<String, String> values = new HashMap<>();
+    for (String arg : args) {
+      if (!arg.startsWith(OPTION_PREFIX) || !arg.contains("=")) {
+        throw new IllegalArgumentException("Expected --name=value but was " + arg);
+      }
+      int separator = arg.indexOf('=');
+      values.put(arg.substring(OPTION_PREFIX.length(), separator), arg.substring(separator + 1));
+    }
+    return new CommandLineArguments(values);
+  }
+
+  public String get(String name, String defaultValue) {
+    return values.getOrDefault(name, defaultValue);
+  }
+
+  public String getRequired(String name) {
+    String value = values.get(name);
+    if (value == null) {
+      throw new IllegalArgumentException("Missing required option " + OPTION_PREFIX + name);
+    }
+    return value;
+  }
+
+  public int getInt(String name, int defaultValue) {
+    return values.containsKey(name) ? Integer.parseInt(values.get(name)) : defaultValue;
+  }
+
+  public long getLong(String name, long defaultValue) {
+    return values.containsKey(name) ? Long.parseLong(values.get(name)) : defaultValue;
+  }
+
+  public boolean getBoolean(String name, boolean defaultValue) {
+    return values.containsKey(name) ? Boolean.parseBoolean(values.get(name)) : defaultValue;
+  }
+}
@@ -0,0 +1,45 @@
+package org.example.realworldapi.benchmark;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.example.realworldapi.infrastructure.provider.JwtTokenProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+  private static final String ISSUER = "users-service";
+  private static final String SECRET = "secret123";
+  private static final int EXPIRATION_TIME_MINUTES = 10;
+
+  private JwtTokenProvider tokenProvider;
+  private String subject;
+  private String token;
+
+  @Setup(Level.Trial)
+  public void setupTrial() {
+    tokenProvider = new JwtTokenProvider(ISSUER, SECRET, EXPIRATION_TIME_MINUTES);
+    subject = "1";
+  }
+
+  @Setup(Level.Iteration)
+  public void setupIteration() {
+    token = tokenProvider.createUserToken(subject, false);
+  }
+
+  @Benchmark
+  public String createUserToken() {
+    return tokenProvider.createUserToken(subject, false);
+  }
+
+  @Benchmark
+  public DecodedJWT verify() {
+    return tokenProvider.verify(token);
+  }
+}
@@ -0,0 +1,101 @@
+package org.example.realworldapi.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.realworldapi.domain.model.entity.Article;
+import org.example.realworldapi.domain.model.entity.Articles;
+import org.example.realworldapi.domain.model.entity.Comment;
+import org.example.realworldapi.domain.model.entity.Profile;
+import org.example.realworldapi.infrastructure.web.config.ObjectMapperConfig;
+import org.example.realworldapi.infrastructure.web.model.response.ArticlesResponse;
+import org.example.realworldapi.infrastructure.web.model.response.CommentsResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+  @Param({"WRAP_ROOT_VALUE", "NO_WRAP_ROOT_VALUE"})
+  private String objectMapperType;
+
+  @Param({"1", "20", "100"})
+  private int size;
+
+  private ObjectMapper objectMapper;
+  private Articles articles;
+  private List<Comment> comments;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    ObjectMapperConfig objectMapperConfig = new ObjectMapperConfig();
+
+    objectMapper =
+        "WRAP_ROOT_VALUE".equals(objectMapperType)
+            ? objectMapperConfig.objectMapper()
+            : objectMapperConfig.noWrapRootValueObjectMapper();
+
+    articles = createArticles(size);
+    comments = createComments(size);
+  }
+
+  @Benchmark
+  public byte[] articlesResponse() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(new ArticlesResponse(articles));
+  }
+
+  @Benchmark
+  public byte[] commentsResponse() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(new CommentsResponse(comments));
+  }
+
+  private Articles createArticles(int quantity) {
+    List<Article> resultList = new LinkedList<>();
+
+    for (int articleIndex = 0; articleIndex < quantity; articleIndex++) {
+      resultList.add(
+          new Article(
+              "title-" + articleIndex,
+              "Title " + articleIndex,
+              "Description " + articleIndex,
+              "Body " + articleIndex,
+              Arrays.asList("Tag 1", "Tag 2", "Tag 3"),
+              articleIndex % 2 == 0,
+              articleIndex,
+              LocalDateTime.now(),
+              LocalDateTime.now(),
+              createProfile(articleIndex)));
+    }
+
+    return new Articles(resultList, quantity);
+  }
+
+  private List<Comment> createComments(int quantity) {
+    List<Comment> resultList = new LinkedList<>();
+
+    for (int commentIndex = 0; commentIndex < quantity; commentIndex++) {
+      resultList.add(
+          new Comment(
+              (long) commentIndex,
+              LocalDateTime.now(),
+              LocalDateTime.now(),
+              "Comment body " + commentIndex,
+              createProfile(commentIndex)));
+    }
+
+    return resultList;
+  }
+
+  private Profile createProfile(int index) {
+    return new Profile("user" + index, "bio", "image", index % 2 == 0);
+  }
+}
@@ -0,0 +1,35 @@
+package org.example.realworldapi.benchmark;
+
+import com.github.slugify.Slugify;
+import org.example.realworldapi.infrastructure.provider.SlugifySlugProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SlugifySlugProviderBenchmark {
+
+  @Param({
+    "How to train your dragon",
+    "Über die Quarkus-Architektur: Überblick & Einführung",
+    "A considerably longer article title, with punctuation, numbers like 2020 and CamelCaseWords"
+  })
+  private String title;
+
+  private SlugifySlugProvider slugProvider;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    slugProvider = new SlugifySlugProvider(new Slugify());
+  }
+
+  @Benchmark
+  public String slugify() {
+    return slugProvider.slugify(title);
+  }
+}
@@ -0,0 +1,97 @@
+package org.example.realworldapi.benchmark.loadgen;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class ApplicationProcess implements AutoCloseable {
+
+  private static final long STARTUP_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(60);
+  private static final long POLL_INTERVAL_MILLIS = 200;
+
+  private final Process process;
+  private final String baseUrl;
+
+  private ApplicationProcess(Process process, String baseUrl) {
+    this.process = process;
+    this.baseUrl = baseUrl;
+  }
+
+  public static ApplicationProcess start(String jar, int port, File log)
+      throws IOException, InterruptedException {
+
+    if (!new File(jar).isFile()) {
+      throw new IllegalStateException("Application jar not found: " + jar + ", run ./mvnw package");
+    }
+
+    List<String> command =
+        Arrays.asList(
+            javaExecutable(),
+            "-Dquarkus.http.port=" + port,
+            "-Dquarkus.datasource.url="
+                + "jdbc:instrumented:h2:mem:loadgen;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+            "-Drate-limit.enabled=false",
+            "-jar",
+            jar);
+
+    Process process =
+        new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log).start();
+
+    ApplicationProcess applicationProcess =
+        new ApplicationProcess(process, "http://localhost:" + port + "/api");
+    applicationProcess.awaitStartup();
+    return applicationProcess;
+  }
+
+  public String getBaseUrl() {
+    return baseUrl;
+  }
+
+  @Override
+  public void close() throws InterruptedException {
+    process.destroy();
+    if (!process.waitFor(10, TimeUnit.SECONDS)) {
+      process.destroyForcibly();
+    }
+  }
+
+  private void awaitStartup() throws InterruptedException {
+    long deadline = System.currentTimeMillis() + STARTUP_TIMEOUT_MILLIS;
+    while (System.currentTimeMillis() < deadline) {
+      if (!process.isAlive()) {
+        throw new IllegalStateException(
+            "Application exited during startup with code " + process.exitValue());
+      }
+      if (isUp()) {
+        return;
+      }
+      Thread.sleep(POLL_INTERVAL_MILLIS);
+    }
+    process.destroyForcibly();
+    throw new IllegalStateException(
+        "Application did not start within " + STARTUP_TIMEOUT_MILLIS + " ms");
+  }
+
+  private boolean isUp() {
+    try {
+      HttpURLConnection connection =
+          (HttpURLConnection) new URL(baseUrl + "/tags").openConnection();
+      connection.setConnectTimeout((int) POLL_INTERVAL_MILLIS);
+      try {
+        return connection.getResponseCode() == HttpURLConnection.HTTP_OK;
+      } finally {
+        connection.disconnect();
+      }
+    } catch (IOException ex) {
+      return false;
+    }
+  }
+
+  private static String javaExecutable() {
+    return System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+  }
+}
@@ -0,0 +1,61 @@
+package org.example.realworldapi.benchmark.loadgen;
+
+import lombok.Getter;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class EndpointStatistics {
+
+  private static final int SIGNIFICANT_DIGITS = 3;
+
+  @Getter private final String endpoint;
+
+  private final Recorder responseTimeRecorder = new Recorder(SIGNIFICANT_DIGITS);
+  private final Recorder serviceTimeRecorder = new Recorder(SIGNIFICANT_DIGITS);
+  private final LongAdder errors = new LongAdder();
+
+  @Getter private final Histogram responseTime = new Histogram(SIGNIFICANT_DIGITS);
+  @Getter private final Histogram serviceTime = new Histogram(SIGNIFICANT_DIGITS);
+
+  private Histogram responseTimeInterval;
+  private Histogram serviceTimeInterval;
+
+  public EndpointStatistics(String endpoint) {
+    this.endpoint = endpoint;
+  }
+
+  public void record(long responseTimeMicros, long serviceTimeMicros, boolean error) {
+    responseTimeRecorder.recordValue(responseTimeMicros);
+    serviceTimeRecorder.recordValue(serviceTimeMicros);
+    if (error) {
+      errors.increment();
+    }
+  }
+
+  public void recordError() {
+    errors.increment();
+  }
+
+  public synchronized Histogram sampleInterval(boolean accumulate) {
+    responseTimeInterval = responseTimeRecorder.getIntervalHistogram(responseTimeInterval);
+    serviceTimeInterval = serviceTimeRecorder.getIntervalHistogram(serviceTimeInterval);
+    if (accumulate) {
+      responseTime.add(responseTimeInterval);
+      serviceTime.add(serviceTimeInterval);
+    }
+    return responseTimeInterval;
+  }
+
+  public synchronized void reset() {
+    sampleInterval(false);
+    responseTime.reset();
+    serviceTime.reset();
+    errors.reset();
+  }
+
+  public long getErrors() {
+    return errors.sum();
+  }
+}
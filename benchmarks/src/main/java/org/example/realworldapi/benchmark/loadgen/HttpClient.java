@@ -0,0 +1,81 @@
+package org.example.realworldapi.benchmark.loadgen;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+public class HttpClient {
+
+  private static final int CONNECT_TIMEOUT_MILLIS = 5_000;
+  private static final int READ_TIMEOUT_MILLIS = 30_000;
+  private static final String AUTHORIZATION_HEADER_PREFIX = "Token ";
+
+  private final String baseUrl;
+
+  public HttpClient(String baseUrl) {
+    this.baseUrl = baseUrl;
+  }
+
+  public Response send(String method, String path, String token, String body) throws IOException {
+    HttpURLConnection connection = (HttpURLConnection) new URL(baseUrl + path).openConnection();
+    connection.setRequestMethod(method);
+    connection.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+    connection.setReadTimeout(READ_TIMEOUT_MILLIS);
+    connection.setRequestProperty("Accept", "application/json");
+
+    if (token != null) {
+      connection.setRequestProperty("Authorization", AUTHORIZATION_HEADER_PREFIX + token);
+    }
+
+    if (body != null) {
+      byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+      connection.setDoOutput(true);
+      connection.setRequestProperty("Content-Type", "application/json");
+      connection.setFixedLengthStreamingMode(bytes.length);
+      try (OutputStream outputStream = connection.getOutputStream()) {
+        outputStream.write(bytes);
+      }
+    }
+
+    int status = connection.getResponseCode();
+    InputStream inputStream =
+        status >= HttpURLConnection.HTTP_BAD_REQUEST
+            ? connection.getErrorStream()
+            : connection.getInputStream();
+
+    return new Response(status, readFully(inputStream));
+  }
+
+  private static String readFully(InputStream inputStream) throws IOException {
+    if (inputStream == null) {
+      return "";
+    }
+    try (InputStream stream = inputStream) {
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+      byte[] buffer = new byte[8192];
+      int read;
+      while ((read = stream.read(buffer)) != -1) {
+        outputStream.write(buffer, 0, read);
+      }
+      return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+    }
+  }
+
+  @Getter
+  @AllArgsConstructor
+  public static class Response {
+    private final int status;
+    private final String body;
+
+    public boolean isSuccessful() {
+      return status >= 200 && status < 300;
+    }
+  }
+}
@@ -0,0 +1,64 @@
+package org.example.realworldapi.benchmark.loadgen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+public final class Json {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private Json() {}
+
+  public static String newUser(String username, String email, String password) {
+    ObjectNode user = OBJECT_MAPPER.createObjectNode();
+    user.put("username", username);
+    user.put("email", email);
+    user.put("password", password);
+    return wrap("user", user);
+  }
+
+  public static String login(String email, String password) {
+    ObjectNode user = OBJECT_MAPPER.createObjectNode();
+    user.put("email", email);
+    user.put("password", password);
+    return wrap("user", user);
+  }
+
+  public static String newArticle(
+      String title, String description, String body, List<String> tags) {
+    ObjectNode article = OBJECT_MAPPER.createObjectNode();
+    article.put("title", title);
+    article.put("description", description);
+    article.put("body", body);
+    ArrayNode tagList = article.putArray("tagList");
+    tags.forEach(tagList::add);
+    return wrap("article", article);
+  }
+
+  public static String newComment(String body) {
+    ObjectNode comment = OBJECT_MAPPER.createObjectNode();
+    comment.put("body", body);
+    return wrap("comment", comment);
+  }
+
+  public static String field(String json, String root, String field) {
+    try {
+      JsonNode value = OBJECT_MAPPER.readTree(json).path(root).path(field);
+      return value.isMissingNode() || value.isNull() ? null : value.asText();
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  private static String wrap(String root, ObjectNode value) {
+    ObjectNode node = OBJECT_MAPPER.createObjectNode();
+    node.set(root, value);
+    return node.toString();
+  }
+}
@@ -0,0 +1,56 @@
+package org.example.realworldapi.benchmark.loadgen;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+public class LatencyRecorder {
+
+  private final ConcurrentMap<String, EndpointStatistics> statistics = new ConcurrentHashMap<>();
+  private volatile boolean measuring;
+
+  public void record(
+      String endpoint,
+      long intendedStartNanos,
+      long actualStartNanos,
+      long endNanos,
+      boolean error) {
+    endpoint(endpoint)
+        .record(
+            TimeUnit.NANOSECONDS.toMicros(endNanos - intendedStartNanos),
+            TimeUnit.NANOSECONDS.toMicros(endNanos - actualStartNanos),
+            error);
+  }
+
+  public void recordError(String endpoint) {
+    endpoint(endpoint).recordError();
+  }
+
+  public void startMeasurement() {
+    statistics.values().forEach(EndpointStatistics::reset);
+    measuring = true;
+  }
+
+  public Histogram sampleInterval() {
+    Histogram interval = new Histogram(3);
+    for (EndpointStatistics endpointStatistics : statistics.values()) {
+      interval.add(endpointStatistics.sampleInterval(measuring));
+    }
+    return interval;
+  }
+
+  public List<EndpointStatistics> getStatistics() {
+    List<EndpointStatistics> sorted = new ArrayList<>(statistics.values());
+    sorted.sort(Comparator.comparing(EndpointStatistics::getEndpoint));
+    return sorted;
+  }
+
+  private EndpointStatistics endpoint(String endpoint) {
+    return statistics.computeIfAbsent(endpoint, EndpointStatistics::new);
+  }
+}
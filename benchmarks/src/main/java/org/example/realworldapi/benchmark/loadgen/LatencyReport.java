@@ -0,0 +1,88 @@
+package org.example.realworldapi.benchmark.loadgen;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.PrintStream;
+
+public class LatencyReport {
+
+  private static final double MICROS_PER_MILLI = 1000.0;
+  private static final String ROW_FORMAT = "%-34s %8s %7s %9s %9s %9s %9s %9s %11s%n";
+
+  private final PrintStream out;
+
+  public LatencyReport(PrintStream out) {
+    this.out = out;
+  }
+
+  public void printInterval(long elapsedSeconds, Histogram interval, int intervalSeconds) {
+    out.printf(
+        "[%4ds] %7.1f req/s  p50=%8.2f ms  p99=%8.2f ms  max=%8.2f ms%n",
+        elapsedSeconds,
+        (double) interval.getTotalCount() / intervalSeconds,
+        millis(interval.getValueAtPercentile(50)),
+        millis(interval.getValueAtPercentile(99)),
+        millis(interval.getMaxValue()));
+  }
+
+  public void printSummary(LatencyRecorder latencyRecorder, OpenLoopScheduler scheduler) {
+    out.println();
+    out.printf(
+        "Scheduled operations: %d, max backlog: %d%n",
+        scheduler.getScheduled(), scheduler.getMaxBacklog());
+    out.println(
+        "Response time is measured from the intended start (coordinated omission corrected),");
+    out.println("service time from the moment the request was actually sent. Values in ms.");
+    out.println();
+    out.printf(
+        ROW_FORMAT, "endpoint", "count", "errors", "p50", "p90", "p99", "p99.9", "max", "svc p99");
+
+    for (EndpointStatistics statistics : latencyRecorder.getStatistics()) {
+      Histogram responseTime = statistics.getResponseTime();
+      out.printf(
+          ROW_FORMAT,
+          statistics.getEndpoint(),
+          responseTime.getTotalCount(),
+          statistics.getErrors(),
+          format(responseTime.getValueAtPercentile(50)),
+          format(responseTime.getValueAtPercentile(90)),
+          format(responseTime.getValueAtPercentile(99)),
+          format(responseTime.getValueAtPercentile(99.9)),
+          format(responseTime.getMaxValue()),
+          format(statistics.getServiceTime().getValueAtPercentile(99)));
+    }
+  }
+
+  public void writeDistributions(LatencyRecorder latencyRecorder, File directory)
+      throws FileNotFoundException {
+
+    if (!directory.isDirectory() && !directory.mkdirs()) {
+      throw new IllegalStateException("Could not create " + directory);
+    }
+
+    for (EndpointStatistics statistics : latencyRecorder.getStatistics()) {
+      String fileName = statistics.getEndpoint().replaceAll("[^A-Za-z0-9]+", "_");
+      write(statistics.getResponseTime(), new File(directory, fileName + ".hgrm"));
+      write(statistics.getServiceTime(), new File(directory, fileName + ".service.hgrm"));
+    }
+
+    out.println();
+    out.println("Percentile distributions written to " + directory.getAbsolutePath());
+  }
+
+  private void write(Histogram histogram, File file) throws FileNotFoundException {
+    try (PrintStream printStream = new PrintStream(file)) {
+      histogram.outputPercentileDistribution(printStream, MICROS_PER_MILLI);
+    }
+  }
+
+  private static String format(long micros) {
+    return String.format("%.2f", millis(micros));
+  }
+
+  private static double millis(long micros) {
+    return micros / MICROS_PER_MILLI;
+  }
+}
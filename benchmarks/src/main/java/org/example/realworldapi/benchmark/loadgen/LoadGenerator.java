@@ -0,0 +1,85 @@
+package org.example.realworldapi.benchmark.loadgen;
+
+import java.io.File;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class LoadGenerator {
+
+  public static void main(String[] args) throws Exception {
+    LoadGeneratorOptions options = LoadGeneratorOptions.parse(args);
+    WorkloadMix workloadMix = WorkloadMix.parse(options.getMix());
+
+    System.setProperty("http.maxConnections", String.valueOf(options.getThreads()));
+
+    File output = new File(options.getOutput());
+    if (!output.isDirectory() && !output.mkdirs()) {
+      throw new IllegalStateException("Could not create " + output);
+    }
+
+    if (options.isExternalApplication()) {
+      run(options, workloadMix, options.getUrl());
+    } else {
+      File log = new File(output, "application.log");
+      System.out.println("Starting " + options.getJar() + ", logging to " + log);
+      try (ApplicationProcess application =
+          ApplicationProcess.start(options.getJar(), options.getPort(), log)) {
+        run(options, workloadMix, application.getBaseUrl());
+      }
+    }
+  }
+
+  private static void run(LoadGeneratorOptions options, WorkloadMix workloadMix, String baseUrl)
+      throws Exception {
+
+    HttpClient httpClient = new HttpClient(baseUrl);
+
+    System.out.printf(
+        "Creating %d users, %d articles and up to %d follows per user%n",
+        options.getUsers(), options.getArticles(), options.getFollowsPerUser());
+    TestData testData = new TestDataLoader(httpClient, options).load();
+
+    LatencyRecorder latencyRecorder = new LatencyRecorder();
+    LatencyReport report = new LatencyReport(System.out);
+    OpenLoopScheduler scheduler =
+        new OpenLoopScheduler(
+            httpClient,
+            latencyRecorder,
+            testData,
+            workloadMix,
+            options.getThreads(),
+            options.getSeed());
+
+    System.out.printf(
+        "Running %s at %d ops/s for %d s after %d s of warmup%n",
+        workloadMix, options.getRate(), options.getDurationSeconds(), options.getWarmupSeconds());
+
+    ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+    long startMillis = System.currentTimeMillis();
+    reporter.schedule(
+        latencyRecorder::startMeasurement, options.getWarmupSeconds(), TimeUnit.SECONDS);
+    reporter.scheduleAtFixedRate(
+        () ->
+            report.printInterval(
+                TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() - startMillis),
+                latencyRecorder.sampleInterval(),
+                options.getReportIntervalSeconds()),
+        options.getReportIntervalSeconds(),
+        options.getReportIntervalSeconds(),
+        TimeUnit.SECONDS);
+
+    try {
+      scheduler.run(
+          options.getRate(),
+          TimeUnit.SECONDS.toNanos(options.getWarmupSeconds() + options.getDurationSeconds()));
+    } finally {
+      reporter.shutdownNow();
+      reporter.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    latencyRecorder.sampleInterval();
+    report.printSummary(latencyRecorder, scheduler);
+    report.writeDistributions(latencyRecorder, new File(options.getOutput()));
+  }
+}
@@ -0,0 +1,51 @@
+package org.example.realworldapi.benchmark.loadgen;
+
+import lombok.Getter;
+import org.example.realworldapi.benchmark.CommandLineArguments;
+
+@Getter
+public class LoadGeneratorOptions {
+
+  private String jar = "target/realworld-api-quarkus-runner.jar";
+  private String url;
+  private int port = 8089;
+  private int rate = 100;
+  private int durationSeconds = 60;
+  private int warmupSeconds = 10;
+  private int reportIntervalSeconds = 5;
+  private int threads = 200;
+  private String mix = "browse=60,feed=20,favorite=10,comment=5,register=5";
+  private int users = 100;
+  private int articles = 500;
+  private int followsPerUser = 10;
+  private int tags = 20;
+  private long seed = 42;
+  private String output = "loadgen-results";
+
+  public static LoadGeneratorOptions parse(String[] args) {
+    CommandLineArguments arguments = CommandLineArguments.parse(args);
+
+    LoadGeneratorOptions options = new LoadGeneratorOptions();
+    options.jar = arguments.get("jar", options.jar);
+    options.url = arguments.get("url", options.url);
+    options.port = arguments.getInt("port", options.port);
+    options.rate = arguments.getInt("rate", options.rate);
+    options.durationSeconds = arguments.getInt("duration", options.durationSeconds);
+    options.warmupSeconds = arguments.getInt("warmup", options.warmupSeconds);
+    options.reportIntervalSeconds =
+        arguments.getInt("report-interval", options.reportIntervalSeconds);
+    options.threads = arguments.getInt("threads", options.threads);
+    options.mix = arguments.get("mix", options.mix);
+    options.users = arguments.getInt("users", options.users);
+    options.articles = arguments.getInt("articles", options.articles);
+    options.followsPerUser = arguments.getInt("follows-per-user", options.followsPerUser);
+    options.tags = arguments.getInt("tags", options.tags);
+    options.seed = arguments.getLong("seed", options.seed);
+    options.output = arguments.get("output", options.output);
+    return options;
+  }
+
+  public boolean isExternalApplication() {
+    return url != null;
+  }
+}
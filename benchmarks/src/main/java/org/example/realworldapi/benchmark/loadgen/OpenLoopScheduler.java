@@ -0,0 +1,77 @@
+package org.example.realworldapi.benchmark.loadgen;
+
+import lombok.Getter;
+
+import java.util.Random;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+public class OpenLoopScheduler {
+
+  private final HttpClient httpClient;
+  private final LatencyRecorder latencyRecorder;
+  private final TestData testData;
+  private final WorkloadMix workloadMix;
+  private final int threads;
+  private final Random random;
+
+  @Getter private long scheduled;
+  @Getter private int maxBacklog;
+
+  public OpenLoopScheduler(
+      HttpClient httpClient,
+      LatencyRecorder latencyRecorder,
+      TestData testData,
+      WorkloadMix workloadMix,
+      int threads,
+      long seed) {
+    this.httpClient = httpClient;
+    this.latencyRecorder = latencyRecorder;
+    this.testData = testData;
+    this.workloadMix = workloadMix;
+    this.threads = threads;
+    this.random = new Random(seed);
+  }
+
+  public void run(int rate, long durationNanos) throws InterruptedException {
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            threads, threads, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+
+    long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+    long startNanos = System.nanoTime();
+    long endNanos = startNanos + durationNanos;
+
+    try {
+      for (long operation = 0; ; operation++) {
+        long intendedStartNanos = startNanos + operation * intervalNanos;
+        if (intendedStartNanos >= endNanos) {
+          break;
+        }
+
+        long waitNanos = intendedStartNanos - System.nanoTime();
+        if (waitNanos > 0) {
+          LockSupport.parkNanos(waitNanos);
+        }
+
+        Workload workload = workloadMix.next(random);
+        executor.execute(
+            () ->
+                workload.execute(
+                    new WorkloadSession(httpClient, latencyRecorder, intendedStartNanos),
+                    testData,
+                    ThreadLocalRandom.current()));
+
+        scheduled++;
+        maxBacklog = Math.max(maxBacklog, executor.getQueue().size());
+      }
+    } finally {
+      executor.shutdown();
+      executor.awaitTermination(1, TimeUnit.MINUTES);
+      executor.shutdownNow();
+    }
+  }
+}
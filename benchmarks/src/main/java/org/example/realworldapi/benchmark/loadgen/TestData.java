@@ -0,0 +1,45 @@
+package org.example.realworldapi.benchmark.loadgen;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TestData {
+
+  public static final String PASSWORD = "password";
+
+  private static final int HOT_ARTICLES = 10;
+
+  @Getter private final String prefix;
+  private final List<TestUser> users;
+  private final List<String> slugs;
+  private final AtomicLong sequence = new AtomicLong();
+
+  public TestData(String prefix, List<TestUser> users, List<String> slugs) {
+    this.prefix = prefix;
+    this.users = users;
+    this.slugs = slugs;
+  }
+
+  public TestUser randomUser(Random random) {
+    return users.get(random.nextInt(users.size()));
+  }
+
+  public String randomSlug(Random random) {
+    return slugs.get(random.nextInt(slugs.size()));
+  }
+
+  public String hotSlug(Random random) {
+    return slugs.get(random.nextInt(Math.min(HOT_ARTICLES, slugs.size())));
+  }
+
+  public int getArticles() {
+    return slugs.size();
+  }
+
+  public String nextUniqueName() {
+    return prefix + "-" + sequence.incrementAndGet();
+  }
+}
@@ -0,0 +1,132 @@
+package org.example.realworldapi.benchmark.loadgen;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class TestDataLoader {
+
+  private static final int TAGS_PER_ARTICLE = 3;
+
+  private final HttpClient httpClient;
+  private final LoadGeneratorOptions options;
+  private final Random random;
+
+  public TestDataLoader(HttpClient httpClient, LoadGeneratorOptions options) {
+    this.httpClient = httpClient;
+    this.options = options;
+    this.random = new Random(options.getSeed());
+  }
+
+  public TestData load() {
+    String prefix = "lg" + Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+
+    List<TestUser> users =
+        IntStream.range(0, options.getUsers())
+            .parallel()
+            .mapToObj(user -> register(prefix + "-user" + user))
+            .collect(Collectors.toList());
+
+    List<ArticleAssignment> assignments = new ArrayList<>();
+    for (int article = 0; article < options.getArticles(); article++) {
+      assignments.add(
+          new ArticleAssignment(
+              prefix + " article " + article,
+              users.get(random.nextInt(users.size())),
+              randomTags(prefix)));
+    }
+
+    List<String> slugs =
+        assignments.parallelStream().map(this::createArticle).collect(Collectors.toList());
+
+    List<TestUser[]> follows = new ArrayList<>();
+    for (TestUser user : users) {
+      int followsPerUser = Math.min(options.getFollowsPerUser(), users.size() - 1);
+      for (int follow = 0; follow < followsPerUser; follow++) {
+        TestUser followed = users.get(random.nextInt(users.size()));
+        if (followed != user) {
+          follows.add(new TestUser[] {user, followed});
+        }
+      }
+    }
+    follows.parallelStream().forEach(follow -> follow(follow[0], follow[1]));
+
+    return new TestData(prefix, Collections.unmodifiableList(users), slugs);
+  }
+
+  private TestUser register(String username) {
+    String email = username + "@mail.com";
+    expectSuccess(
+        send("POST", "/users", null, Json.newUser(username, email, TestData.PASSWORD)));
+    HttpClient.Response login =
+        expectSuccess(send("POST", "/users/login", null, Json.login(email, TestData.PASSWORD)));
+    return new TestUser(username, email, Json.field(login.getBody(), "user", "token"));
+  }
+
+  private String createArticle(ArticleAssignment assignment) {
+    HttpClient.Response response =
+        expectSuccess(
+            send(
+                "POST",
+                "/articles",
+                assignment.author.getToken(),
+                Json.newArticle(
+                    assignment.title,
+                    "Description of " + assignment.title,
+                    "Body of " + assignment.title,
+                    assignment.tags)));
+    return Json.field(response.getBody(), "article", "slug");
+  }
+
+  private void follow(TestUser user, TestUser followed) {
+    expectSuccess(
+        send("POST", "/profiles/" + followed.getUsername() + "/follow", user.getToken(), null));
+  }
+
+  private List<String> randomTags(String prefix) {
+    List<String> tags = new ArrayList<>();
+    while (tags.size() < Math.min(TAGS_PER_ARTICLE, options.getTags())) {
+      String tag = prefix + "-tag" + random.nextInt(options.getTags());
+      if (!tags.contains(tag)) {
+        tags.add(tag);
+      }
+    }
+    return tags;
+  }
+
+  private HttpClient.Response send(String method, String path, String token, String body) {
+    try {
+      return httpClient.send(method, path, token, body);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  private HttpClient.Response expectSuccess(HttpClient.Response response) {
+    if (!response.isSuccessful()) {
+      throw new IllegalStateException(
+          "Test data request failed with status "
+              + response.getStatus()
+              + ": "
+              + response.getBody());
+    }
+    return response;
+  }
+
+  private static class ArticleAssignment {
+    private final String title;
+    private final TestUser author;
+    private final List<String> tags;
+
+    private ArticleAssignment(String title, TestUser author, List<String> tags) {
+      this.title = title;
+      this.author = author;
+      this.tags = tags;
+    }
+  }
+}
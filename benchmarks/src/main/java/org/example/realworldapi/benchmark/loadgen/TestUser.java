@@ -0,0 +1,12 @@
+package org.example.realworldapi.benchmark.loadgen;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TestUser {
+  private final String username;
+  private final String email;
+  private final String token;
+}
@@ -0,0 +1,83 @@
+package org.example.realworldapi.benchmark.loadgen;
+
+import java.util.Random;
+
+public enum Workload {
+  BROWSE("browse") {
+    @Override
+    public void execute(WorkloadSession session, TestData testData, Random random) {
+      int offset = PAGE_SIZE * random.nextInt(Math.max(1, testData.getArticles() / PAGE_SIZE));
+      session.send("GET /articles", "GET", "/articles" + page(offset), null, null);
+      session.send("GET /tags", "GET", "/tags", null, null);
+      String slug = testData.randomSlug(random);
+      session.send("GET /articles/{slug}", "GET", "/articles/" + slug, null, null);
+      session.send(
+          "GET /articles/{slug}/comments", "GET", "/articles/" + slug + "/comments", null, null);
+    }
+  },
+  FEED("feed") {
+    @Override
+    public void execute(WorkloadSession session, TestData testData, Random random) {
+      TestUser user = testData.randomUser(random);
+      session.send("GET /articles/feed", "GET", "/articles/feed" + page(0), user.getToken(), null);
+      session.send("GET /user", "GET", "/user", user.getToken(), null);
+    }
+  },
+  FAVORITE("favorite") {
+    @Override
+    public void execute(WorkloadSession session, TestData testData, Random random) {
+      TestUser user = testData.randomUser(random);
+      String path = "/articles/" + testData.hotSlug(random) + "/favorite";
+      session.send("POST /articles/{slug}/favorite", "POST", path, user.getToken(), null);
+      session.send("DELETE /articles/{slug}/favorite", "DELETE", path, user.getToken(), null);
+    }
+  },
+  COMMENT("comment") {
+    @Override
+    public void execute(WorkloadSession session, TestData testData, Random random) {
+      TestUser user = testData.randomUser(random);
+      String path = "/articles/" + testData.hotSlug(random) + "/comments";
+      session.send(
+          "POST /articles/{slug}/comments",
+          "POST",
+          path,
+          user.getToken(),
+          Json.newComment("Comment from " + user.getUsername()));
+      session.send("GET /articles/{slug}/comments", "GET", path, user.getToken(), null);
+    }
+  },
+  REGISTER("register") {
+    @Override
+    public void execute(WorkloadSession session, TestData testData, Random random) {
+      String username = testData.nextUniqueName();
+      String email = username + "@mail.com";
+      session.send(
+          "POST /users", "POST", "/users", null, Json.newUser(username, email, TestData.PASSWORD));
+      session.send(
+          "POST /users/login", "POST", "/users/login", null, Json.login(email, TestData.PASSWORD));
+    }
+  };
+
+  private static final int PAGE_SIZE = 20;
+
+  private final String key;
+
+  Workload(String key) {
+    this.key = key;
+  }
+
+  public abstract void execute(WorkloadSession session, TestData testData, Random random);
+
+  public static Workload fromKey(String key) {
+    for (Workload workload : values()) {
+      if (workload.key.equalsIgnoreCase(key)) {
+        return workload;
+      }
+    }
+    throw new IllegalArgumentException("Unknown workload: " + key);
+  }
+
+  private static String page(int offset) {
+    return "?offset=" + offset + "&limit=" + PAGE_SIZE;
+  }
+}
@@ -0,0 +1,62 @@
+package org.example.realworldapi.benchmark.loadgen;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class WorkloadMix {
+
+  private final List<Workload> workloads = new ArrayList<>();
+  private final List<Integer> cumulativeWeights = new ArrayList<>();
+  private int totalWeight;
+
+  public static WorkloadMix parse(String mix) {
+    WorkloadMix workloadMix = new WorkloadMix();
+    for (String entry : mix.split(",")) {
+      String[] keyAndWeight = entry.trim().split("=");
+      if (keyAndWeight.length != 2) {
+        throw new IllegalArgumentException("Expected workload=weight but was " + entry);
+      }
+      workloadMix.add(
+          Workload.fromKey(keyAndWeight[0].trim()), Integer.parseInt(keyAndWeight[1].trim()));
+    }
+    if (workloadMix.totalWeight <= 0) {
+      throw new IllegalArgumentException("Workload mix must have a positive total weight: " + mix);
+    }
+    return workloadMix;
+  }
+
+  public Workload next(Random random) {
+    int value = random.nextInt(totalWeight);
+    for (int index = 0; index < workloads.size(); index++) {
+      if (value < cumulativeWeights.get(index)) {
+        return workloads.get(index);
+      }
+    }
+    throw new IllegalStateException("Weight " + value + " out of range " + totalWeight);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder description = new StringBuilder();
+    int previous = 0;
+    for (int index = 0; index < workloads.size(); index++) {
+      if (description.length() > 0) {
+        description.append(", ");
+      }
+      int weight = cumulativeWeights.get(index) - previous;
+      description.append(workloads.get(index)).append('=').append(weight);
+      previous = cumulativeWeights.get(index);
+    }
+    return description.toString();
+  }
+
+  private void add(Workload workload, int weight) {
+    if (weight <= 0) {
+      return;
+    }
+    totalWeight += weight;
+    workloads.add(workload);
+    cumulativeWeights.add(totalWeight);
+  }
+}
@@ -0,0 +1,36 @@
+package org.example.realworldapi.benchmark.loadgen;
+
+import java.io.IOException;
+import java.util.Optional;
+
+public class WorkloadSession {
+
+  private final HttpClient httpClient;
+  private final LatencyRecorder latencyRecorder;
+  private long intendedStartNanos;
+
+  public WorkloadSession(
+      HttpClient httpClient, LatencyRecorder latencyRecorder, long intendedStartNanos) {
+    this.httpClient = httpClient;
+    this.latencyRecorder = latencyRecorder;
+    this.intendedStartNanos = intendedStartNanos;
+  }
+
+  public Optional<HttpClient.Response> send(
+      String endpoint, String method, String path, String token, String body) {
+
+    long actualStartNanos = System.nanoTime();
+    try {
+      HttpClient.Response response = httpClient.send(method, path, token, body);
+      long endNanos = System.nanoTime();
+      latencyRecorder.record(
+          endpoint, intendedStartNanos, actualStartNanos, endNanos, !response.isSuccessful());
+      intendedStartNanos = endNanos;
+      return response.isSuccessful() ? Optional.of(response) : Optional.empty();
+    } catch (IOException ex) {
+      latencyRecorder.recordError(endpoint);
+      intendedStartNanos = System.nanoTime();
+      return Optional.empty();
+    }
+  }
+}
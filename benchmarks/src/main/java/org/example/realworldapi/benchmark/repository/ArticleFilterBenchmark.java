@@ -0,0 +1,76 @@
+package org.example.realworldapi.benchmark.repository;
+
+import org.example.realworldapi.domain.model.entity.persistent.ArticleSummary;
+import org.example.realworldapi.domain.model.search.TagMode;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ArticleFilterBenchmark {
+
+  @Param({"0", "1", "2"})
+  public int tags;
+
+  @Param({"ANY", "ALL"})
+  public TagMode tagMode;
+
+  @Param({"0", "1"})
+  public int authors;
+
+  @Param({"0", "1"})
+  public int favorited;
+
+  @Param({"0", "1000"})
+  public int offset;
+
+  @Param({"20"})
+  public int limit;
+
+  @Benchmark
+  public List<ArticleSummary> findArticles(RepositoryState state, SqlStatementCounter counter) {
+    return state
+        .getArticleSummaryRepository()
+        .findArticles(
+            offset,
+            limit,
+            randomTags(state),
+            tagMode,
+            randomUsernames(state, authors),
+            randomUsernames(state, favorited));
+  }
+
+  @Benchmark
+  public int count(RepositoryState state, SqlStatementCounter counter) {
+    return state
+        .getArticleSummaryRepository()
+        .count(
+            randomTags(state),
+            tagMode,
+            randomUsernames(state, authors),
+            randomUsernames(state, favorited));
+  }
+
+  private List<String> randomTags(RepositoryState state) {
+    List<String> tagNames = new ArrayList<>();
+    for (int tag = 0; tag < tags; tag++) {
+      tagNames.add(state.getDataset().getTagNames()[state.randomTag()]);
+    }
+    return tagNames;
+  }
+
+  private List<String> randomUsernames(RepositoryState state, int quantity) {
+    List<String> usernames = new ArrayList<>();
+    for (int user = 0; user < quantity; user++) {
+      usernames.add(state.getDataset().getUsernames()[state.randomUser()]);
+    }
+    return usernames;
+  }
+}
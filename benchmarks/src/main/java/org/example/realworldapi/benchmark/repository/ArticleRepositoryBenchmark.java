@@ -0,0 +1,84 @@
+package org.example.realworldapi.benchmark.repository;
+
+import org.example.realworldapi.domain.model.builder.ArticleBuilder;
+import org.example.realworldapi.domain.model.entity.persistent.Article;
+import org.example.realworldapi.domain.model.entity.persistent.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ArticleRepositoryBenchmark {
+
+  @Benchmark
+  public Article create(RepositoryState state, SqlStatementCounter counter) {
+    User author =
+        state
+            .getEntityManager()
+            .getReference(User.class, state.getDataset().getUserIds()[state.randomUser()]);
+    Article article =
+        state
+            .getArticleRepository()
+            .create(
+                new ArticleBuilder()
+                    .title("New article")
+                    .slug("new-article-" + System.nanoTime())
+                    .description("Description")
+                    .body("Body")
+                    .author(author)
+                    .build());
+    state.flush();
+    return article;
+  }
+
+  @Benchmark
+  public List<String> findSlugs(RepositoryState state, SqlStatementCounter counter) {
+    return state.getArticleRepository().findSlugs(randomSlug(state));
+  }
+
+  @Benchmark
+  public Optional<Article> findBySlug(RepositoryState state, SqlStatementCounter counter) {
+    return state.getArticleRepository().findBySlug(randomSlug(state));
+  }
+
+  @Benchmark
+  public Optional<Article> findByIdAndSlug(RepositoryState state, SqlStatementCounter counter) {
+    int article = state.randomArticle();
+    return state
+        .getArticleRepository()
+        .findByIdAndSlug(
+            state.getDataset().getArticleAuthorIds()[article],
+            state.getDataset().getSlugs()[article]);
+  }
+
+  @Benchmark
+  public Article update(RepositoryState state, SqlStatementCounter counter) {
+    Article article = findArticle(state);
+    article.setBody("Updated body " + System.nanoTime());
+    Article updatedArticle = state.getArticleRepository().update(article);
+    state.flush();
+    return updatedArticle;
+  }
+
+  @Benchmark
+  public void delete(RepositoryState state, SqlStatementCounter counter) {
+    state.getArticleRepository().delete(findArticle(state));
+    state.flush();
+  }
+
+  private String randomSlug(RepositoryState state) {
+    return state.getDataset().getSlugs()[state.randomArticle()];
+  }
+
+  private Article findArticle(RepositoryState state) {
+    return state
+        .getEntityManager()
+        .find(Article.class, state.getDataset().getArticleIds()[state.randomArticle()]);
+  }
+}
@@ -0,0 +1,53 @@
+package org.example.realworldapi.benchmark.repository;
+
+import org.example.realworldapi.domain.model.entity.persistent.ArticleSummary;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ArticleSummaryRepositoryBenchmark {
+
+  @Param({"0", "100"})
+  public int offset;
+
+  @Param({"20"})
+  public int limit;
+
+  @Benchmark
+  public List<ArticleSummary> findFeed(RepositoryState state, SqlStatementCounter counter) {
+    return state.getArticleSummaryRepository().findFeed(randomUserId(state), offset, limit);
+  }
+
+  @Benchmark
+  public int countFeed(RepositoryState state, SqlStatementCounter counter) {
+    return state.getArticleSummaryRepository().countFeed(randomUserId(state));
+  }
+
+  @Benchmark
+  public List<ArticleSummary> findByIds(RepositoryState state, SqlStatementCounter counter) {
+    List<Long> articleIds = Arrays.asList(new Long[limit]);
+    for (int article = 0; article < limit; article++) {
+      articleIds.set(article, state.getDataset().getArticleIds()[state.randomArticle()]);
+    }
+    return state.getArticleSummaryRepository().findByIds(articleIds);
+  }
+
+  @Benchmark
+  public void updateFavoritesCount(RepositoryState state, SqlStatementCounter counter) {
+    state
+        .getArticleSummaryRepository()
+        .updateFavoritesCount(state.getDataset().getArticleIds()[state.randomArticle()], 1);
+  }
+
+  private Long randomUserId(RepositoryState state) {
+    return state.getDataset().getUserIds()[state.randomUser()];
+  }
+}
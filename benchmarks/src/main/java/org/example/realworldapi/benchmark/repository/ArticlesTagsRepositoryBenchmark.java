@@ -0,0 +1,41 @@
+package org.example.realworldapi.benchmark.repository;
+
+import org.example.realworldapi.domain.model.entity.persistent.Article;
+import org.example.realworldapi.domain.model.entity.persistent.ArticlesTags;
+import org.example.realworldapi.domain.model.entity.persistent.ArticlesTagsKey;
+import org.example.realworldapi.domain.model.entity.persistent.Tag;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ArticlesTagsRepositoryBenchmark {
+
+  @Benchmark
+  public List<Tag> findTags(RepositoryState state, SqlStatementCounter counter) {
+    return state
+        .getArticlesTagsRepository()
+        .findTags(state.getDataset().getArticleIds()[state.randomArticle()]);
+  }
+
+  @Benchmark
+  public ArticlesTags create(RepositoryState state, SqlStatementCounter counter) {
+    Tag tag = new Tag("new-tag-" + System.nanoTime());
+    state.getEntityManager().persist(tag);
+
+    Long articleId = state.getDataset().getArticleIds()[state.randomArticle()];
+    Article article = state.getEntityManager().getReference(Article.class, articleId);
+
+    ArticlesTags articlesTags =
+        state
+            .getArticlesTagsRepository()
+            .create(new ArticlesTags(new ArticlesTagsKey(article, tag)));
+    state.flush();
+    return articlesTags;
+  }
+}
@@ -0,0 +1,80 @@
+package org.example.realworldapi.benchmark.repository;
+
+import org.example.realworldapi.domain.model.entity.persistent.Article;
+import org.example.realworldapi.domain.model.entity.persistent.ArticlesUsers;
+import org.example.realworldapi.domain.model.entity.persistent.ArticlesUsersKey;
+import org.example.realworldapi.domain.model.entity.persistent.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ArticlesUsersRepositoryBenchmark {
+
+  @Benchmark
+  public boolean isFavorited(RepositoryState state, SqlStatementCounter counter) {
+    int favorite = state.randomFavorite();
+    return state
+        .getArticlesUsersRepository()
+        .isFavorited(
+            state.getDataset().getFavoriteArticleIds()[favorite],
+            state.getDataset().getFavoriteUserIds()[favorite]);
+  }
+
+  @Benchmark
+  public int favoritesCount(RepositoryState state, SqlStatementCounter counter) {
+    return state
+        .getArticlesUsersRepository()
+        .favoritesCount(state.getDataset().getArticleIds()[state.randomArticle()]);
+  }
+
+  @Benchmark
+  public Optional<ArticlesUsers> findById(RepositoryState state, SqlStatementCounter counter) {
+    return state.getArticlesUsersRepository().findById(randomFavoriteKey(state));
+  }
+
+  @Benchmark
+  public ArticlesUsers create(RepositoryState state, SqlStatementCounter counter) {
+    ArticlesUsersKey articlesUsersKey =
+        articlesUsersKey(
+            state,
+            state.getDataset().getArticleIds()[state.randomArticle()],
+            state.getDataset().getUserIds()[state.randomUser()]);
+
+    ArticlesUsers articlesUsers = new ArticlesUsers();
+    articlesUsers.setPrimaryKey(articlesUsersKey);
+
+    ArticlesUsers createdArticlesUsers = state.getArticlesUsersRepository().create(articlesUsers);
+    state.flush();
+    return createdArticlesUsers;
+  }
+
+  @Benchmark
+  public void remove(RepositoryState state, SqlStatementCounter counter) {
+    state
+        .getArticlesUsersRepository()
+        .findById(randomFavoriteKey(state))
+        .ifPresent(articlesUsers -> state.getArticlesUsersRepository().remove(articlesUsers));
+    state.flush();
+  }
+
+  private ArticlesUsersKey randomFavoriteKey(RepositoryState state) {
+    int favorite = state.randomFavorite();
+    return articlesUsersKey(
+        state,
+        state.getDataset().getFavoriteArticleIds()[favorite],
+        state.getDataset().getFavoriteUserIds()[favorite]);
+  }
+
+  private ArticlesUsersKey articlesUsersKey(RepositoryState state, Long articleId, Long userId) {
+    ArticlesUsersKey articlesUsersKey = new ArticlesUsersKey();
+    articlesUsersKey.setArticle(state.getEntityManager().getReference(Article.class, articleId));
+    articlesUsersKey.setUser(state.getEntityManager().getReference(User.class, userId));
+    return articlesUsersKey;
+  }
+}
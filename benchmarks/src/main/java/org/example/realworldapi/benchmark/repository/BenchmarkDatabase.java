@@ -0,0 +1,75 @@
+package org.example.realworldapi.benchmark.repository;
+
+import org.example.realworldapi.domain.model.entity.persistent.*;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.stat.Statistics;
+
+import javax.persistence.EntityManager;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+public class BenchmarkDatabase implements AutoCloseable {
+
+  private static final List<Class<?>> ENTITY_CLASSES =
+      Arrays.asList(
+          User.class,
+          Tag.class,
+          Article.class,
+          ArticlesTags.class,
+          ArticlesUsers.class,
+          UsersFollowers.class,
+          Comment.class,
+          ArticleSummary.class);
+
+  private SessionFactory sessionFactory;
+
+  public BenchmarkDatabase(String url, String username, String password, String schemaGeneration) {
+    this.sessionFactory = sessionFactory(properties(url, username, password, schemaGeneration));
+  }
+
+  public EntityManager createEntityManager() {
+    return sessionFactory.createEntityManager();
+  }
+
+  public Statistics getStatistics() {
+    return sessionFactory.getStatistics();
+  }
+
+  @Override
+  public void close() {
+    sessionFactory.close();
+  }
+
+  private static SessionFactory sessionFactory(Properties properties) {
+    Configuration configuration = new Configuration();
+    configuration.setProperties(properties);
+    ENTITY_CLASSES.forEach(configuration::addAnnotatedClass);
+    ServiceRegistry serviceRegistry =
+        new StandardServiceRegistryBuilder().applySettings(configuration.getProperties()).build();
+    try {
+      return configuration.buildSessionFactory(serviceRegistry);
+    } catch (RuntimeException ex) {
+      StandardServiceRegistryBuilder.destroy(serviceRegistry);
+      throw ex;
+    }
+  }
+
+  private static Properties properties(
+      String url, String username, String password, String schemaGeneration) {
+    Properties properties = new Properties();
+    properties.put(Environment.URL, url);
+    properties.put(Environment.USER, username);
+    properties.put(Environment.PASS, password);
+    properties.put(Environment.SHOW_SQL, false);
+    properties.put(Environment.HBM2DDL_AUTO, schemaGeneration);
+    properties.put(Environment.GENERATE_STATISTICS, true);
+    properties.put(Environment.STATEMENT_BATCH_SIZE, 100);
+    properties.put(Environment.ORDER_INSERTS, true);
+    return properties;
+  }
+}
@@ -0,0 +1,78 @@
+package org.example.realworldapi.benchmark.repository;
+
+import org.example.realworldapi.benchmark.seed.Dataset;
+import org.example.realworldapi.domain.model.entity.persistent.Article;
+import org.example.realworldapi.domain.model.entity.persistent.Comment;
+import org.example.realworldapi.domain.model.entity.persistent.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CommentRepositoryBenchmark {
+
+  @Param({"20"})
+  public int limit;
+
+  private Map<Long, String> slugsByArticleId;
+
+  @Setup(Level.Trial)
+  public void setup(DatasetState datasetState) {
+    Dataset dataset = datasetState.getDataset();
+    slugsByArticleId = new HashMap<>();
+    for (int article = 0; article < dataset.getArticleIds().length; article++) {
+      slugsByArticleId.put(dataset.getArticleIds()[article], dataset.getSlugs()[article]);
+    }
+  }
+
+  @Benchmark
+  public Comment create(RepositoryState state, SqlStatementCounter counter) {
+    Long articleId = state.getDataset().getArticleIds()[state.randomArticle()];
+    Long authorId = state.getDataset().getUserIds()[state.randomUser()];
+
+    Comment comment = new Comment();
+    comment.setBody("New comment");
+    comment.setArticle(state.getEntityManager().getReference(Article.class, articleId));
+    comment.setAuthor(state.getEntityManager().getReference(User.class, authorId));
+    Comment createdComment = state.getCommentRepository().create(comment);
+    state.flush();
+    return createdComment;
+  }
+
+  @Benchmark
+  public Optional<Comment> findComment(RepositoryState state, SqlStatementCounter counter) {
+    int comment = state.randomComment();
+    return state
+        .getCommentRepository()
+        .findComment(
+            slugsByArticleId.get(state.getDataset().getCommentArticleIds()[comment]),
+            state.getDataset().getCommentIds()[comment],
+            state.getDataset().getCommentAuthorIds()[comment]);
+  }
+
+  @Benchmark
+  public List<Comment> findComments(RepositoryState state, SqlStatementCounter counter) {
+    return state
+        .getCommentRepository()
+        .findComments(state.getDataset().getArticleIds()[state.randomArticle()], null, limit);
+  }
+
+  @Benchmark
+  public void delete(RepositoryState state, SqlStatementCounter counter) {
+    Comment comment =
+        state
+            .getEntityManager()
+            .find(Comment.class, state.getDataset().getCommentIds()[state.randomComment()]);
+    state.getCommentRepository().delete(comment);
+    state.flush();
+  }
+}
@@ -0,0 +1,78 @@
+package org.example.realworldapi.benchmark.repository;
+
+import lombok.Getter;
+import org.example.realworldapi.benchmark.seed.BulkSeeder;
+import org.example.realworldapi.benchmark.seed.Dataset;
+import org.example.realworldapi.benchmark.seed.DatasetScale;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+@Getter
+@State(Scope.Benchmark)
+public class DatasetState {
+
+  private static final String DATABASE_URL =
+      "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+  private static final String DATABASE_USERNAME = "sa";
+  private static final String DATABASE_PASSWORD = "";
+  private static final int BATCH_SIZE = 1000;
+
+  @Param({"0"})
+  public int users;
+
+  @Param({"10000"})
+  public int articles;
+
+  @Param({"100"})
+  public int tags;
+
+  @Param({"3"})
+  public int tagsPerArticle;
+
+  @Param({"20"})
+  public int followsPerUser;
+
+  @Param({"3"})
+  public int favoritesPerArticle;
+
+  @Param({"5"})
+  public int commentsPerArticle;
+
+  @Param({"42"})
+  public long seed;
+
+  private BenchmarkDatabase database;
+  private Dataset dataset;
+
+  @Setup(Level.Trial)
+  public void setup() throws SQLException {
+    DatasetScale scale =
+        new DatasetScale(
+            users,
+            articles,
+            tags,
+            tagsPerArticle,
+            followsPerUser,
+            favoritesPerArticle,
+            commentsPerArticle);
+
+    database =
+        new BenchmarkDatabase(DATABASE_URL, DATABASE_USERNAME, DATABASE_PASSWORD, "create-drop");
+
+    long start = System.nanoTime();
+    try (Connection connection =
+        DriverManager.getConnection(DATABASE_URL, DATABASE_USERNAME, DATABASE_PASSWORD)) {
+      dataset = new BulkSeeder(connection, seed, BATCH_SIZE).seed(scale);
+    }
+    System.out.printf(
+        "%nSeeded %s in %d ms%n", scale, (System.nanoTime() - start) / 1_000_000);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    database.close();
+  }
+}
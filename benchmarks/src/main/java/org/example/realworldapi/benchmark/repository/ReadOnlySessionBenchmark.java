@@ -0,0 +1,53 @@
+package org.example.realworldapi.benchmark.repository;
+
+import org.example.realworldapi.domain.model.entity.persistent.ArticleSummary;
+import org.example.realworldapi.domain.model.search.TagMode;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ReadOnlySessionBenchmark {
+
+  @Param({"false", "true"})
+  public boolean readOnly;
+
+  @Param({"0", "1000"})
+  public int offset;
+
+  @Param({"100"})
+  public int limit;
+
+  @Benchmark
+  public List<ArticleSummary> findArticlesPage(
+      RepositoryState state, SqlStatementCounter counter) {
+    Session session = state.getEntityManager().unwrap(Session.class);
+    session.setDefaultReadOnly(readOnly);
+    session.setHibernateFlushMode(readOnly ? FlushMode.MANUAL : FlushMode.AUTO);
+
+    List<ArticleSummary> articles =
+        state
+            .getArticleSummaryRepository()
+            .findArticles(
+                offset,
+                limit,
+                Collections.emptyList(),
+                TagMode.ANY,
+                Collections.emptyList(),
+                Collections.emptyList());
+
+    if (session.getHibernateFlushMode() != FlushMode.MANUAL) {
+      session.flush();
+    }
+    return articles;
+  }
+}
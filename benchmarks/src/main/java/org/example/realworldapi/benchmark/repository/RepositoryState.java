@@ -0,0 +1,88 @@
+package org.example.realworldapi.benchmark.repository;
+
+import lombok.Getter;
+import org.example.realworldapi.benchmark.seed.Dataset;
+import org.example.realworldapi.domain.model.repository.*;
+import org.example.realworldapi.infrastructure.repository.*;
+import org.openjdk.jmh.annotations.*;
+
+import javax.persistence.EntityManager;
+import java.util.Random;
+
+@Getter
+@State(Scope.Thread)
+public class RepositoryState {
+
+  private EntityManager entityManager;
+  private Dataset dataset;
+  private Random random;
+
+  private ArticleRepository articleRepository;
+  private ArticleSummaryRepository articleSummaryRepository;
+  private ArticlesTagsRepository articlesTagsRepository;
+  private ArticlesUsersRepository articlesUsersRepository;
+  private CommentRepository commentRepository;
+  private TagRepository tagRepository;
+  private UserRepository userRepository;
+  private UsersFollowersRepository usersFollowersRepository;
+
+  @Setup(Level.Trial)
+  public void setup(DatasetState datasetState) {
+    entityManager = datasetState.getDatabase().createEntityManager();
+    dataset = datasetState.getDataset();
+    random = new Random(datasetState.seed);
+
+    articleRepository = new ArticleRepositoryHibernate(entityManager);
+    articleSummaryRepository = new ArticleSummaryRepositoryHibernate(entityManager);
+    articlesTagsRepository = new ArticlesTagsRepositoryHibernate(entityManager);
+    articlesUsersRepository = new ArticlesUsersRepositoryHibernate(entityManager);
+    commentRepository = new CommentRepositoryHibernate(entityManager);
+    tagRepository = new TagRepositoryHibernate(entityManager);
+    userRepository = new UserRepositoryHibernate(entityManager);
+    usersFollowersRepository = new UsersFollowersRepositoryHibernate(entityManager);
+  }
+
+  @Setup(Level.Invocation)
+  public void beginTransaction() {
+    entityManager.clear();
+    entityManager.getTransaction().begin();
+  }
+
+  @TearDown(Level.Invocation)
+  public void rollbackTransaction() {
+    entityManager.getTransaction().rollback();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    entityManager.close();
+  }
+
+  public void flush() {
+    entityManager.flush();
+  }
+
+  public int randomUser() {
+    return random.nextInt(dataset.getUserIds().length);
+  }
+
+  public int randomArticle() {
+    return random.nextInt(dataset.getArticleIds().length);
+  }
+
+  public int randomTag() {
+    return random.nextInt(dataset.getTagNames().length);
+  }
+
+  public int randomComment() {
+    return random.nextInt(dataset.getCommentIds().length);
+  }
+
+  public int randomFollow() {
+    return random.nextInt(dataset.getFollowUserIds().length);
+  }
+
+  public int randomFavorite() {
+    return random.nextInt(dataset.getFavoriteArticleIds().length);
+  }
+}
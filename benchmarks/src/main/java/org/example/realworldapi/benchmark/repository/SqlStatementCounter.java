@@ -0,0 +1,37 @@
+package org.example.realworldapi.benchmark.repository;
+
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.EVENTS)
+public class SqlStatementCounter {
+
+  public long statements;
+  public long calls;
+
+  private Statistics statistics;
+  private long statementsBefore;
+
+  @Setup(Level.Trial)
+  public void setup(DatasetState datasetState) {
+    statistics = datasetState.getDatabase().getStatistics();
+  }
+
+  @Setup(Level.Iteration)
+  public void reset() {
+    statements = 0;
+    calls = 0;
+  }
+
+  @Setup(Level.Invocation)
+  public void before() {
+    statementsBefore = statistics.getPrepareStatementCount();
+  }
+
+  @TearDown(Level.Invocation)
+  public void after() {
+    statements += statistics.getPrepareStatementCount() - statementsBefore;
+    calls++;
+  }
+}
@@ -0,0 +1,33 @@
+package org.example.realworldapi.benchmark.repository;
+
+import org.example.realworldapi.domain.model.entity.persistent.Tag;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TagRepositoryBenchmark {
+
+  @Benchmark
+  public Optional<Tag> findByName(RepositoryState state, SqlStatementCounter counter) {
+    return state.getTagRepository().findByName(state.getDataset().getTagNames()[state.randomTag()]);
+  }
+
+  @Benchmark
+  public List<Tag> findAll(RepositoryState state, SqlStatementCounter counter) {
+    return state.getTagRepository().findAll();
+  }
+
+  @Benchmark
+  public Tag create(RepositoryState state, SqlStatementCounter counter) {
+    Tag tag = state.getTagRepository().create(new Tag("new-tag-" + System.nanoTime()));
+    state.flush();
+    return tag;
+  }
+}
@@ -0,0 +1,82 @@
+package org.example.realworldapi.benchmark.repository;
+
+import org.example.realworldapi.domain.model.entity.persistent.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class UserRepositoryBenchmark {
+
+  @Benchmark
+  public User create(RepositoryState state, SqlStatementCounter counter) {
+    String username = "new-user-" + System.nanoTime();
+    User user = new User();
+    user.setUsername(username);
+    user.setEmail(username.toUpperCase() + "@MAIL.COM");
+    user.setPassword("password");
+    User createdUser = state.getUserRepository().create(user);
+    state.flush();
+    return createdUser;
+  }
+
+  @Benchmark
+  public Optional<User> findByEmail(RepositoryState state, SqlStatementCounter counter) {
+    return state
+        .getUserRepository()
+        .findByEmail(state.getDataset().getEmails()[state.randomUser()]);
+  }
+
+  @Benchmark
+  public Optional<User> findById(RepositoryState state, SqlStatementCounter counter) {
+    return state.getUserRepository().findById(state.getDataset().getUserIds()[state.randomUser()]);
+  }
+
+  @Benchmark
+  public Optional<User> findByUsername(RepositoryState state, SqlStatementCounter counter) {
+    return state
+        .getUserRepository()
+        .findByUsername(state.getDataset().getUsernames()[state.randomUser()]);
+  }
+
+  @Benchmark
+  public boolean existsBy(RepositoryState state, SqlStatementCounter counter) {
+    return state
+        .getUserRepository()
+        .existsBy("username", state.getDataset().getUsernames()[state.randomUser()]);
+  }
+
+  @Benchmark
+  public boolean existsUsername(RepositoryState state, SqlStatementCounter counter) {
+    int user = state.randomUser();
+    return state
+        .getUserRepository()
+        .existsUsername(
+            state.getDataset().getUserIds()[user], state.getDataset().getUsernames()[user]);
+  }
+
+  @Benchmark
+  public boolean existsEmail(RepositoryState state, SqlStatementCounter counter) {
+    int user = state.randomUser();
+    return state
+        .getUserRepository()
+        .existsEmail(state.getDataset().getUserIds()[user], state.getDataset().getEmails()[user]);
+  }
+
+  @Benchmark
+  public User update(RepositoryState state, SqlStatementCounter counter) {
+    User user =
+        state
+            .getEntityManager()
+            .find(User.class, state.getDataset().getUserIds()[state.randomUser()]);
+    user.setBio("Updated bio " + System.nanoTime());
+    User updatedUser = state.getUserRepository().update(user);
+    state.flush();
+    return updatedUser;
+  }
+}
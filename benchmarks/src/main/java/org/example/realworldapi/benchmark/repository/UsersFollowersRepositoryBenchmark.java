@@ -0,0 +1,85 @@
+package org.example.realworldapi.benchmark.repository;
+
+import org.example.realworldapi.domain.model.entity.persistent.User;
+import org.example.realworldapi.domain.model.entity.persistent.UsersFollowers;
+import org.example.realworldapi.domain.model.entity.persistent.UsersFollowersKey;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class UsersFollowersRepositoryBenchmark {
+
+  @Param({"20"})
+  public int limit;
+
+  @Benchmark
+  public boolean isFollowing(RepositoryState state, SqlStatementCounter counter) {
+    int follow = state.randomFollow();
+    return state
+        .getUsersFollowersRepository()
+        .isFollowing(
+            state.getDataset().getFollowUserIds()[follow],
+            state.getDataset().getFollowFollowerIds()[follow]);
+  }
+
+  @Benchmark
+  public List<Long> findFollowedUserIds(RepositoryState state, SqlStatementCounter counter) {
+    List<Long> userIds = Arrays.asList(new Long[limit]);
+    for (int user = 0; user < limit; user++) {
+      userIds.set(user, randomUserId(state));
+    }
+    return state.getUsersFollowersRepository().findFollowedUserIds(randomUserId(state), userIds);
+  }
+
+  @Benchmark
+  public UsersFollowers findByKey(RepositoryState state, SqlStatementCounter counter) {
+    return state.getUsersFollowersRepository().findByKey(randomFollowKey(state));
+  }
+
+  @Benchmark
+  public UsersFollowers insertOrUpdate(RepositoryState state, SqlStatementCounter counter) {
+    UsersFollowersKey usersFollowersKey = new UsersFollowersKey();
+    usersFollowersKey.setUser(userReference(state, randomUserId(state)));
+    usersFollowersKey.setFollower(userReference(state, randomUserId(state)));
+
+    UsersFollowers usersFollowers = new UsersFollowers();
+    usersFollowers.setPrimaryKey(usersFollowersKey);
+
+    UsersFollowers result = state.getUsersFollowersRepository().insertOrUpdate(usersFollowers);
+    state.flush();
+    return result;
+  }
+
+  @Benchmark
+  public void delete(RepositoryState state, SqlStatementCounter counter) {
+    UsersFollowers usersFollowers =
+        state.getUsersFollowersRepository().findByKey(randomFollowKey(state));
+    state.getUsersFollowersRepository().delete(usersFollowers);
+    state.flush();
+  }
+
+  private Long randomUserId(RepositoryState state) {
+    return state.getDataset().getUserIds()[state.randomUser()];
+  }
+
+  private UsersFollowersKey randomFollowKey(RepositoryState state) {
+    int follow = state.randomFollow();
+    UsersFollowersKey usersFollowersKey = new UsersFollowersKey();
+    usersFollowersKey.setUser(userReference(state, state.getDataset().getFollowUserIds()[follow]));
+    usersFollowersKey.setFollower(
+        userReference(state, state.getDataset().getFollowFollowerIds()[follow]));
+    return usersFollowersKey;
+  }
+
+  private User userReference(RepositoryState state, Long userId) {
+    return state.getEntityManager().getReference(User.class, userId);
+  }
+}
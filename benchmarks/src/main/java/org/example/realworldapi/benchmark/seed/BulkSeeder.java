@@ -0,0 +1,485 @@
+package org.example.realworldapi.benchmark.seed;
+
+import org.example.realworldapi.domain.model.entity.persistent.ArticleSummary;
+import org.mindrot.jbcrypt.BCrypt;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+public class BulkSeeder {
+
+  private static final String PASSWORD = "password";
+  private static final int BCRYPT_LOG_ROUNDS = 10;
+  private static final double ZIPF_EXPONENT = 1.0;
+  private static final int MAX_COMMENTS_PER_ARTICLE = 1000;
+  private static final int MAX_DISTINCT_ATTEMPTS_FACTOR = 20;
+  private static final LocalDateTime FIRST_ARTICLE_DATE = LocalDateTime.of(2019, 1, 1, 0, 0);
+  private static final int SECONDS_BETWEEN_ARTICLES = 60;
+
+  private static final String[] TABLES_IN_DELETE_ORDER = {
+    "ARTICLE_SUMMARY",
+    "COMMENTS",
+    "ARTICLES_USERS",
+    "ARTICLES_TAGS",
+    "USERS_FOLLOWERS",
+    "ARTICLES",
+    "TAGS",
+    "USERS"
+  };
+
+  private final Connection connection;
+  private final int batchSize;
+  private final Random random;
+  private final String passwordHash;
+
+  private long nextId = 1;
+  private long rows;
+
+  public BulkSeeder(Connection connection, long seed, int batchSize) {
+    this.connection = connection;
+    this.batchSize = batchSize;
+    this.random = new Random(seed);
+    this.passwordHash =
+        BCrypt.hashpw(PASSWORD, BCrypt.gensalt(BCRYPT_LOG_ROUNDS, saltRandom(seed)));
+  }
+
+  public void clean() throws SQLException {
+    connection.setAutoCommit(false);
+    try (Statement statement = connection.createStatement()) {
+      for (String table : TABLES_IN_DELETE_ORDER) {
+        statement.executeUpdate("delete from " + table);
+      }
+    }
+    connection.commit();
+  }
+
+  public Dataset seed(DatasetScale scale) throws SQLException {
+    connection.setAutoCommit(false);
+
+    ZipfDistribution userPopularity = new ZipfDistribution(scale.getUsers(), ZIPF_EXPONENT);
+    ZipfDistribution tagPopularity = new ZipfDistribution(scale.getTags(), ZIPF_EXPONENT);
+
+    long[] userIds = new long[scale.getUsers()];
+    String[] usernames = new String[scale.getUsers()];
+    String[] emails = new String[scale.getUsers()];
+    insertUsers(userIds, usernames, emails);
+
+    long[] tagIds = new long[scale.getTags()];
+    String[] tagNames = new String[scale.getTags()];
+    insertTags(tagIds, tagNames);
+
+    long[] articleIds = new long[scale.getArticles()];
+    String[] slugs = new String[scale.getArticles()];
+    long[] articleAuthorIds = new long[scale.getArticles()];
+    insertArticles(userIds, userPopularity, articleIds, slugs, articleAuthorIds);
+    String[] articleTagLists = new String[scale.getArticles()];
+    insertArticlesTags(scale, tagIds, tagNames, tagPopularity, articleIds, articleTagLists);
+
+    int expectedFollows = userIds.length * scale.getFollowsPerUser();
+    LongArrayBuilder followUserIds = new LongArrayBuilder(expectedFollows);
+    LongArrayBuilder followFollowerIds = new LongArrayBuilder(expectedFollows);
+    insertFollows(scale, userIds, userPopularity, followUserIds, followFollowerIds);
+
+    int expectedFavorites = articleIds.length * scale.getFavoritesPerArticle();
+    LongArrayBuilder favoriteArticleIds = new LongArrayBuilder(expectedFavorites);
+    LongArrayBuilder favoriteUserIds = new LongArrayBuilder(expectedFavorites);
+    int[] favoritesCounts = new int[scale.getArticles()];
+    insertFavorites(
+        scale, userIds, articleIds, favoriteArticleIds, favoriteUserIds, favoritesCounts);
+
+    insertArticleSummaries(
+        userIds, usernames, articleIds, slugs, articleAuthorIds, articleTagLists, favoritesCounts);
+
+    int expectedComments = articleIds.length * scale.getCommentsPerArticle();
+    LongArrayBuilder commentIds = new LongArrayBuilder(expectedComments);
+    LongArrayBuilder commentArticleIds = new LongArrayBuilder(expectedComments);
+    LongArrayBuilder commentAuthorIds = new LongArrayBuilder(expectedComments);
+    insertComments(scale, userIds, articleIds, commentIds, commentArticleIds, commentAuthorIds);
+
+    restartSequence();
+
+    return new Dataset(
+        scale,
+        userIds,
+        usernames,
+        emails,
+        articleIds,
+        slugs,
+        articleAuthorIds,
+        tagNames,
+        followUserIds.build(),
+        followFollowerIds.build(),
+        favoriteArticleIds.build(),
+        favoriteUserIds.build(),
+        commentIds.build(),
+        commentArticleIds.build(),
+        commentAuthorIds.build());
+  }
+
+  public long getRows() {
+    return rows;
+  }
+
+  private void insertUsers(long[] userIds, String[] usernames, String[] emails)
+      throws SQLException {
+
+    try (BatchInsert insert =
+        new BatchInsert(
+            "insert into USERS (id, username, email, password, bio, image, admin) "
+                + "values (?, ?, ?, ?, ?, ?, false)")) {
+
+      for (int user = 0; user < userIds.length; user++) {
+        userIds[user] = nextId++;
+        usernames[user] = "user" + user;
+        emails[user] = ("user" + user + "@mail.com").toUpperCase();
+
+        PreparedStatement statement = insert.getStatement();
+        statement.setLong(1, userIds[user]);
+        statement.setString(2, usernames[user]);
+        statement.setString(3, emails[user]);
+        statement.setString(4, passwordHash);
+        statement.setString(5, bio(user));
+        statement.setString(6, image(user));
+        insert.add();
+      }
+    }
+  }
+
+  private void insertTags(long[] tagIds, String[] tagNames) throws SQLException {
+    try (BatchInsert insert = new BatchInsert("insert into TAGS (id, name) values (?, ?)")) {
+      for (int tag = 0; tag < tagIds.length; tag++) {
+        tagIds[tag] = nextId++;
+        tagNames[tag] = "tag" + tag;
+
+        PreparedStatement statement = insert.getStatement();
+        statement.setLong(1, tagIds[tag]);
+        statement.setString(2, tagNames[tag]);
+        insert.add();
+      }
+    }
+  }
+
+  private void insertArticles(
+      long[] userIds,
+      ZipfDistribution userPopularity,
+      long[] articleIds,
+      String[] slugs,
+      long[] articleAuthorIds)
+      throws SQLException {
+
+    try (BatchInsert insert =
+        new BatchInsert(
+            "insert into ARTICLES "
+                + "(id, slug, title, description, body, createdAt, updatedAt, author_id) "
+                + "values (?, ?, ?, ?, ?, ?, ?, ?)")) {
+
+      for (int article = 0; article < articleIds.length; article++) {
+        articleIds[article] = nextId++;
+        slugs[article] = "article-" + article;
+        articleAuthorIds[article] = userIds[userPopularity.sample(random)];
+        Timestamp createdAt = Timestamp.valueOf(articleDate(article));
+
+        PreparedStatement statement = insert.getStatement();
+        statement.setLong(1, articleIds[article]);
+        statement.setString(2, slugs[article]);
+        statement.setString(3, "Article " + article);
+        statement.setString(4, "Description of article " + article);
+        statement.setString(5, "Body of article " + article);
+        statement.setTimestamp(6, createdAt);
+        statement.setTimestamp(7, createdAt);
+        statement.setLong(8, articleAuthorIds[article]);
+        insert.add();
+      }
+    }
+  }
+
+  private void insertArticlesTags(
+      DatasetScale scale,
+      long[] tagIds,
+      String[] tagNames,
+      ZipfDistribution tagPopularity,
+      long[] articleIds,
+      String[] articleTagLists)
+      throws SQLException {
+
+    try (BatchInsert insert =
+        new BatchInsert("insert into ARTICLES_TAGS (article_id, tag_id) values (?, ?)")) {
+
+      ArticleSummary summary = new ArticleSummary();
+      for (int article = 0; article < articleIds.length; article++) {
+        List<String> articleTags = new ArrayList<>();
+        for (int tag : distinct(tagPopularity, scale.getTagsPerArticle(), -1)) {
+          PreparedStatement statement = insert.getStatement();
+          statement.setLong(1, articleIds[article]);
+          statement.setLong(2, tagIds[tag]);
+          insert.add();
+
+          articleTags.add(tagNames[tag]);
+        }
+        summary.setTags(articleTags);
+        articleTagLists[article] = summary.getTagList();
+      }
+    }
+  }
+
+  private void insertFollows(
+      DatasetScale scale,
+      long[] userIds,
+      ZipfDistribution userPopularity,
+      LongArrayBuilder followUserIds,
+      LongArrayBuilder followFollowerIds)
+      throws SQLException {
+
+    try (BatchInsert insert =
+        new BatchInsert("insert into USERS_FOLLOWERS (user_id, follower_id) values (?, ?)")) {
+
+      for (int user = 0; user < userIds.length; user++) {
+        int follows =
+            PowerLawDistribution.sample(random, scale.getFollowsPerUser(), userIds.length - 1);
+
+        for (int followed : distinct(userPopularity, follows, user)) {
+          PreparedStatement statement = insert.getStatement();
+          statement.setLong(1, userIds[user]);
+          statement.setLong(2, userIds[followed]);
+          insert.add();
+
+          followUserIds.add(userIds[user]);
+          followFollowerIds.add(userIds[followed]);
+        }
+      }
+    }
+  }
+
+  private void insertFavorites(
+      DatasetScale scale,
+      long[] userIds,
+      long[] articleIds,
+      LongArrayBuilder favoriteArticleIds,
+      LongArrayBuilder favoriteUserIds,
+      int[] favoritesCounts)
+      throws SQLException {
+
+    try (BatchInsert insert =
+        new BatchInsert("insert into ARTICLES_USERS (article_id, user_id) values (?, ?)")) {
+
+      for (int article = 0; article < articleIds.length; article++) {
+        int favorites =
+            PowerLawDistribution.sample(random, scale.getFavoritesPerArticle(), userIds.length);
+
+        for (int user : distinct(null, favorites, -1, userIds.length)) {
+          PreparedStatement statement = insert.getStatement();
+          statement.setLong(1, articleIds[article]);
+          statement.setLong(2, userIds[user]);
+          insert.add();
+
+          favoriteArticleIds.add(articleIds[article]);
+          favoriteUserIds.add(userIds[user]);
+          favoritesCounts[article]++;
+        }
+      }
+    }
+  }
+
+  private void insertArticleSummaries(
+      long[] userIds,
+      String[] usernames,
+      long[] articleIds,
+      String[] slugs,
+      long[] articleAuthorIds,
+      String[] articleTagLists,
+      int[] favoritesCounts)
+      throws SQLException {
+
+    Map<Long, Integer> users = new HashMap<>();
+    for (int user = 0; user < userIds.length; user++) {
+      users.put(userIds[user], user);
+    }
+
+    try (BatchInsert insert =
+        new BatchInsert(
+            "insert into ARTICLE_SUMMARY "
+                + "(article_id, slug, title, description, body, tagList, favoritesCount, "
+                + "createdAt, updatedAt, author_id, authorUsername, authorBio, authorImage) "
+                + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+
+      for (int article = 0; article < articleIds.length; article++) {
+        int author = users.get(articleAuthorIds[article]);
+        Timestamp createdAt = Timestamp.valueOf(articleDate(article));
+
+        PreparedStatement statement = insert.getStatement();
+        statement.setLong(1, articleIds[article]);
+        statement.setString(2, slugs[article]);
+        statement.setString(3, "Article " + article);
+        statement.setString(4, "Description of article " + article);
+        statement.setString(5, "Body of article " + article);
+        statement.setString(6, articleTagLists[article]);
+        statement.setInt(7, favoritesCounts[article]);
+        statement.setTimestamp(8, createdAt);
+        statement.setTimestamp(9, createdAt);
+        statement.setLong(10, articleAuthorIds[article]);
+        statement.setString(11, usernames[author]);
+        statement.setString(12, bio(author));
+        statement.setString(13, image(author));
+        insert.add();
+      }
+    }
+  }
+
+  private void insertComments(
+      DatasetScale scale,
+      long[] userIds,
+      long[] articleIds,
+      LongArrayBuilder commentIds,
+      LongArrayBuilder commentArticleIds,
+      LongArrayBuilder commentAuthorIds)
+      throws SQLException {
+
+    try (BatchInsert insert =
+        new BatchInsert(
+            "insert into COMMENTS (id, body, createdAt, updatedAt, article_id, author_id) "
+                + "values (?, ?, ?, ?, ?, ?)")) {
+
+      for (int article = 0; article < articleIds.length; article++) {
+        int comments =
+            PowerLawDistribution.sample(
+                random, scale.getCommentsPerArticle(), MAX_COMMENTS_PER_ARTICLE);
+        LocalDateTime articleDate = articleDate(article);
+
+        for (int comment = 0; comment < comments; comment++) {
+          long commentId = nextId++;
+          long authorId = userIds[random.nextInt(userIds.length)];
+          Timestamp createdAt = Timestamp.valueOf(articleDate.plusMinutes(comment + 1));
+
+          PreparedStatement statement = insert.getStatement();
+          statement.setLong(1, commentId);
+          statement.setString(2, "Comment " + commentId);
+          statement.setTimestamp(3, createdAt);
+          statement.setTimestamp(4, createdAt);
+          statement.setLong(5, articleIds[article]);
+          statement.setLong(6, authorId);
+          insert.add();
+
+          commentIds.add(commentId);
+          commentArticleIds.add(articleIds[article]);
+          commentAuthorIds.add(authorId);
+        }
+      }
+    }
+  }
+
+  private void restartSequence() throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("alter sequence hibernate_sequence restart with " + nextId);
+    }
+    connection.commit();
+  }
+
+  private int[] distinct(ZipfDistribution distribution, int quantity, int excluded) {
+    return distinct(distribution, quantity, excluded, distribution.size());
+  }
+
+  private int[] distinct(ZipfDistribution distribution, int quantity, int excluded, int bound) {
+    int available = excluded >= 0 ? bound - 1 : bound;
+    int target = Math.min(quantity, available);
+    Set<Integer> indexes = new HashSet<>();
+
+    int attempts = 0;
+    while (indexes.size() < target && attempts++ < target * MAX_DISTINCT_ATTEMPTS_FACTOR) {
+      int index = distribution != null ? distribution.sample(random) : random.nextInt(bound);
+      if (index != excluded) {
+        indexes.add(index);
+      }
+    }
+
+    if (indexes.size() < target) {
+      int index = random.nextInt(bound);
+      while (indexes.size() < target) {
+        if (index != excluded) {
+          indexes.add(index);
+        }
+        index = (index + 1) % bound;
+      }
+    }
+
+    int[] result = new int[indexes.size()];
+    int position = 0;
+    for (int selected : indexes) {
+      result[position++] = selected;
+    }
+    return result;
+  }
+
+  private static String bio(int user) {
+    return "bio " + user;
+  }
+
+  private static String image(int user) {
+    return "https://images.example.org/" + user + ".png";
+  }
+
+  private static LocalDateTime articleDate(int article) {
+    return FIRST_ARTICLE_DATE.plusSeconds((long) article * SECONDS_BETWEEN_ARTICLES);
+  }
+
+  private static SecureRandom saltRandom(long seed) {
+    try {
+      SecureRandom saltRandom = SecureRandom.getInstance("SHA1PRNG");
+      saltRandom.setSeed(seed);
+      return saltRandom;
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  private class BatchInsert implements AutoCloseable {
+
+    private final PreparedStatement statement;
+    private int pending;
+
+    private BatchInsert(String sql) throws SQLException {
+      this.statement = connection.prepareStatement(sql);
+    }
+
+    private PreparedStatement getStatement() {
+      return statement;
+    }
+
+    private void add() throws SQLException {
+      statement.addBatch();
+      rows++;
+      if (++pending == batchSize) {
+        flush();
+      }
+    }
+
+    private void flush() throws SQLException {
+      if (pending > 0) {
+        statement.executeBatch();
+        connection.commit();
+        pending = 0;
+      }
+    }
+
+    @Override
+    public void close() throws SQLException {
+      try {
+        flush();
+      } finally {
+        statement.close();
+      }
+    }
+  }
+}
@@ -0,0 +1,25 @@
+package org.example.realworldapi.benchmark.seed;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class Dataset {
+
+  private final DatasetScale scale;
+  private final long[] userIds;
+  private final String[] usernames;
+  private final String[] emails;
+  private final long[] articleIds;
+  private final String[] slugs;
+  private final long[] articleAuthorIds;
+  private final String[] tagNames;
+  private final long[] followUserIds;
+  private final long[] followFollowerIds;
+  private final long[] favoriteArticleIds;
+  private final long[] favoriteUserIds;
+  private final long[] commentIds;
+  private final long[] commentArticleIds;
+  private final long[] commentAuthorIds;
+}
@@ -0,0 +1,49 @@
+package org.example.realworldapi.benchmark.seed;
+
+import lombok.Getter;
+
+@Getter
+public class DatasetScale {
+
+  private static final int ARTICLES_PER_USER = 10;
+  private static final int MIN_USERS = 10;
+
+  private final int users;
+  private final int articles;
+  private final int tags;
+  private final int tagsPerArticle;
+  private final int followsPerUser;
+  private final int favoritesPerArticle;
+  private final int commentsPerArticle;
+
+  public DatasetScale(
+      int users,
+      int articles,
+      int tags,
+      int tagsPerArticle,
+      int followsPerUser,
+      int favoritesPerArticle,
+      int commentsPerArticle) {
+    this.articles = articles;
+    this.users = users > 0 ? users : Math.max(MIN_USERS, articles / ARTICLES_PER_USER);
+    this.tags = tags;
+    this.tagsPerArticle = Math.min(tagsPerArticle, tags);
+    this.followsPerUser = Math.min(followsPerUser, users - 1);
+    this.favoritesPerArticle = Math.min(favoritesPerArticle, users);
+    this.commentsPerArticle = commentsPerArticle;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "users=%d, articles=%d, tags=%d, tagsPerArticle=%d, followsPerUser=%d, "
+            + "favoritesPerArticle=%d, commentsPerArticle=%d",
+        users,
+        articles,
+        tags,
+        tagsPerArticle,
+        followsPerUser,
+        favoritesPerArticle,
+        commentsPerArticle);
+  }
+}
@@ -0,0 +1,24 @@
+package org.example.realworldapi.benchmark.seed;
+
+import java.util.Arrays;
+
+public class LongArrayBuilder {
+
+  private long[] values;
+  private int size;
+
+  public LongArrayBuilder(int initialCapacity) {
+    values = new long[Math.max(16, initialCapacity)];
+  }
+
+  public void add(long value) {
+    if (size == values.length) {
+      values = Arrays.copyOf(values, values.length * 2);
+    }
+    values[size++] = value;
+  }
+
+  public long[] build() {
+    return Arrays.copyOf(values, size);
+  }
+}
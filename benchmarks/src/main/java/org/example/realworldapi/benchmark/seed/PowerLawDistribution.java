@@ -0,0 +1,19 @@
+package org.example.realworldapi.benchmark.seed;
+
+import java.util.Random;
+
+public final class PowerLawDistribution {
+
+  private static final double ALPHA = 2.5;
+
+  private PowerLawDistribution() {}
+
+  public static int sample(Random random, double mean, int max) {
+    if (mean <= 0 || max <= 0) {
+      return 0;
+    }
+    double minimum = mean * (ALPHA - 1) / ALPHA;
+    double value = minimum / Math.pow(1 - random.nextDouble(), 1 / ALPHA);
+    return (int) Math.min(max, Math.round(value));
+  }
+}
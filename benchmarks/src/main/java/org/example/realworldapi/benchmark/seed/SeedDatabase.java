@@ -0,0 +1,49 @@
+package org.example.realworldapi.benchmark.seed;
+
+import org.example.realworldapi.benchmark.repository.BenchmarkDatabase;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+public class SeedDatabase {
+
+  public static void main(String[] args) throws SQLException {
+    SeedDatabaseOptions options = SeedDatabaseOptions.parse(args);
+    DatasetScale scale = options.toScale();
+
+    if (options.isCreateSchema()) {
+      System.out.println("Creating schema in " + options.getUrl());
+      new BenchmarkDatabase(
+              options.getUrl(), options.getUsername(), options.getPassword(), "create")
+          .close();
+    }
+
+    try (Connection connection =
+        DriverManager.getConnection(
+            options.getUrl(), options.getUsername(), options.getPassword())) {
+
+      BulkSeeder seeder = new BulkSeeder(connection, options.getSeed(), options.getBatchSize());
+
+      if (options.isClean()) {
+        System.out.println("Deleting existing rows");
+        seeder.clean();
+      }
+
+      System.out.println("Seeding " + scale + " with seed " + options.getSeed());
+      long start = System.nanoTime();
+      Dataset dataset = seeder.seed(scale);
+      long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+      System.out.printf(
+          "Inserted %d rows (%d follows, %d favorites, %d comments) in %d ms, %.0f rows/min%n",
+          seeder.getRows(),
+          dataset.getFollowUserIds().length,
+          dataset.getFavoriteArticleIds().length,
+          dataset.getCommentIds().length,
+          elapsedMillis,
+          seeder.getRows() * 60_000.0 / Math.max(1, elapsedMillis));
+    }
+  }
+}
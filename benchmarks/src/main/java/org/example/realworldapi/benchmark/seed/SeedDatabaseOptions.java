@@ -0,0 +1,57 @@
+package org.example.realworldapi.benchmark.seed;
+
+import lombok.Getter;
+import org.example.realworldapi.benchmark.CommandLineArguments;
+
+@Getter
+public class SeedDatabaseOptions {
+
+  private String url;
+  private String username = "sa";
+  private String password = "";
+  private boolean createSchema;
+  private boolean clean;
+  private int batchSize = 1000;
+  private long seed = 42;
+  private int users;
+  private int articles = 100_000;
+  private int tags = 100;
+  private int tagsPerArticle = 3;
+  private int followsPerUser = 20;
+  private int favoritesPerArticle = 3;
+  private int commentsPerArticle = 5;
+
+  public static SeedDatabaseOptions parse(String[] args) {
+    CommandLineArguments arguments = CommandLineArguments.parse(args);
+
+    SeedDatabaseOptions options = new SeedDatabaseOptions();
+    options.url = arguments.getRequired("url");
+    options.username = arguments.get("username", options.username);
+    options.password = arguments.get("password", options.password);
+    options.createSchema = arguments.getBoolean("create-schema", options.createSchema);
+    options.clean = arguments.getBoolean("clean", options.clean);
+    options.batchSize = arguments.getInt("batch-size", options.batchSize);
+    options.seed = arguments.getLong("seed", options.seed);
+    options.users = arguments.getInt("users", options.users);
+    options.articles = arguments.getInt("articles", options.articles);
+    options.tags = arguments.getInt("tags", options.tags);
+    options.tagsPerArticle = arguments.getInt("tags-per-article", options.tagsPerArticle);
+    options.followsPerUser = arguments.getInt("follows-per-user", options.followsPerUser);
+    options.favoritesPerArticle =
+        arguments.getInt("favorites-per-article", options.favoritesPerArticle);
+    options.commentsPerArticle =
+        arguments.getInt("comments-per-article", options.commentsPerArticle);
+    return options;
+  }
+
+  public DatasetScale toScale() {
+    return new DatasetScale(
+        users,
+        articles,
+        tags,
+        tagsPerArticle,
+        followsPerUser,
+        favoritesPerArticle,
+        commentsPerArticle);
+  }
+}
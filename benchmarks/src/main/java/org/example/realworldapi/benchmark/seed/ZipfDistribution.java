@@ -0,0 +1,28 @@
+package org.example.realworldapi.benchmark.seed;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class ZipfDistribution {
+
+  private final double[] cumulativeWeights;
+
+  public ZipfDistribution(int size, double exponent) {
+    cumulativeWeights = new double[size];
+    double total = 0;
+    for (int rank = 0; rank < size; rank++) {
+      total += 1.0 / Math.pow(rank + 1, exponent);
+      cumulativeWeights[rank] = total;
+    }
+  }
+
+  public int sample(Random random) {
+    double value = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+    int index = Arrays.binarySearch(cumulativeWeights, value);
+    return index >= 0 ? index : -index - 1;
+  }
+
+  public int size() {
+    return cumulativeWeights.length;
+  }
+}
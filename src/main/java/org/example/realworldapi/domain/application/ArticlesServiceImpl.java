@@ -1,28 +1,56 @@
 package org.example.realworldapi.domain.application;
 
+import org.eclipse.microprofile.metrics.annotation.Counted;
+import org.example.realworldapi.domain.model.builder.ProfileBuilder;
+import org.example.realworldapi.domain.model.cache.CachedComment;
+import org.example.realworldapi.domain.model.cache.CommentThreadCache;
+import org.example.realworldapi.domain.model.entity.ArticleSearchPage;
 import org.example.realworldapi.domain.model.entity.Articles;
+import org.example.realworldapi.domain.model.entity.CommentCursor;
+import org.example.realworldapi.domain.model.entity.Comments;
 import org.example.realworldapi.domain.model.entity.Profile;
 import org.example.realworldapi.domain.model.entity.persistent.*;
+import org.example.realworldapi.domain.model.event.*;
 import org.example.realworldapi.domain.model.exception.ArticleNotFoundException;
 import org.example.realworldapi.domain.model.exception.CommentNotFoundException;
 import org.example.realworldapi.domain.model.exception.FavoriteEntryNotFoundException;
+import org.example.realworldapi.domain.model.exception.SlugAlreadyExistsException;
 import org.example.realworldapi.domain.model.exception.UserNotFoundException;
 import org.example.realworldapi.domain.model.provider.SlugProvider;
 import org.example.realworldapi.domain.model.repository.*;
+import org.example.realworldapi.domain.model.search.ArticleHit;
+import org.example.realworldapi.domain.model.search.ArticleIdPage;
+import org.example.realworldapi.domain.model.search.ArticleSearchIndex;
+import org.example.realworldapi.domain.model.search.ArticleSearchResult;
+import org.example.realworldapi.domain.model.search.ArticleTagIndex;
+import org.example.realworldapi.domain.model.search.TagMode;
 import org.example.realworldapi.domain.service.ArticlesService;
 import org.example.realworldapi.domain.service.ProfilesService;
+import org.example.realworldapi.infrastructure.metrics.annotation.ServerTimed;
+import org.example.realworldapi.infrastructure.metrics.timing.ServerTimingPhase;
+import org.example.realworldapi.infrastructure.transaction.TransactionRetryContext;
+import org.example.realworldapi.infrastructure.transaction.annotation.ReadOnly;
+import org.example.realworldapi.infrastructure.transaction.annotation.RetryTransaction;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.transaction.Transactional;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @ApplicationScoped
 public class ArticlesServiceImpl implements ArticlesService {
 
   private static final int DEFAULT_LIMIT = 20;
+  private static final int MAX_COMMENTS_LIMIT = 100;
+  private static final int SLUG_ALLOCATION_ATTEMPTS = 5;
+  private static final String SLUG_SUFFIX_SEPARATOR = "-";
   private UsersFollowersRepository usersFollowersRepository;
   private ArticlesUsersRepository articlesUsersRepository;
   private ArticlesTagsRepository articlesTagsRepository;
@@ -32,6 +60,11 @@ public class ArticlesServiceImpl implements ArticlesService {
   private ArticleRepository articleRepository;
   private ProfilesService profilesService;
   private SlugProvider slugProvider;
+  private CommentThreadCache commentThreadCache;
+  private DomainEventPublisher eventPublisher;
+  private ArticleSearchIndex searchIndex;
+  private ArticleTagIndex tagIndex;
+  private ArticleSummaryRepository articleSummaryRepository;
 
   public ArticlesServiceImpl(
       UsersFollowersRepository usersFollowersRepository,
@@ -42,7 +75,12 @@ public class ArticlesServiceImpl implements ArticlesService {
       ArticleRepository articleRepository,
       CommentRepository commentRepository,
       ProfilesService profilesService,
-      SlugProvider slugProvider) {
+      SlugProvider slugProvider,
+      CommentThreadCache commentThreadCache,
+      DomainEventPublisher eventPublisher,
+      ArticleSearchIndex searchIndex,
+      ArticleTagIndex tagIndex,
+      ArticleSummaryRepository articleSummaryRepository) {
     this.usersFollowersRepository = usersFollowersRepository;
     this.articlesUsersRepository = articlesUsersRepository;
     this.articlesTagsRepository = articlesTagsRepository;
@@ -52,49 +90,93 @@ public class ArticlesServiceImpl implements ArticlesService {
     this.commentRepository = commentRepository;
     this.profilesService = profilesService;
     this.slugProvider = slugProvider;
+    this.commentThreadCache = commentThreadCache;
+    this.eventPublisher = eventPublisher;
+    this.searchIndex = searchIndex;
+    this.tagIndex = tagIndex;
+    this.articleSummaryRepository = articleSummaryRepository;
   }
 
   @Override
   @Transactional
+  @ReadOnly
   public Articles findRecentArticles(Long loggedUserId, int offset, int limit) {
 
-    List<Article> articles =
-        usersFollowersRepository.findMostRecentArticles(loggedUserId, offset, getLimit(limit));
+    List<ArticleSummary> articles =
+        articleSummaryRepository.findFeed(loggedUserId, offset, getLimit(limit));
 
-    int articlesCount = usersFollowersRepository.count(loggedUserId);
+    int articlesCount = articleSummaryRepository.countFeed(loggedUserId);
 
     return new Articles(toResultList(articles, loggedUserId), articlesCount);
   }
 
   @Override
   @Transactional
+  @ReadOnly
   public Articles findArticles(
       int offset,
       int limit,
       Long loggedUserId,
       List<String> tags,
+      TagMode tagMode,
       List<String> authors,
       List<String> favorited) {
 
-    List<Article> articles =
-        articleRepository.findArticles(offset, getLimit(limit), tags, authors, favorited);
+    if (isPresent(tags) && !isPresent(authors) && !isPresent(favorited)) {
+      Optional<ArticleIdPage> page = tagIndex.find(tags, tagMode, offset, getLimit(limit));
+      if (page.isPresent()) {
+        List<ArticleSummary> articles = findArticlesByIds(page.get().getArticleIds());
+        return new Articles(toResultList(articles, loggedUserId), page.get().getTotal());
+      }
+    }
+
+    List<ArticleSummary> articles =
+        articleSummaryRepository.findArticles(
+            offset, getLimit(limit), tags, tagMode, authors, favorited);
 
-    int articlesCount = articleRepository.count(tags, authors, favorited);
+    int articlesCount = articleSummaryRepository.count(tags, tagMode, authors, favorited);
 
     return new Articles(toResultList(articles, loggedUserId), articlesCount);
   }
 
   @Override
   @Transactional
+  @ReadOnly
+  public ArticleSearchPage searchArticles(
+      String query, ArticleHit after, int limit, Long loggedUserId) {
+    int pageSize = getLimit(limit);
+    ArticleSearchResult result = searchIndex.search(query, after, pageSize + 1);
+    List<ArticleHit> hits = result.getHits();
+    ArticleHit next = null;
+    if (hits.size() > pageSize) {
+      hits = hits.subList(0, pageSize);
+      next = hits.get(pageSize - 1);
+    }
+    List<ArticleSummary> articles =
+        findArticlesByIds(hits.stream().map(ArticleHit::getArticleId).collect(Collectors.toList()));
+    int totalHits = result.getTotalHits() - (hits.size() - articles.size());
+    return new ArticleSearchPage(
+        new Articles(toResultList(articles, loggedUserId), totalHits), next);
+  }
+
+  @Override
+  @Transactional
+  @RetryTransaction(
+      retryOn = SlugAlreadyExistsException.class,
+      maxAttempts = SLUG_ALLOCATION_ATTEMPTS)
   public org.example.realworldapi.domain.model.entity.Article create(
       String title, String description, String body, List<String> tagList, Long authorId) {
     Article article = createArticle(title, description, body, authorId);
     createArticlesTags(article, tagList);
+    articleSummaryRepository.refresh(article.getId());
+    tagIndex.add(article.getId(), tagList);
+    eventPublisher.publish(new ArticleCreated(article.getId(), article.getSlug(), authorId));
     return getArticle(article, authorId);
   }
 
   @Override
   @Transactional
+  @ReadOnly
   public org.example.realworldapi.domain.model.entity.Article findBySlug(String slug) {
     Article article = articleRepository.findBySlug(slug).orElseThrow(ArticleNotFoundException::new);
     return getArticle(article, null);
@@ -102,6 +184,9 @@ public class ArticlesServiceImpl implements ArticlesService {
 
   @Override
   @Transactional
+  @RetryTransaction(
+      retryOn = SlugAlreadyExistsException.class,
+      maxAttempts = SLUG_ALLOCATION_ATTEMPTS)
   public org.example.realworldapi.domain.model.entity.Article update(
       String slug, String title, String description, String body, Long authorId) {
 
@@ -119,7 +204,13 @@ public class ArticlesServiceImpl implements ArticlesService {
       article.setBody(body);
     }
 
-    return getArticle(articleRepository.update(article), authorId);
+    Article updatedArticle = articleRepository.update(article);
+    articleSummaryRepository.refresh(updatedArticle.getId());
+    tagIndex.touch(updatedArticle.getId());
+    eventPublisher.publish(
+        new ArticleUpdated(
+            updatedArticle.getId(), updatedArticle.getSlug(), updatedArticle.getAuthor().getId()));
+    return getArticle(updatedArticle, authorId);
   }
 
   @Override
@@ -130,16 +221,43 @@ public class ArticlesServiceImpl implements ArticlesService {
             .findByIdAndSlug(authorId, slug)
             .orElseThrow(ArticleNotFoundException::new);
     articleRepository.delete(article);
+    articleSummaryRepository.delete(article.getId());
+    commentThreadCache.invalidate(article.getId());
+    tagIndex.remove(article.getId());
+    eventPublisher.publish(new ArticleDeleted(article.getId(), article.getSlug(), authorId));
   }
 
   @Override
   @Transactional
-  public List<org.example.realworldapi.domain.model.entity.Comment> findCommentsBySlug(
-      String slug, Long loggedUserId) {
+  @ReadOnly
+  public Long findArticleId(String slug) {
+    return articleRepository
+        .findBySlug(slug)
+        .map(Article::getId)
+        .orElseThrow(ArticleNotFoundException::new);
+  }
+
+  @Override
+  @Transactional
+  @ReadOnly
+  public Comments findCommentsBySlug(
+      String slug, Long loggedUserId, CommentCursor after, int limit) {
     Article article = articleRepository.findBySlug(slug).orElseThrow(ArticleNotFoundException::new);
-    List<Comment> comments = articleRepository.findComments(article.getId());
-    Profile author = profilesService.getProfile(article.getAuthor().getUsername(), loggedUserId);
-    return getComments(comments, author);
+    int pageSize = getCommentsLimit(limit);
+    Optional<List<CachedComment>> thread =
+        commentThreadCache.getThread(article.getId(), this::loadCommentThread);
+    if (thread.isPresent()) {
+      return getCachedComments(thread.get(), loggedUserId, after, pageSize);
+    }
+    List<Comment> comments = commentRepository.findComments(article.getId(), after, pageSize + 1);
+    boolean hasMore = comments.size() > pageSize;
+    if (hasMore) {
+      comments = comments.subList(0, pageSize);
+    }
+    Set<Long> authorIds =
+        comments.stream().map(comment -> comment.getAuthor().getId()).collect(Collectors.toSet());
+    Set<Long> followedUserIds = getFollowedUserIds(authorIds, loggedUserId);
+    return new Comments(getComments(comments, followedUserIds), hasMore);
   }
 
   @Override
@@ -149,8 +267,12 @@ public class ArticlesServiceImpl implements ArticlesService {
     Article article = articleRepository.findBySlug(slug).orElseThrow(ArticleNotFoundException::new);
     User author = userRepository.findById(commentAuthorId).orElseThrow(UserNotFoundException::new);
     Comment comment = createComment(body, article, author);
+    commentThreadCache.append(article.getId(), comment);
     Profile authorProfile = profilesService.getProfile(author.getUsername(), author.getId());
-    return getComment(comment, authorProfile);
+    org.example.realworldapi.domain.model.entity.Comment result =
+        getComment(comment, authorProfile);
+    eventPublisher.publish(new CommentAdded(article.getId(), author.getId(), result));
+    return result;
   }
 
   @Override
@@ -161,10 +283,13 @@ public class ArticlesServiceImpl implements ArticlesService {
             .findComment(slug, commentId, loggedUserId)
             .orElseThrow(CommentNotFoundException::new);
     commentRepository.delete(comment);
+    commentThreadCache.remove(comment.getArticle().getId(), comment.getId());
+    eventPublisher.publish(new CommentDeleted(comment.getArticle().getId(), comment.getId()));
   }
 
   @Override
   @Transactional
+  @Counted(name = "articles.favorites", absolute = true)
   public org.example.realworldapi.domain.model.entity.Article favoriteArticle(
       String slug, Long loggedUserId) {
 
@@ -178,6 +303,8 @@ public class ArticlesServiceImpl implements ArticlesService {
       ArticlesUsers articlesUsers = getArticlesUsers(article, loggedUser);
 
       articlesUsersRepository.create(articlesUsers);
+      articleSummaryRepository.updateFavoritesCount(article.getId(), 1);
+      eventPublisher.publish(new ArticleFavorited(article.getId(), loggedUserId));
     }
 
     return getArticle(article, loggedUserId);
@@ -185,6 +312,7 @@ public class ArticlesServiceImpl implements ArticlesService {
 
   @Override
   @Transactional
+  @Counted(name = "articles.unfavorites", absolute = true)
   public org.example.realworldapi.domain.model.entity.Article unfavoriteArticle(
       String slug, Long loggedUserId) {
 
@@ -201,11 +329,26 @@ public class ArticlesServiceImpl implements ArticlesService {
               .orElseThrow(FavoriteEntryNotFoundException::new);
 
       articlesUsersRepository.remove(articlesUsers);
+      articleSummaryRepository.updateFavoritesCount(article.getId(), -1);
+      eventPublisher.publish(new ArticleUnfavorited(article.getId(), loggedUserId));
     }
 
     return getArticle(article, loggedUserId);
   }
 
+  private List<ArticleSummary> findArticlesByIds(List<Long> articleIds) {
+    if (articleIds.isEmpty()) {
+      return Collections.emptyList();
+    }
+    Map<Long, ArticleSummary> articles =
+        articleSummaryRepository.findByIds(articleIds).stream()
+            .collect(Collectors.toMap(ArticleSummary::getArticleId, Function.identity()));
+    return articleIds.stream()
+        .map(articles::get)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toList());
+  }
+
   private ArticlesUsers getArticlesUsers(Article article, User loggedUser) {
     ArticlesUsersKey articlesUsersKey = getArticlesUsersKey(article, loggedUser);
     ArticlesUsers articlesUsers = new ArticlesUsers();
@@ -228,13 +371,95 @@ public class ArticlesServiceImpl implements ArticlesService {
     return commentRepository.create(comment);
   }
 
+  private List<CachedComment> loadCommentThread(Long articleId, int limit) {
+    return commentRepository.findComments(articleId, null, limit).stream()
+        .map(CachedComment::new)
+        .collect(Collectors.toList());
+  }
+
+  private Comments getCachedComments(
+      List<CachedComment> thread, Long loggedUserId, CommentCursor after, int pageSize) {
+    int from = after != null ? firstCommentAfter(thread, after) : 0;
+    int to = Math.min(thread.size(), from + pageSize);
+    List<CachedComment> page = thread.subList(from, to);
+    Map<Long, User> authors =
+        findCommentAuthors(
+            page.stream().map(CachedComment::getAuthorId).collect(Collectors.toSet()));
+    Set<Long> followedUserIds = getFollowedUserIds(authors.keySet(), loggedUserId);
+    List<org.example.realworldapi.domain.model.entity.Comment> comments =
+        page.stream()
+            .map(
+                comment ->
+                    getComment(
+                        comment,
+                        getCommentAuthor(authors.get(comment.getAuthorId()), followedUserIds)))
+            .collect(Collectors.toList());
+    return new Comments(comments, to < thread.size());
+  }
+
+  private int firstCommentAfter(List<CachedComment> thread, CommentCursor after) {
+    int low = 0;
+    int high = thread.size();
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (isAfter(thread.get(middle), after)) {
+        high = middle;
+      } else {
+        low = middle + 1;
+      }
+    }
+    return low;
+  }
+
+  private boolean isAfter(CachedComment comment, CommentCursor cursor) {
+    int createdAt = comment.getCreatedAt().compareTo(cursor.getCreatedAt());
+    return createdAt > 0 || (createdAt == 0 && comment.getId() > cursor.getId());
+  }
+
+  private Map<Long, User> findCommentAuthors(Set<Long> authorIds) {
+    if (authorIds.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    Map<Long, User> authors =
+        userRepository.findByIds(authorIds).stream()
+            .collect(Collectors.toMap(User::getId, Function.identity()));
+    if (authors.size() < authorIds.size()) {
+      throw new UserNotFoundException();
+    }
+    return authors;
+  }
+
+  private Set<Long> getFollowedUserIds(Set<Long> authorIds, Long loggedUserId) {
+    if (loggedUserId == null || authorIds.isEmpty()) {
+      return Collections.emptySet();
+    }
+    return new HashSet<>(usersFollowersRepository.findFollowedUserIds(loggedUserId, authorIds));
+  }
+
   private List<org.example.realworldapi.domain.model.entity.Comment> getComments(
-      List<Comment> comments, Profile profile) {
+      List<Comment> comments, Set<Long> followedUserIds) {
     return comments.stream()
-        .map(comment -> getComment(comment, profile))
+        .map(comment -> getComment(comment, getCommentAuthor(comment.getAuthor(), followedUserIds)))
         .collect(Collectors.toList());
   }
 
+  private Profile getCommentAuthor(User author, Set<Long> followedUserIds) {
+    return new ProfileBuilder()
+        .fromUser(author)
+        .following(followedUserIds.contains(author.getId()))
+        .build();
+  }
+
+  private org.example.realworldapi.domain.model.entity.Comment getComment(
+      CachedComment comment, Profile profile) {
+    return new org.example.realworldapi.domain.model.entity.Comment(
+        comment.getId(),
+        comment.getCreatedAt(),
+        comment.getUpdatedAt(),
+        comment.getBody(),
+        profile);
+  }
+
   private org.example.realworldapi.domain.model.entity.Comment getComment(
       Comment comment, Profile profile) {
     return new org.example.realworldapi.domain.model.entity.Comment(
@@ -261,11 +486,40 @@ public class ArticlesServiceImpl implements ArticlesService {
   }
 
   private void configSlug(String title, Article article) {
-    String slug = slugProvider.slugify(title);
-    if (articleRepository.existsBySlug(slug)) {
-      slug += UUID.randomUUID().toString();
+    String baseSlug = slugProvider.slugify(title);
+
+    if (isSlugOf(article.getSlug(), baseSlug)) {
+      return;
+    }
+
+    article.setSlug(TransactionRetryContext.isRetry() ? nextSlug(baseSlug) : baseSlug);
+  }
+
+  private String nextSlug(String baseSlug) {
+    int maxSuffix = 0;
+    for (String slug : articleRepository.findSlugs(baseSlug)) {
+      maxSuffix = Math.max(maxSuffix, slugSuffix(slug, baseSlug));
+    }
+    return maxSuffix == 0 ? baseSlug : baseSlug + SLUG_SUFFIX_SEPARATOR + (maxSuffix + 1);
+  }
+
+  private boolean isSlugOf(String slug, String baseSlug) {
+    return slug != null && slugSuffix(slug, baseSlug) > 0;
+  }
+
+  private int slugSuffix(String slug, String baseSlug) {
+    if (slug.equals(baseSlug)) {
+      return 1;
     }
-    article.setSlug(slug);
+    String prefix = baseSlug + SLUG_SUFFIX_SEPARATOR;
+    if (!slug.startsWith(prefix)) {
+      return 0;
+    }
+    String suffix = slug.substring(prefix.length());
+    if (suffix.isEmpty() || suffix.length() > 9 || !suffix.chars().allMatch(Character::isDigit)) {
+      return 0;
+    }
+    return Integer.parseInt(suffix);
   }
 
   private void createArticlesTags(Article article, List<String> tagList) {
@@ -290,13 +544,55 @@ public class ArticlesServiceImpl implements ArticlesService {
   }
 
   private List<org.example.realworldapi.domain.model.entity.Article> toResultList(
-      List<Article> articles, Long loggedUserId) {
+      List<ArticleSummary> articles, Long loggedUserId) {
+    Set<Long> favoritedArticleIds = getFavoritedArticleIds(articles, loggedUserId);
+    Set<Long> followedUserIds =
+        getFollowedUserIds(
+            articles.stream().map(ArticleSummary::getAuthorId).collect(Collectors.toSet()),
+            loggedUserId);
     return articles.stream()
-        .map(article -> getArticle(article, loggedUserId))
+        .map(
+            article ->
+                getArticle(
+                    article,
+                    favoritedArticleIds.contains(article.getArticleId()),
+                    followedUserIds.contains(article.getAuthorId())))
         .collect(Collectors.toList());
   }
 
+  private Set<Long> getFavoritedArticleIds(List<ArticleSummary> articles, Long loggedUserId) {
+    if (loggedUserId == null || articles.isEmpty()) {
+      return Collections.emptySet();
+    }
+    List<Long> articleIds =
+        articles.stream().map(ArticleSummary::getArticleId).collect(Collectors.toList());
+    return new HashSet<>(articlesUsersRepository.findFavoritedArticleIds(loggedUserId, articleIds));
+  }
+
   private org.example.realworldapi.domain.model.entity.Article getArticle(
+      ArticleSummary article, boolean favorited, boolean following) {
+    Profile author =
+        new ProfileBuilder()
+            .username(article.getAuthorUsername())
+            .bio(article.getAuthorBio())
+            .image(article.getAuthorImage())
+            .following(following)
+            .build();
+    return new org.example.realworldapi.domain.model.entity.Article(
+        article.getSlug(),
+        article.getTitle(),
+        article.getDescription(),
+        article.getBody(),
+        article.getTags(),
+        favorited,
+        article.getFavoritesCount(),
+        article.getCreatedAt(),
+        article.getUpdatedAt(),
+        author);
+  }
+
+  @ServerTimed(ServerTimingPhase.HYDRATION)
+  org.example.realworldapi.domain.model.entity.Article getArticle(
       Article article, Long loggedUserId) {
     boolean isFavorited = false;
 
@@ -329,7 +625,15 @@ public class ArticlesServiceImpl implements ArticlesService {
     return limit > 0 ? limit : DEFAULT_LIMIT;
   }
 
+  private int getCommentsLimit(int limit) {
+    return Math.min(getLimit(limit), MAX_COMMENTS_LIMIT);
+  }
+
   private boolean isPresent(String value) {
     return value != null && !value.isEmpty();
   }
+
+  private boolean isPresent(List<String> values) {
+    return values != null && !values.isEmpty();
+  }
 }
@@ -1,13 +1,20 @@
 package org.example.realworldapi.domain.application;
 
+import org.eclipse.microprofile.metrics.annotation.Counted;
 import org.example.realworldapi.domain.model.builder.ProfileBuilder;
 import org.example.realworldapi.domain.model.entity.Profile;
 import org.example.realworldapi.domain.model.entity.persistent.User;
 import org.example.realworldapi.domain.model.entity.persistent.UsersFollowers;
 import org.example.realworldapi.domain.model.entity.persistent.UsersFollowersKey;
+import org.example.realworldapi.domain.model.event.DomainEventPublisher;
+import org.example.realworldapi.domain.model.event.UserFollowed;
+import org.example.realworldapi.domain.model.event.UserUnfollowed;
 import org.example.realworldapi.domain.model.repository.UsersFollowersRepository;
 import org.example.realworldapi.domain.service.ProfilesService;
 import org.example.realworldapi.domain.service.UsersService;
+import org.example.realworldapi.infrastructure.metrics.annotation.ServerTimed;
+import org.example.realworldapi.infrastructure.metrics.timing.ServerTimingPhase;
+import org.example.realworldapi.infrastructure.transaction.annotation.ReadOnly;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.transaction.Transactional;
@@ -17,15 +24,21 @@ public class ProfilesServiceImpl implements ProfilesService {
 
   private UsersService usersService;
   private UsersFollowersRepository usersFollowersRepository;
+  private DomainEventPublisher eventPublisher;
 
   public ProfilesServiceImpl(
-      UsersService usersService, UsersFollowersRepository usersFollowersRepository) {
+      UsersService usersService,
+      UsersFollowersRepository usersFollowersRepository,
+      DomainEventPublisher eventPublisher) {
     this.usersService = usersService;
     this.usersFollowersRepository = usersFollowersRepository;
+    this.eventPublisher = eventPublisher;
   }
 
   @Override
   @Transactional
+  @ReadOnly
+  @ServerTimed(ServerTimingPhase.HYDRATION)
   public Profile getProfile(String username, Long loggedUserId) {
     User existentUser = usersService.findByUsername(username);
 
@@ -41,21 +54,25 @@ public class ProfilesServiceImpl implements ProfilesService {
 
   @Override
   @Transactional
+  @Counted(name = "profiles.follows", absolute = true)
   public Profile follow(Long loggedUserId, String username) {
     User loggedUser = usersService.findById(loggedUserId);
     User userToFollow = usersService.findByUsername(username);
     usersFollowersRepository.insertOrUpdate(getUsersFollowers(loggedUser, userToFollow));
+    eventPublisher.publish(new UserFollowed(loggedUser.getId(), userToFollow.getId()));
     return getProfile(username, loggedUserId);
   }
 
   @Override
   @Transactional
+  @Counted(name = "profiles.unfollows", absolute = true)
   public Profile unfollow(Long loggedUserId, String username) {
     User loggedUser = usersService.findById(loggedUserId);
     User userToUnfollow = usersService.findByUsername(username);
     UsersFollowers usersFollowers =
         usersFollowersRepository.findByKey(getUsersFollowersKey(loggedUser, userToUnfollow));
     usersFollowersRepository.delete(usersFollowers);
+    eventPublisher.publish(new UserUnfollowed(loggedUser.getId(), userToUnfollow.getId()));
     return getProfile(username, loggedUserId);
   }
 
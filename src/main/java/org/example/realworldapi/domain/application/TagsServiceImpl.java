@@ -3,6 +3,7 @@ package org.example.realworldapi.domain.application;
 import org.example.realworldapi.domain.model.entity.persistent.Tag;
 import org.example.realworldapi.domain.model.repository.TagRepository;
 import org.example.realworldapi.domain.service.TagsService;
+import org.example.realworldapi.infrastructure.transaction.annotation.ReadOnly;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.transaction.Transactional;
@@ -19,6 +20,7 @@ public class TagsServiceImpl implements TagsService {
 
   @Override
   @Transactional
+  @ReadOnly
   public List<Tag> findTags() {
     return tagRepository.findAll();
   }
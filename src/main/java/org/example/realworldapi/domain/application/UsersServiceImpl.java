@@ -1,14 +1,19 @@
 package org.example.realworldapi.domain.application;
 
+import org.eclipse.microprofile.metrics.annotation.Counted;
 import org.example.realworldapi.domain.model.entity.persistent.User;
+import org.example.realworldapi.domain.model.event.DomainEventPublisher;
+import org.example.realworldapi.domain.model.event.UserUpdated;
 import org.example.realworldapi.domain.model.exception.EmailAlreadyExistsException;
 import org.example.realworldapi.domain.model.exception.InvalidPasswordException;
 import org.example.realworldapi.domain.model.exception.UserNotFoundException;
 import org.example.realworldapi.domain.model.exception.UsernameAlreadyExistsException;
 import org.example.realworldapi.domain.model.provider.HashProvider;
 import org.example.realworldapi.domain.model.provider.TokenProvider;
+import org.example.realworldapi.domain.model.repository.ArticleSummaryRepository;
 import org.example.realworldapi.domain.model.repository.UserRepository;
 import org.example.realworldapi.domain.service.UsersService;
+import org.example.realworldapi.infrastructure.transaction.annotation.ReadOnly;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.transaction.Transactional;
@@ -20,16 +25,25 @@ public class UsersServiceImpl implements UsersService {
   private UserRepository userRepository;
   private TokenProvider tokenProvider;
   private HashProvider hashProvider;
+  private DomainEventPublisher eventPublisher;
+  private ArticleSummaryRepository articleSummaryRepository;
 
   public UsersServiceImpl(
-      UserRepository userRepository, TokenProvider tokenProvider, HashProvider hashProvider) {
+      UserRepository userRepository,
+      TokenProvider tokenProvider,
+      HashProvider hashProvider,
+      DomainEventPublisher eventPublisher,
+      ArticleSummaryRepository articleSummaryRepository) {
     this.userRepository = userRepository;
     this.tokenProvider = tokenProvider;
     this.hashProvider = hashProvider;
+    this.eventPublisher = eventPublisher;
+    this.articleSummaryRepository = articleSummaryRepository;
   }
 
   @Override
   @Transactional
+  @Counted(name = "users.registrations", absolute = true)
   public User create(String username, String email, String password) {
 
     checkExistingUsername(username);
@@ -47,7 +61,7 @@ public class UsersServiceImpl implements UsersService {
   }
 
   private String createToken(User user) {
-    return tokenProvider.createUserToken(user.getId().toString());
+    return tokenProvider.createUserToken(user.getId().toString(), user.isAdmin());
   }
 
   private void checkExistingUsername(String username) {
@@ -64,6 +78,7 @@ public class UsersServiceImpl implements UsersService {
 
   @Override
   @Transactional
+  @Counted(name = "users.logins", absolute = true)
   public User login(String email, String password) {
 
     Optional<User> userOptional = userRepository.findByEmail(email);
@@ -85,6 +100,7 @@ public class UsersServiceImpl implements UsersService {
 
   @Override
   @Transactional
+  @ReadOnly
   public User findById(Long id) {
     return userRepository.findById(id).orElseThrow(UserNotFoundException::new);
   }
@@ -114,6 +130,14 @@ public class UsersServiceImpl implements UsersService {
           if (isPresent(user.getImage())) {
             storedUser.setImage(user.getImage());
           }
+
+          articleSummaryRepository.updateAuthor(
+              storedUser.getId(),
+              storedUser.getUsername(),
+              storedUser.getBio(),
+              storedUser.getImage());
+
+          eventPublisher.publish(new UserUpdated(storedUser.getId(), storedUser.getUsername()));
         });
 
     return managedUserOptional.orElse(null);
@@ -121,6 +145,7 @@ public class UsersServiceImpl implements UsersService {
 
   @Override
   @Transactional
+  @ReadOnly
   public User findByUsername(String username) {
     return userRepository.findByUsername(username).orElseThrow(UserNotFoundException::new);
   }
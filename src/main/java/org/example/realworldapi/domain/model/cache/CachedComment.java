@@ -0,0 +1,24 @@
+package org.example.realworldapi.domain.model.cache;
+
+import lombok.Getter;
+import org.example.realworldapi.domain.model.entity.persistent.Comment;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class CachedComment {
+
+  private final Long id;
+  private final LocalDateTime createdAt;
+  private final LocalDateTime updatedAt;
+  private final String body;
+  private final Long authorId;
+
+  public CachedComment(Comment comment) {
+    this.id = comment.getId();
+    this.createdAt = comment.getCreatedAt();
+    this.updatedAt = comment.getUpdatedAt();
+    this.body = comment.getBody();
+    this.authorId = comment.getAuthor().getId();
+  }
+}
@@ -0,0 +1,21 @@
+package org.example.realworldapi.domain.model.cache;
+
+import org.example.realworldapi.domain.model.entity.persistent.Comment;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+
+public interface CommentThreadCache {
+
+  Optional<List<CachedComment>> getThread(
+      Long articleId, BiFunction<Long, Integer, List<CachedComment>> loader);
+
+  void append(Long articleId, Comment comment);
+
+  void remove(Long articleId, Long commentId);
+
+  void invalidate(Long articleId);
+
+  void invalidateAll();
+}
@@ -0,0 +1,16 @@
+package org.example.realworldapi.domain.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.example.realworldapi.domain.model.search.ArticleHit;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleSearchPage {
+  private Articles articles;
+  private ArticleHit next;
+}
@@ -0,0 +1,13 @@
+package org.example.realworldapi.domain.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class CommentCursor {
+  private LocalDateTime createdAt;
+  private Long id;
+}
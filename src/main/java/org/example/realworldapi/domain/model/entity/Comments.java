@@ -0,0 +1,17 @@
+package org.example.realworldapi.domain.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class Comments {
+  private List<Comment> comments;
+  private boolean hasMore;
+}
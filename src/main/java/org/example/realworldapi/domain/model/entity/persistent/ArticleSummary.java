@@ -0,0 +1,77 @@
+package org.example.realworldapi.domain.model.entity.persistent;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Type;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(
+    name = "ARTICLE_SUMMARY",
+    indexes = {
+      @Index(name = "IDX_ARTICLE_SUMMARY_UPDATED", columnList = "updatedAt"),
+      @Index(name = "IDX_ARTICLE_SUMMARY_AUTHOR_UPDATED", columnList = "author_id, updatedAt")
+    })
+public class ArticleSummary {
+
+  private static final String TAG_SEPARATOR = "\u001F";
+
+  @Id
+  @Column(name = "article_id")
+  private Long articleId;
+
+  private String slug;
+  private String title;
+  private String description;
+  private String body;
+
+  @Type(type = "text")
+  private String tagList;
+
+  private int favoritesCount;
+  private LocalDateTime createdAt;
+  private LocalDateTime updatedAt;
+
+  @Column(name = "author_id")
+  private Long authorId;
+
+  private String authorUsername;
+  private String authorBio;
+  private String authorImage;
+
+  public List<String> getTags() {
+    if (tagList == null || tagList.isEmpty()) {
+      return Collections.emptyList();
+    }
+    return Arrays.asList(tagList.split(TAG_SEPARATOR));
+  }
+
+  public void setTags(List<String> tags) {
+    this.tagList = String.join(TAG_SEPARATOR, tags);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+
+    if (o == null || getClass() != o.getClass()) return false;
+
+    ArticleSummary that = (ArticleSummary) o;
+    return Objects.equals(articleId, that.articleId);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(articleId);
+  }
+}
@@ -11,7 +11,9 @@ import java.util.Objects;
 @Setter
 @NoArgsConstructor
 @Entity
-@Table(name = "ARTICLES_TAGS")
+@Table(
+    name = "ARTICLES_TAGS",
+    indexes = @Index(name = "IDX_ARTICLES_TAGS_TAG", columnList = "tag_id, article_id"))
 public class ArticlesTags {
   @EmbeddedId private ArticlesTagsKey primaryKey;
 
@@ -9,7 +9,9 @@ import java.util.Objects;
 @Getter
 @Setter
 @Entity
-@Table(name = "ARTICLES_USERS")
+@Table(
+    name = "ARTICLES_USERS",
+    indexes = @Index(name = "IDX_ARTICLES_USERS_USER", columnList = "user_id, article_id"))
 public class ArticlesUsers {
 
   @EmbeddedId private ArticlesUsersKey primaryKey;
@@ -11,7 +11,10 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @Entity
-@Table(name = "COMMENTS")
+@Table(
+    name = "COMMENTS",
+    indexes =
+        @Index(name = "IDX_COMMENTS_ARTICLE_CREATED", columnList = "article_id, createdAt, id"))
 public class Comment {
 
   @Id
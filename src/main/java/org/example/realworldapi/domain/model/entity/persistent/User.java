@@ -3,6 +3,8 @@ package org.example.realworldapi.domain.model.entity.persistent;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import java.util.List;
@@ -11,6 +13,8 @@ import java.util.List;
 @Setter
 @NoArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "USERS")
 public class User {
 
@@ -23,6 +27,7 @@ public class User {
   private String image;
   private String password;
   private String email;
+  private boolean admin;
 
   @Column(length = 500)
   private String token;
@@ -0,0 +1,12 @@
+package org.example.realworldapi.domain.model.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ArticleDeleted extends DomainEvent {
+  private final Long articleId;
+  private final String slug;
+  private final Long authorId;
+}
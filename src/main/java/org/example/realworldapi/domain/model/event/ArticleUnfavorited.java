@@ -0,0 +1,11 @@
+package org.example.realworldapi.domain.model.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ArticleUnfavorited extends DomainEvent {
+  private final Long articleId;
+  private final Long userId;
+}
@@ -0,0 +1,13 @@
+package org.example.realworldapi.domain.model.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.example.realworldapi.domain.model.entity.Comment;
+
+@Getter
+@AllArgsConstructor
+public class CommentAdded extends DomainEvent {
+  private final Long articleId;
+  private final Long authorId;
+  private final Comment comment;
+}
@@ -0,0 +1,11 @@
+package org.example.realworldapi.domain.model.event;
+
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+public abstract class DomainEvent {
+
+  private final Instant occurredAt = Instant.now();
+}
@@ -0,0 +1,12 @@
+package org.example.realworldapi.domain.model.event;
+
+import java.util.List;
+
+public interface DomainEventConsumer {
+
+  String getName();
+
+  boolean accepts(DomainEvent event);
+
+  void consume(List<DomainEvent> events);
+}
@@ -0,0 +1,6 @@
+package org.example.realworldapi.domain.model.event;
+
+public interface DomainEventPublisher {
+
+  void publish(DomainEvent event);
+}
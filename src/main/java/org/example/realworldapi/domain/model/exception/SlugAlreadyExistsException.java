@@ -0,0 +1,9 @@
+package org.example.realworldapi.domain.model.exception;
+
+public class SlugAlreadyExistsException extends BusinessException {
+
+    public SlugAlreadyExistsException(){
+        super("slug already exists");
+    }
+
+}
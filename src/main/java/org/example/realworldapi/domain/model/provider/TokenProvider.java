@@ -5,7 +5,7 @@ import org.example.realworldapi.infrastructure.web.security.profile.Role;
 
 public interface TokenProvider {
 
-  String createUserToken(String subject);
+  String createUserToken(String subject, boolean admin);
 
   DecodedJWT verify(String token);
 
@@ -1,18 +1,15 @@
 package org.example.realworldapi.domain.model.repository;
 
 import org.example.realworldapi.domain.model.entity.persistent.Article;
-import org.example.realworldapi.domain.model.entity.persistent.Comment;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface ArticleRepository {
-  List<Article> findArticles(
-      int offset, int limit, List<String> tags, List<String> authors, List<String> favorited);
-
   Article create(Article article);
 
-  boolean existsBySlug(String slug);
+  List<String> findSlugs(String baseSlug);
 
   Optional<Article> findBySlug(String slug);
 
@@ -22,7 +19,7 @@ public interface ArticleRepository {
 
   Optional<Article> findByIdAndSlug(Long authorId, String slug);
 
-  List<Comment> findComments(Long articleId);
+  List<Article> findByIds(Collection<Long> ids);
 
-  int count(List<String> tags, List<String> authors, List<String> favorited);
+  List<Article> findAfterId(Long afterId, int limit);
 }
@@ -0,0 +1,35 @@
+package org.example.realworldapi.domain.model.repository;
+
+import org.example.realworldapi.domain.model.entity.persistent.ArticleSummary;
+import org.example.realworldapi.domain.model.search.TagMode;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ArticleSummaryRepository {
+  List<ArticleSummary> findArticles(
+      int offset,
+      int limit,
+      List<String> tags,
+      TagMode tagMode,
+      List<String> authors,
+      List<String> favorited);
+
+  int count(List<String> tags, TagMode tagMode, List<String> authors, List<String> favorited);
+
+  List<ArticleSummary> findFeed(Long loggedUserId, int offset, int limit);
+
+  int countFeed(Long loggedUserId);
+
+  List<ArticleSummary> findByIds(Collection<Long> articleIds);
+
+  List<Long> findMissingArticleIds(int limit);
+
+  void refresh(Long articleId);
+
+  void updateFavoritesCount(Long articleId, int delta);
+
+  void updateAuthor(Long authorId, String username, String bio, String image);
+
+  void delete(Long articleId);
+}
@@ -2,11 +2,17 @@ package org.example.realworldapi.domain.model.repository;
 
 import org.example.realworldapi.domain.model.entity.persistent.ArticlesTags;
 import org.example.realworldapi.domain.model.entity.persistent.Tag;
+import org.example.realworldapi.domain.model.search.TagPosting;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ArticlesTagsRepository {
   List<Tag> findTags(Long articleId);
 
   ArticlesTags create(ArticlesTags articlesTags);
+
+  List<TagPosting> findTagPostings();
+
+  List<TagPosting> findTagPostings(Collection<Long> articleIds);
 }
@@ -3,6 +3,8 @@ package org.example.realworldapi.domain.model.repository;
 import org.example.realworldapi.domain.model.entity.persistent.ArticlesUsers;
 import org.example.realworldapi.domain.model.entity.persistent.ArticlesUsersKey;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ArticlesUsersRepository {
@@ -10,6 +12,8 @@ public interface ArticlesUsersRepository {
 
   int favoritesCount(Long articleId);
 
+  List<Long> findFavoritedArticleIds(Long currentUserId, Collection<Long> articleIds);
+
   ArticlesUsers create(ArticlesUsers articlesUsers);
 
   Optional<ArticlesUsers> findById(ArticlesUsersKey articlesUsersKey);
@@ -1,7 +1,9 @@
 package org.example.realworldapi.domain.model.repository;
 
+import org.example.realworldapi.domain.model.entity.CommentCursor;
 import org.example.realworldapi.domain.model.entity.persistent.Comment;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface CommentRepository {
@@ -10,4 +12,6 @@ public interface CommentRepository {
   Optional<Comment> findComment(String slug, Long commentId, Long authorId);
 
   void delete(Comment comment);
+
+  List<Comment> findComments(Long articleId, CommentCursor after, int limit);
 }
@@ -2,6 +2,8 @@ package org.example.realworldapi.domain.model.repository;
 
 import org.example.realworldapi.domain.model.entity.persistent.User;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository {
@@ -13,6 +15,8 @@ public interface UserRepository {
 
   Optional<User> findById(Long id);
 
+  List<User> findByIds(Collection<Long> ids);
+
   User update(User user);
 
   boolean existsUsername(Long excludeId, String username);
@@ -0,0 +1,13 @@
+package org.example.realworldapi.domain.model.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ArticleIdPage {
+  private final List<Long> articleIds;
+  private final int total;
+}
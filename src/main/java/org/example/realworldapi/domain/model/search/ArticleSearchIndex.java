@@ -0,0 +1,14 @@
+package org.example.realworldapi.domain.model.search;
+
+import java.util.List;
+
+public interface ArticleSearchIndex {
+
+  ArticleSearchResult search(String query, ArticleHit after, int limit);
+
+  void index(Long articleId, String title, String description, String body, List<String> tags);
+
+  void remove(Long articleId);
+
+  void clear();
+}
@@ -0,0 +1,13 @@
+package org.example.realworldapi.domain.model.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ArticleSearchResult {
+  private final List<ArticleHit> hits;
+  private final int totalHits;
+}
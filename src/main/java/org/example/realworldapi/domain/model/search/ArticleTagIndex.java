@@ -0,0 +1,17 @@
+package org.example.realworldapi.domain.model.search;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ArticleTagIndex {
+
+  Optional<ArticleIdPage> find(List<String> tags, TagMode mode, int offset, int limit);
+
+  void add(Long articleId, List<String> tags);
+
+  void touch(Long articleId);
+
+  void remove(Long articleId);
+
+  void invalidateAll();
+}
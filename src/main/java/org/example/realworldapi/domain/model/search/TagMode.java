@@ -0,0 +1,6 @@
+package org.example.realworldapi.domain.model.search;
+
+public enum TagMode {
+  ANY,
+  ALL
+}
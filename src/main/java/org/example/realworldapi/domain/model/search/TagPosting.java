@@ -0,0 +1,11 @@
+package org.example.realworldapi.domain.model.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TagPosting {
+  private final Long articleId;
+  private final String tagName;
+}
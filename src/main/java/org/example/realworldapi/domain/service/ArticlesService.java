@@ -1,8 +1,13 @@
 package org.example.realworldapi.domain.service;
 
 import org.example.realworldapi.domain.model.entity.Article;
+import org.example.realworldapi.domain.model.entity.ArticleSearchPage;
 import org.example.realworldapi.domain.model.entity.Articles;
 import org.example.realworldapi.domain.model.entity.Comment;
+import org.example.realworldapi.domain.model.entity.CommentCursor;
+import org.example.realworldapi.domain.model.entity.Comments;
+import org.example.realworldapi.domain.model.search.ArticleHit;
+import org.example.realworldapi.domain.model.search.TagMode;
 
 import java.util.List;
 
@@ -14,9 +19,12 @@ public interface ArticlesService {
       int limit,
       Long loggedUserId,
       List<String> tags,
+      TagMode tagMode,
       List<String> authors,
       List<String> favorited);
 
+  ArticleSearchPage searchArticles(String query, ArticleHit after, int limit, Long loggedUserId);
+
   Article create(
       String title, String description, String body, List<String> tagList, Long authorId);
 
@@ -26,7 +34,9 @@ public interface ArticlesService {
 
   void delete(String slug, Long authorId);
 
-  List<Comment> findCommentsBySlug(String slug, Long loggedUserId);
+  Long findArticleId(String slug);
+
+  Comments findCommentsBySlug(String slug, Long loggedUserId, CommentCursor after, int limit);
 
   Comment createComment(String slug, String body, Long commentAuthorId);
 
@@ -0,0 +1,59 @@
+package org.example.realworldapi.infrastructure.bulkhead;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BulkheadPartition {
+
+  private final TrafficClass trafficClass;
+  private final int maxConcurrent;
+  private final int maxQueued;
+  private final long queueTimeoutNanos;
+  private final Semaphore permits;
+  private final AtomicInteger queued = new AtomicInteger();
+
+  public BulkheadPartition(
+      TrafficClass trafficClass, int maxConcurrent, int maxQueued, long queueTimeoutNanos) {
+    this.trafficClass = trafficClass;
+    this.maxConcurrent = maxConcurrent;
+    this.maxQueued = maxQueued;
+    this.queueTimeoutNanos = queueTimeoutNanos;
+    this.permits = new Semaphore(maxConcurrent, true);
+  }
+
+  public boolean tryAcquire() throws InterruptedException {
+    if (permits.tryAcquire()) {
+      return true;
+    }
+    if (queued.incrementAndGet() > maxQueued) {
+      queued.decrementAndGet();
+      return false;
+    }
+    try {
+      return permits.tryAcquire(queueTimeoutNanos, TimeUnit.NANOSECONDS);
+    } finally {
+      queued.decrementAndGet();
+    }
+  }
+
+  public void release() {
+    permits.release();
+  }
+
+  public TrafficClass getTrafficClass() {
+    return trafficClass;
+  }
+
+  public int getMaxConcurrent() {
+    return maxConcurrent;
+  }
+
+  public int getActive() {
+    return maxConcurrent - permits.availablePermits();
+  }
+
+  public int getQueued() {
+    return queued.get();
+  }
+}
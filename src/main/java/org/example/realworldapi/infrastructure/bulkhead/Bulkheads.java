@@ -0,0 +1,125 @@
+package org.example.realworldapi.infrastructure.bulkhead;
+
+import io.quarkus.runtime.StartupEvent;
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.Tag;
+import org.jboss.logging.Logger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@ApplicationScoped
+public class Bulkheads {
+
+  private static final Logger LOGGER = Logger.getLogger(Bulkheads.class);
+
+  private static final String PREFIX = "bulkhead.";
+  private static final int DEFAULT_POOL_SIZE = 20;
+
+  private final Map<TrafficClass, BulkheadPartition> partitions =
+      new EnumMap<>(TrafficClass.class);
+  private final Map<TrafficClass, Counter> rejections = new EnumMap<>(TrafficClass.class);
+  private boolean enabled;
+  private long queueTimeoutMillis;
+  private Optional<Integer> poolSize;
+  private MetricRegistry metricRegistry;
+
+  public Bulkheads(
+      Config config,
+      @ConfigProperty(name = "bulkhead.enabled", defaultValue = "true") boolean enabled,
+      @ConfigProperty(name = "bulkhead.queue-timeout.millis", defaultValue = "500")
+          long queueTimeoutMillis,
+      @ConfigProperty(name = "quarkus.datasource.max-size") Optional<Integer> poolSize,
+      MetricRegistry metricRegistry) {
+    this.enabled = enabled;
+    this.queueTimeoutMillis = queueTimeoutMillis;
+    this.poolSize = poolSize;
+    this.metricRegistry = metricRegistry;
+    for (TrafficClass trafficClass : TrafficClass.values()) {
+      String name = PREFIX + trafficClass.getName();
+      partitions.put(
+          trafficClass,
+          new BulkheadPartition(
+              trafficClass,
+              config
+                  .getOptionalValue(name + ".max-concurrent", Integer.class)
+                  .orElse(trafficClass.getDefaultMaxConcurrent()),
+              config
+                  .getOptionalValue(name + ".max-queued", Integer.class)
+                  .orElse(trafficClass.getDefaultMaxQueued()),
+              TimeUnit.MILLISECONDS.toNanos(queueTimeoutMillis)));
+    }
+  }
+
+  void onStart(@Observes StartupEvent startupEvent) {
+    if (!enabled) {
+      return;
+    }
+    int connections = 0;
+    for (BulkheadPartition partition : partitions.values()) {
+      Tag tag = new Tag("class", partition.getTrafficClass().getName());
+      metricRegistry.register(
+          metadata("active", "Requests running in the bulkhead", MetricType.GAUGE),
+          (Gauge<Integer>) partition::getActive,
+          tag);
+      metricRegistry.register(
+          metadata("queued", "Requests waiting for a bulkhead slot", MetricType.GAUGE),
+          (Gauge<Integer>) partition::getQueued,
+          tag);
+      rejections.put(
+          partition.getTrafficClass(),
+          metricRegistry.counter(
+              metadata("rejected", "Requests rejected by a full bulkhead", MetricType.COUNTER),
+              tag));
+      connections += partition.getMaxConcurrent();
+    }
+    if (connections > poolSize.orElse(DEFAULT_POOL_SIZE)) {
+      LOGGER.warnf(
+          "Bulkheads admit %d concurrent requests but the connection pool holds %d, "
+              + "traffic classes will share connections",
+          connections,
+          poolSize.orElse(DEFAULT_POOL_SIZE));
+    }
+  }
+
+  public boolean tryAcquire(TrafficClass trafficClass) throws InterruptedException {
+    if (!enabled || partitions.get(trafficClass).tryAcquire()) {
+      return true;
+    }
+    Counter rejected = rejections.get(trafficClass);
+    if (rejected != null) {
+      rejected.inc();
+    }
+    return false;
+  }
+
+  public void release(TrafficClass trafficClass) {
+    if (enabled) {
+      partitions.get(trafficClass).release();
+    }
+  }
+
+  public long getRetryAfterSeconds() {
+    return Math.max(1, TimeUnit.MILLISECONDS.toSeconds(queueTimeoutMillis));
+  }
+
+  private Metadata metadata(String name, String description, MetricType type) {
+    return Metadata.builder()
+        .withName(PREFIX + name)
+        .withType(type)
+        .withUnit(MetricUnits.NONE)
+        .withDescription(description)
+        .build();
+  }
+}
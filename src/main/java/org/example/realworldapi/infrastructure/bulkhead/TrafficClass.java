@@ -0,0 +1,30 @@
+package org.example.realworldapi.infrastructure.bulkhead;
+
+public enum TrafficClass {
+  ANONYMOUS_READ("anonymous-read", 8, 50),
+  AUTHENTICATED_READ("authenticated-read", 6, 50),
+  WRITE("write", 4, 20),
+  AUTH("auth", 2, 10);
+
+  private final String name;
+  private final int defaultMaxConcurrent;
+  private final int defaultMaxQueued;
+
+  TrafficClass(String name, int defaultMaxConcurrent, int defaultMaxQueued) {
+    this.name = name;
+    this.defaultMaxConcurrent = defaultMaxConcurrent;
+    this.defaultMaxQueued = defaultMaxQueued;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public int getDefaultMaxConcurrent() {
+    return defaultMaxConcurrent;
+  }
+
+  public int getDefaultMaxQueued() {
+    return defaultMaxQueued;
+  }
+}
@@ -0,0 +1,18 @@
+package org.example.realworldapi.infrastructure.bulkhead.annotation;
+
+import org.example.realworldapi.infrastructure.bulkhead.TrafficClass;
+
+import javax.enterprise.util.Nonbinding;
+import javax.interceptor.InterceptorBinding;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@InterceptorBinding
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface Bulkhead {
+  @Nonbinding
+  TrafficClass[] value() default {};
+}
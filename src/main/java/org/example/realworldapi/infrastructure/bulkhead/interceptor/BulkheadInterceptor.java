@@ -0,0 +1,55 @@
+package org.example.realworldapi.infrastructure.bulkhead.interceptor;
+
+import org.example.realworldapi.infrastructure.bulkhead.Bulkheads;
+import org.example.realworldapi.infrastructure.bulkhead.TrafficClass;
+import org.example.realworldapi.infrastructure.bulkhead.annotation.Bulkhead;
+import org.example.realworldapi.infrastructure.web.exception.ServiceUnavailableException;
+import org.example.realworldapi.infrastructure.web.security.context.AuthenticatedPrincipal;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+import javax.ws.rs.GET;
+import java.lang.reflect.Method;
+
+@Bulkhead
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_BEFORE)
+public class BulkheadInterceptor {
+
+  @Inject Bulkheads bulkheads;
+
+  @Inject AuthenticatedPrincipal authenticatedPrincipal;
+
+  @AroundInvoke
+  public Object bulkhead(InvocationContext invocationContext) throws Exception {
+    TrafficClass trafficClass = classify(invocationContext);
+    if (!bulkheads.tryAcquire(trafficClass)) {
+      throw new ServiceUnavailableException(bulkheads.getRetryAfterSeconds());
+    }
+    try {
+      return invocationContext.proceed();
+    } finally {
+      bulkheads.release(trafficClass);
+    }
+  }
+
+  private TrafficClass classify(InvocationContext invocationContext) {
+    Method method = invocationContext.getMethod();
+    Bulkhead bulkhead = method.getAnnotation(Bulkhead.class);
+    if (bulkhead == null) {
+      bulkhead = method.getDeclaringClass().getAnnotation(Bulkhead.class);
+    }
+    if (bulkhead != null && bulkhead.value().length > 0) {
+      return bulkhead.value()[0];
+    }
+    if (!method.isAnnotationPresent(GET.class)) {
+      return TrafficClass.WRITE;
+    }
+    return authenticatedPrincipal.isAuthenticated()
+        ? TrafficClass.AUTHENTICATED_READ
+        : TrafficClass.ANONYMOUS_READ;
+  }
+}
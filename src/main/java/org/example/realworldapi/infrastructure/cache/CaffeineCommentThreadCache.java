@@ -0,0 +1,168 @@
+package org.example.realworldapi.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.quarkus.runtime.StartupEvent;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.example.realworldapi.domain.model.cache.CachedComment;
+import org.example.realworldapi.domain.model.cache.CommentThreadCache;
+import org.example.realworldapi.domain.model.entity.persistent.Comment;
+import org.example.realworldapi.infrastructure.jdbc.ReplicaRouting;
+import org.example.realworldapi.infrastructure.transaction.TransactionCallbacks;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+@ApplicationScoped
+public class CaffeineCommentThreadCache implements CommentThreadCache {
+
+  private static final String METRICS_PREFIX = "comments.cache.";
+  private static final List<CachedComment> OVERSIZED =
+      Collections.unmodifiableList(new ArrayList<>());
+  private static final Comparator<CachedComment> THREAD_ORDER =
+      Comparator.comparing(CachedComment::getCreatedAt).thenComparing(CachedComment::getId);
+
+  private TransactionCallbacks transactionCallbacks;
+  private MetricRegistry metricRegistry;
+  private boolean enabled;
+  private int maxThreadSize;
+  private Cache<Long, List<CachedComment>> threads;
+
+  public CaffeineCommentThreadCache(
+      TransactionCallbacks transactionCallbacks,
+      MetricRegistry metricRegistry,
+      @ConfigProperty(name = "comments.cache.enabled", defaultValue = "true") boolean enabled,
+      @ConfigProperty(name = "comments.cache.max-thread-size", defaultValue = "200")
+          int maxThreadSize,
+      @ConfigProperty(name = "comments.cache.max-comments", defaultValue = "20000")
+          long maxComments) {
+    this.transactionCallbacks = transactionCallbacks;
+    this.metricRegistry = metricRegistry;
+    this.enabled = enabled;
+    this.maxThreadSize = maxThreadSize;
+    this.threads =
+        Caffeine.newBuilder()
+            .maximumWeight(maxComments)
+            .weigher((Long articleId, List<CachedComment> thread) -> Math.max(1, thread.size()))
+            .recordStats()
+            .build();
+  }
+
+  void onStart(@Observes StartupEvent startupEvent) {
+    if (!enabled) {
+      return;
+    }
+    register("hits", "Comment thread cache hits", () -> threads.stats().hitCount());
+    register("misses", "Comment thread cache misses", () -> threads.stats().missCount());
+    register(
+        "evictions", "Comment thread cache evictions", () -> threads.stats().evictionCount());
+    register("threads", "Comment threads in memory", () -> threads.estimatedSize());
+  }
+
+  @Override
+  public Optional<List<CachedComment>> getThread(
+      Long articleId, BiFunction<Long, Integer, List<CachedComment>> loader) {
+    if (!enabled) {
+      return Optional.empty();
+    }
+    List<CachedComment> thread = threads.get(articleId, id -> load(id, loader));
+    return thread != OVERSIZED ? Optional.of(thread) : Optional.empty();
+  }
+
+  @Override
+  public void append(Long articleId, Comment comment) {
+    afterCommit(
+        () ->
+            threads
+                .asMap()
+                .computeIfPresent(
+                    articleId, (id, thread) -> append(thread, new CachedComment(comment))));
+  }
+
+  @Override
+  public void remove(Long articleId, Long commentId) {
+    afterCommit(
+        () ->
+            threads.asMap().computeIfPresent(articleId, (id, thread) -> remove(thread, commentId)));
+  }
+
+  @Override
+  public void invalidate(Long articleId) {
+    afterCommit(() -> threads.invalidate(articleId));
+  }
+
+  @Override
+  public void invalidateAll() {
+    threads.invalidateAll();
+  }
+
+  private List<CachedComment> load(
+      Long articleId, BiFunction<Long, Integer, List<CachedComment>> loader) {
+    List<CachedComment> thread =
+        ReplicaRouting.onPrimary(() -> loader.apply(articleId, maxThreadSize + 1));
+    if (thread.size() > maxThreadSize) {
+      return OVERSIZED;
+    }
+    return Collections.unmodifiableList(new ArrayList<>(thread));
+  }
+
+  private List<CachedComment> append(List<CachedComment> thread, CachedComment comment) {
+    if (thread == OVERSIZED || contains(thread, comment.getId())) {
+      return thread;
+    }
+    if (thread.size() >= maxThreadSize) {
+      return OVERSIZED;
+    }
+    List<CachedComment> result = new ArrayList<>(thread.size() + 1);
+    result.addAll(thread);
+    int index = result.size();
+    while (index > 0 && THREAD_ORDER.compare(result.get(index - 1), comment) > 0) {
+      index--;
+    }
+    result.add(index, comment);
+    return Collections.unmodifiableList(result);
+  }
+
+  private List<CachedComment> remove(List<CachedComment> thread, Long commentId) {
+    if (thread == OVERSIZED || !contains(thread, commentId)) {
+      return thread;
+    }
+    return Collections.unmodifiableList(
+        thread.stream()
+            .filter(comment -> !comment.getId().equals(commentId))
+            .collect(Collectors.toList()));
+  }
+
+  private boolean contains(List<CachedComment> thread, Long commentId) {
+    return thread.stream().anyMatch(comment -> comment.getId().equals(commentId));
+  }
+
+  private void afterCommit(Runnable action) {
+    if (enabled) {
+      transactionCallbacks.afterCommit(action);
+    }
+  }
+
+  private void register(String name, String description, Gauge<Long> gauge) {
+    Metadata metadata =
+        Metadata.builder()
+            .withName(METRICS_PREFIX + name)
+            .withType(MetricType.GAUGE)
+            .withUnit(MetricUnits.NONE)
+            .withDescription(description)
+            .build();
+    metricRegistry.register(metadata, gauge);
+  }
+}
@@ -0,0 +1,105 @@
+package org.example.realworldapi.infrastructure.concurrency;
+
+import io.quarkus.runtime.StartupEvent;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.Tag;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@ApplicationScoped
+public class ConcurrencyLimiter {
+
+  private static final String PREFIX = "concurrency-limit.";
+
+  private final Map<RequestPriority, Counter> rejections = new EnumMap<>(RequestPriority.class);
+  private boolean enabled;
+  private long queueTimeoutNanos;
+  private int deepOffset;
+  private GradientConcurrencyLimit limit;
+  private MetricRegistry metricRegistry;
+
+  public ConcurrencyLimiter(
+      @ConfigProperty(name = "concurrency-limit.enabled", defaultValue = "true") boolean enabled,
+      @ConfigProperty(name = "concurrency-limit.initial", defaultValue = "20") int initialLimit,
+      @ConfigProperty(name = "concurrency-limit.min", defaultValue = "4") int minLimit,
+      @ConfigProperty(name = "concurrency-limit.max", defaultValue = "200") int maxLimit,
+      @ConfigProperty(name = "concurrency-limit.max-queued", defaultValue = "50") int maxQueued,
+      @ConfigProperty(name = "concurrency-limit.queue-timeout.millis", defaultValue = "100")
+          long queueTimeoutMillis,
+      @ConfigProperty(name = "concurrency-limit.deep-offset", defaultValue = "1000") int deepOffset,
+      MetricRegistry metricRegistry) {
+    this.enabled = enabled;
+    this.queueTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(queueTimeoutMillis);
+    this.deepOffset = deepOffset;
+    this.limit = new GradientConcurrencyLimit(initialLimit, minLimit, maxLimit, maxQueued);
+    this.metricRegistry = metricRegistry;
+  }
+
+  void onStart(@Observes StartupEvent startupEvent) {
+    if (!enabled) {
+      return;
+    }
+    metricRegistry.register(
+        metadata("limit", "Current adaptive concurrency limit", MetricType.GAUGE),
+        (Gauge<Integer>) limit::getLimit);
+    metricRegistry.register(
+        metadata("in-flight", "Requests running under the concurrency limit", MetricType.GAUGE),
+        (Gauge<Integer>) limit::getInFlight);
+    metricRegistry.register(
+        metadata("queued", "Requests waiting for the concurrency limit", MetricType.GAUGE),
+        (Gauge<Integer>) limit::getQueued);
+    for (RequestPriority priority : RequestPriority.values()) {
+      rejections.put(
+          priority,
+          metricRegistry.counter(
+              metadata("rejected", "Requests shed by the concurrency limit", MetricType.COUNTER),
+              new Tag("priority", priority.name().toLowerCase())));
+    }
+  }
+
+  public boolean tryAcquire(RequestPriority priority) throws InterruptedException {
+    if (!enabled || limit.tryAcquire(priority, queueTimeoutNanos)) {
+      return true;
+    }
+    Counter rejected = rejections.get(priority);
+    if (rejected != null) {
+      rejected.inc();
+    }
+    return false;
+  }
+
+  public void release(long startNanos) {
+    if (enabled) {
+      limit.release(System.nanoTime() - startNanos);
+    }
+  }
+
+  public void release() {
+    if (enabled) {
+      limit.release();
+    }
+  }
+
+  public int getDeepOffset() {
+    return deepOffset;
+  }
+
+  private Metadata metadata(String name, String description, MetricType type) {
+    return Metadata.builder()
+        .withName(PREFIX + name)
+        .withType(type)
+        .withUnit(MetricUnits.NONE)
+        .withDescription(description)
+        .build();
+  }
+}
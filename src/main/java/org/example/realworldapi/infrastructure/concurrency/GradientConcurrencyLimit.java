@@ -0,0 +1,177 @@
+package org.example.realworldapi.infrastructure.concurrency;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class GradientConcurrencyLimit {
+
+  private static final double SMOOTHING = 0.2;
+  private static final double RTT_TOLERANCE = 1.5;
+  private static final double MIN_GRADIENT = 0.5;
+  private static final double SHORT_RTT_SAMPLES = 10;
+  private static final double LONG_RTT_SAMPLES = 600;
+  private static final double LONG_RTT_DECAY = 0.95;
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final int maxQueued;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Map<RequestPriority, Deque<Waiter>> waiters = new EnumMap<>(RequestPriority.class);
+  private volatile double limit;
+  private volatile int inFlight;
+  private volatile int queued;
+  private double shortRttNanos;
+  private double longRttNanos;
+
+  public GradientConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, int maxQueued) {
+    this.limit = initialLimit;
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.maxQueued = maxQueued;
+    for (RequestPriority priority : RequestPriority.values()) {
+      waiters.put(priority, new ArrayDeque<>());
+    }
+  }
+
+  public boolean tryAcquire(RequestPriority priority, long timeoutNanos)
+      throws InterruptedException {
+    lock.lock();
+    try {
+      if (inFlight < admitted(priority) && !hasWaitersBefore(priority)) {
+        inFlight++;
+        return true;
+      }
+      if (!priority.isQueued() || queued >= maxQueued || timeoutNanos <= 0) {
+        return false;
+      }
+      return await(priority, timeoutNanos);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public void release(long rttNanos) {
+    lock.lock();
+    try {
+      sample(rttNanos, inFlight);
+      inFlight--;
+      dispatch();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public void release() {
+    lock.lock();
+    try {
+      inFlight--;
+      dispatch();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public int getLimit() {
+    return (int) limit;
+  }
+
+  public int getInFlight() {
+    return inFlight;
+  }
+
+  public int getQueued() {
+    return queued;
+  }
+
+  private boolean await(RequestPriority priority, long timeoutNanos) throws InterruptedException {
+    Waiter waiter = new Waiter(lock.newCondition());
+    Deque<Waiter> queue = waiters.get(priority);
+    queue.addLast(waiter);
+    queued++;
+    try {
+      long remainingNanos = timeoutNanos;
+      while (!waiter.granted && remainingNanos > 0) {
+        remainingNanos = waiter.condition.awaitNanos(remainingNanos);
+      }
+      return waiter.granted;
+    } catch (InterruptedException ex) {
+      if (waiter.granted) {
+        inFlight--;
+        dispatch();
+      }
+      throw ex;
+    } finally {
+      if (!waiter.granted) {
+        queue.remove(waiter);
+      }
+      queued--;
+    }
+  }
+
+  private void dispatch() {
+    for (RequestPriority priority : RequestPriority.values()) {
+      Deque<Waiter> queue = waiters.get(priority);
+      while (!queue.isEmpty() && inFlight < admitted(priority)) {
+        Waiter waiter = queue.pollFirst();
+        waiter.granted = true;
+        inFlight++;
+        waiter.condition.signal();
+      }
+      if (!queue.isEmpty()) {
+        return;
+      }
+    }
+  }
+
+  private void sample(long rttNanos, int inFlightAtSample) {
+    if (longRttNanos == 0) {
+      shortRttNanos = rttNanos;
+      longRttNanos = rttNanos;
+      return;
+    }
+    shortRttNanos += (rttNanos - shortRttNanos) / SHORT_RTT_SAMPLES;
+    longRttNanos += (rttNanos - longRttNanos) / LONG_RTT_SAMPLES;
+    if (longRttNanos > 2 * shortRttNanos) {
+      longRttNanos *= LONG_RTT_DECAY;
+    }
+    double current = limit;
+    double gradient =
+        Math.max(MIN_GRADIENT, Math.min(1.0, RTT_TOLERANCE * longRttNanos / shortRttNanos));
+    double target = current * gradient + Math.sqrt(current);
+    if (inFlightAtSample < current / 2) {
+      target = Math.min(target, current);
+    }
+    double smoothed = current * (1 - SMOOTHING) + target * SMOOTHING;
+    limit = Math.max(minLimit, Math.min(maxLimit, smoothed));
+  }
+
+  private int admitted(RequestPriority priority) {
+    return Math.max(1, (int) (limit * priority.getLimitShare()));
+  }
+
+  private boolean hasWaitersBefore(RequestPriority priority) {
+    for (RequestPriority other : RequestPriority.values()) {
+      if (other.compareTo(priority) > 0) {
+        return false;
+      }
+      if (!waiters.get(other).isEmpty()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static class Waiter {
+
+    private final Condition condition;
+    private boolean granted;
+
+    private Waiter(Condition condition) {
+      this.condition = condition;
+    }
+  }
+}
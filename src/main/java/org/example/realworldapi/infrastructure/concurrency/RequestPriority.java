@@ -0,0 +1,23 @@
+package org.example.realworldapi.infrastructure.concurrency;
+
+public enum RequestPriority {
+  HIGH(1.0, true),
+  NORMAL(0.9, true),
+  LOW(0.75, false);
+
+  private final double limitShare;
+  private final boolean queued;
+
+  RequestPriority(double limitShare, boolean queued) {
+    this.limitShare = limitShare;
+    this.queued = queued;
+  }
+
+  public double getLimitShare() {
+    return limitShare;
+  }
+
+  public boolean isQueued() {
+    return queued;
+  }
+}
@@ -0,0 +1,21 @@
+package org.example.realworldapi.infrastructure.concurrency.annotation;
+
+import org.example.realworldapi.infrastructure.concurrency.RequestPriority;
+
+import javax.enterprise.util.Nonbinding;
+import javax.interceptor.InterceptorBinding;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@InterceptorBinding
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface ConcurrencyLimit {
+  @Nonbinding
+  RequestPriority value() default RequestPriority.NORMAL;
+
+  @Nonbinding
+  boolean sampled() default true;
+}
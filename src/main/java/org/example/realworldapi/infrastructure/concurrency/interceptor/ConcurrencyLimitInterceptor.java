@@ -0,0 +1,90 @@
+package org.example.realworldapi.infrastructure.concurrency.interceptor;
+
+import org.example.realworldapi.infrastructure.concurrency.ConcurrencyLimiter;
+import org.example.realworldapi.infrastructure.concurrency.RequestPriority;
+import org.example.realworldapi.infrastructure.concurrency.annotation.ConcurrencyLimit;
+import org.example.realworldapi.infrastructure.web.exception.ServiceUnavailableException;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+import javax.ws.rs.QueryParam;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@ConcurrencyLimit
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_BEFORE + 10)
+public class ConcurrencyLimitInterceptor {
+
+  private static final String OFFSET_PARAMETER = "offset";
+  private static final long RETRY_AFTER_SECONDS = 1;
+
+  private final ConcurrentMap<Method, Integer> offsetParameters = new ConcurrentHashMap<>();
+
+  @Inject ConcurrencyLimiter concurrencyLimiter;
+
+  @AroundInvoke
+  public Object limit(InvocationContext invocationContext) throws Exception {
+    ConcurrencyLimit concurrencyLimit = getConcurrencyLimit(invocationContext.getMethod());
+    if (!concurrencyLimiter.tryAcquire(getPriority(concurrencyLimit, invocationContext))) {
+      throw new ServiceUnavailableException(RETRY_AFTER_SECONDS);
+    }
+    if (concurrencyLimit != null && !concurrencyLimit.sampled()) {
+      try {
+        return invocationContext.proceed();
+      } finally {
+        concurrencyLimiter.release();
+      }
+    }
+    long start = System.nanoTime();
+    try {
+      return invocationContext.proceed();
+    } finally {
+      concurrencyLimiter.release(start);
+    }
+  }
+
+  private ConcurrencyLimit getConcurrencyLimit(Method method) {
+    ConcurrencyLimit concurrencyLimit = method.getAnnotation(ConcurrencyLimit.class);
+    if (concurrencyLimit == null) {
+      concurrencyLimit = method.getDeclaringClass().getAnnotation(ConcurrencyLimit.class);
+    }
+    return concurrencyLimit;
+  }
+
+  private RequestPriority getPriority(
+      ConcurrencyLimit concurrencyLimit, InvocationContext invocationContext) {
+    Method method = invocationContext.getMethod();
+    RequestPriority priority =
+        concurrencyLimit != null ? concurrencyLimit.value() : RequestPriority.NORMAL;
+    if (priority != RequestPriority.LOW && isDeepPage(method, invocationContext.getParameters())) {
+      return RequestPriority.LOW;
+    }
+    return priority;
+  }
+
+  private boolean isDeepPage(Method method, Object[] parameters) {
+    int index = offsetParameters.computeIfAbsent(method, this::findOffsetParameter);
+    return index >= 0
+        && parameters[index] instanceof Integer
+        && (Integer) parameters[index] >= concurrencyLimiter.getDeepOffset();
+  }
+
+  private int findOffsetParameter(Method method) {
+    Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+    for (int index = 0; index < parameterAnnotations.length; index++) {
+      for (Annotation annotation : parameterAnnotations[index]) {
+        if (annotation instanceof QueryParam
+            && OFFSET_PARAMETER.equals(((QueryParam) annotation).value())) {
+          return index;
+        }
+      }
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,123 @@
+package org.example.realworldapi.infrastructure.config;
+
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.example.realworldapi.infrastructure.jdbc.InstrumentedDriver;
+import org.example.realworldapi.infrastructure.jdbc.ReplicaLagMonitor;
+import org.example.realworldapi.infrastructure.jdbc.ReplicaRouting;
+import org.jboss.logging.Logger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@ApplicationScoped
+public class ReplicaRoutingConfig {
+
+  private static final Logger LOGGER = Logger.getLogger(ReplicaRoutingConfig.class);
+
+  private Optional<String> replicaUrl;
+  private Optional<String> replicaUsername;
+  private Optional<String> replicaPassword;
+  private long maxStalenessMillis;
+  private long heartbeatMillis;
+  private int maxSize;
+  private long acquisitionTimeoutMillis;
+  private String primaryUrl;
+  private Optional<String> primaryUsername;
+  private Optional<String> primaryPassword;
+  private MetricRegistry metricRegistry;
+  private ReplicaLagMonitor lagMonitor;
+
+  public ReplicaRoutingConfig(
+      @ConfigProperty(name = "datasource.replica.url") Optional<String> replicaUrl,
+      @ConfigProperty(name = "datasource.replica.username") Optional<String> replicaUsername,
+      @ConfigProperty(name = "datasource.replica.password") Optional<String> replicaPassword,
+      @ConfigProperty(name = "datasource.replica.max-staleness.millis", defaultValue = "5000")
+          long maxStalenessMillis,
+      @ConfigProperty(name = "datasource.replica.heartbeat.millis", defaultValue = "1000")
+          long heartbeatMillis,
+      @ConfigProperty(name = "datasource.replica.max-size", defaultValue = "20") int maxSize,
+      @ConfigProperty(name = "datasource.replica.acquisition-timeout.millis", defaultValue = "50")
+          long acquisitionTimeoutMillis,
+      @ConfigProperty(name = "quarkus.datasource.url") String primaryUrl,
+      @ConfigProperty(name = "quarkus.datasource.username") Optional<String> primaryUsername,
+      @ConfigProperty(name = "quarkus.datasource.password") Optional<String> primaryPassword,
+      MetricRegistry metricRegistry) {
+    this.replicaUrl = replicaUrl;
+    this.replicaUsername = replicaUsername;
+    this.replicaPassword = replicaPassword;
+    this.maxStalenessMillis = maxStalenessMillis;
+    this.heartbeatMillis = heartbeatMillis;
+    this.maxSize = maxSize;
+    this.acquisitionTimeoutMillis = acquisitionTimeoutMillis;
+    this.primaryUrl = primaryUrl;
+    this.primaryUsername = primaryUsername;
+    this.primaryPassword = primaryPassword;
+    this.metricRegistry = metricRegistry;
+  }
+
+  void onStart(@Observes StartupEvent startupEvent) {
+    if (!replicaUrl.isPresent()) {
+      return;
+    }
+    if (!primaryUrl.startsWith(InstrumentedDriver.URL_PREFIX)) {
+      throw new IllegalStateException(
+          "datasource.replica.url is set but quarkus.datasource.url does not use the "
+              + InstrumentedDriver.URL_PREFIX
+              + " driver that routes reads to the replica");
+    }
+    ReplicaRouting.configure(
+        replicaUrl.get(),
+        replicaUsername.orElse(null),
+        replicaPassword.orElse(""),
+        TimeUnit.MILLISECONDS.toNanos(maxStalenessMillis),
+        maxSize,
+        TimeUnit.MILLISECONDS.toNanos(acquisitionTimeoutMillis));
+    lagMonitor =
+        new ReplicaLagMonitor(
+            primaryUrl, primaryUsername.orElse(null), primaryPassword.orElse(""));
+    lagMonitor.start(heartbeatMillis);
+    metricRegistry.register(
+        Metadata.builder()
+            .withName("datasource.replica.lag")
+            .withType(MetricType.GAUGE)
+            .withUnit(MetricUnits.MILLISECONDS)
+            .withDescription("Replica lag measured from the heartbeat table, -1 when unknown")
+            .build(),
+        (Gauge<Long>) ReplicaRouting::getReplicaLagMillis);
+    registerConnectionGauge(
+        "active", "Replica connections in use", ReplicaRouting::getActiveReplicaConnections);
+    registerConnectionGauge(
+        "idle", "Pooled replica connections", ReplicaRouting::getIdleReplicaConnections);
+    LOGGER.infof(
+        "Routing read-only transactions to %s while it lags less than %d ms",
+        replicaUrl.get(),
+        maxStalenessMillis);
+  }
+
+  void onStop(@Observes ShutdownEvent shutdownEvent) {
+    if (lagMonitor != null) {
+      lagMonitor.close();
+      ReplicaRouting.configure(null, null, null, 0, 0, 0);
+    }
+  }
+
+  private void registerConnectionGauge(String name, String description, Gauge<Integer> gauge) {
+    metricRegistry.register(
+        Metadata.builder()
+            .withName("datasource.replica.connections." + name)
+            .withType(MetricType.GAUGE)
+            .withUnit(MetricUnits.NONE)
+            .withDescription(description)
+            .build(),
+        gauge);
+  }
+}
@@ -0,0 +1,53 @@
+package org.example.realworldapi.infrastructure.config;
+
+import io.quarkus.runtime.StartupEvent;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.example.realworldapi.infrastructure.jdbc.InstrumentedDriver;
+import org.example.realworldapi.infrastructure.jdbc.SlowQueryLog;
+import org.jboss.logging.Logger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import java.util.concurrent.TimeUnit;
+
+@ApplicationScoped
+public class SlowQueryLogConfig {
+
+  private static final Logger LOGGER = Logger.getLogger(SlowQueryLogConfig.class);
+
+  private boolean enabled;
+  private long thresholdMillis;
+  private boolean explain;
+  private boolean parameters;
+  private int capacity;
+  private String datasourceUrl;
+
+  public SlowQueryLogConfig(
+      @ConfigProperty(name = "sql.slow-query.enabled", defaultValue = "false") boolean enabled,
+      @ConfigProperty(name = "sql.slow-query.threshold.millis", defaultValue = "200")
+          long thresholdMillis,
+      @ConfigProperty(name = "sql.slow-query.explain", defaultValue = "false") boolean explain,
+      @ConfigProperty(name = "sql.slow-query.parameters", defaultValue = "false")
+          boolean parameters,
+      @ConfigProperty(name = "sql.slow-query.capacity", defaultValue = "100") int capacity,
+      @ConfigProperty(name = "quarkus.datasource.url") String datasourceUrl) {
+    this.enabled = enabled;
+    this.thresholdMillis = thresholdMillis;
+    this.explain = explain;
+    this.parameters = parameters;
+    this.capacity = capacity;
+    this.datasourceUrl = datasourceUrl;
+  }
+
+  void onStart(@Observes StartupEvent startupEvent) {
+    if (enabled && !datasourceUrl.startsWith(InstrumentedDriver.URL_PREFIX)) {
+      LOGGER.warnf(
+          "sql.slow-query.enabled is set but the datasource does not use the %s driver, "
+              + "the slow query log stays disabled",
+          InstrumentedDriver.URL_PREFIX);
+      enabled = false;
+    }
+    SlowQueryLog.configure(
+        enabled, TimeUnit.MILLISECONDS.toNanos(thresholdMillis), explain, parameters, capacity);
+  }
+}
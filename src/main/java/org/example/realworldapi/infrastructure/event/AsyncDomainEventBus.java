@@ -0,0 +1,118 @@
+package org.example.realworldapi.infrastructure.event;
+
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.Timer;
+import org.example.realworldapi.domain.model.event.DomainEvent;
+import org.example.realworldapi.domain.model.event.DomainEventConsumer;
+import org.example.realworldapi.domain.model.event.DomainEventPublisher;
+import org.example.realworldapi.infrastructure.transaction.TransactionCallbacks;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.Instance;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@ApplicationScoped
+public class AsyncDomainEventBus implements DomainEventPublisher {
+
+  private static final String METRICS_PREFIX = "domain-events.";
+
+  private TransactionCallbacks transactionCallbacks;
+  private Instance<DomainEventConsumer> consumers;
+  private MetricRegistry metricRegistry;
+  private int queueSize;
+  private int batchSize;
+  private volatile List<ConsumerWorker> workers = Collections.emptyList();
+
+  public AsyncDomainEventBus(
+      TransactionCallbacks transactionCallbacks,
+      Instance<DomainEventConsumer> consumers,
+      MetricRegistry metricRegistry,
+      @ConfigProperty(name = "domain-events.queue-size", defaultValue = "10000") int queueSize,
+      @ConfigProperty(name = "domain-events.batch-size", defaultValue = "100") int batchSize) {
+    this.transactionCallbacks = transactionCallbacks;
+    this.consumers = consumers;
+    this.metricRegistry = metricRegistry;
+    this.queueSize = queueSize;
+    this.batchSize = batchSize;
+  }
+
+  void onStart(@Observes StartupEvent startupEvent) {
+    List<ConsumerWorker> result = new ArrayList<>();
+    for (DomainEventConsumer consumer : consumers) {
+      Tag tag = new Tag("consumer", consumer.getName());
+      ConsumerWorker worker =
+          new ConsumerWorker(
+              consumer,
+              queueSize,
+              batchSize,
+              counter("consumed", "Domain events handled by the consumer", tag),
+              counter("dropped", "Domain events dropped because the consumer queue was full", tag),
+              counter("failed", "Domain events in batches the consumer failed to handle", tag),
+              lagTimer(tag));
+      metricRegistry.register(
+          metadata("pending", "Domain events waiting for the consumer", MetricType.GAUGE),
+          (Gauge<Long>) worker::getPending,
+          tag);
+      result.add(worker);
+    }
+    result.forEach(ConsumerWorker::start);
+    workers = result;
+  }
+
+  void onStop(@Observes ShutdownEvent shutdownEvent) {
+    workers.forEach(ConsumerWorker::stop);
+  }
+
+  @Override
+  public void publish(DomainEvent event) {
+    transactionCallbacks.afterCommit(() -> dispatch(event));
+  }
+
+  private void dispatch(DomainEvent event) {
+    long committedAt = System.nanoTime();
+    metricRegistry
+        .counter(
+            metadata("published", "Domain events of committed transactions", MetricType.COUNTER),
+            new Tag("type", event.getClass().getSimpleName()))
+        .inc();
+    for (ConsumerWorker worker : workers) {
+      worker.offer(event, committedAt);
+    }
+  }
+
+  private Counter counter(String name, String description, Tag tag) {
+    return metricRegistry.counter(metadata(name, description, MetricType.COUNTER), tag);
+  }
+
+  private Timer lagTimer(Tag tag) {
+    return metricRegistry.timer(
+        Metadata.builder()
+            .withName(METRICS_PREFIX + "lag")
+            .withType(MetricType.TIMER)
+            .withUnit(MetricUnits.NANOSECONDS)
+            .withDescription("Time from commit until the consumer receives the domain event")
+            .build(),
+        tag);
+  }
+
+  private Metadata metadata(String name, String description, MetricType type) {
+    return Metadata.builder()
+        .withName(METRICS_PREFIX + name)
+        .withType(type)
+        .withUnit(MetricUnits.NONE)
+        .withDescription(description)
+        .build();
+  }
+}
@@ -0,0 +1,104 @@
+package org.example.realworldapi.infrastructure.event;
+
+import lombok.AllArgsConstructor;
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Timer;
+import org.example.realworldapi.domain.model.event.DomainEvent;
+import org.example.realworldapi.domain.model.event.DomainEventConsumer;
+import org.jboss.logging.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+class ConsumerWorker implements Runnable {
+
+  private static final Logger LOGGER = Logger.getLogger(ConsumerWorker.class);
+
+  private final DomainEventConsumer consumer;
+  private final BlockingQueue<PendingEvent> queue;
+  private final int batchSize;
+  private final Counter consumed;
+  private final Counter dropped;
+  private final Counter failed;
+  private final Timer lag;
+  private final Thread thread;
+
+  ConsumerWorker(
+      DomainEventConsumer consumer,
+      int queueSize,
+      int batchSize,
+      Counter consumed,
+      Counter dropped,
+      Counter failed,
+      Timer lag) {
+    this.consumer = consumer;
+    this.queue = new ArrayBlockingQueue<>(queueSize);
+    this.batchSize = batchSize;
+    this.consumed = consumed;
+    this.dropped = dropped;
+    this.failed = failed;
+    this.lag = lag;
+    this.thread = new Thread(this, "domain-events-" + consumer.getName());
+    this.thread.setDaemon(true);
+  }
+
+  void start() {
+    thread.start();
+  }
+
+  void stop() {
+    thread.interrupt();
+  }
+
+  long getPending() {
+    return queue.size();
+  }
+
+  void offer(DomainEvent event, long committedAt) {
+    if (consumer.accepts(event) && !queue.offer(new PendingEvent(event, committedAt))) {
+      dropped.inc();
+    }
+  }
+
+  @Override
+  public void run() {
+    List<PendingEvent> batch = new ArrayList<>(batchSize);
+    while (!Thread.currentThread().isInterrupted()) {
+      try {
+        batch.add(queue.take());
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      queue.drainTo(batch, batchSize - 1);
+      deliver(batch);
+      batch.clear();
+    }
+  }
+
+  private void deliver(List<PendingEvent> batch) {
+    long now = System.nanoTime();
+    List<DomainEvent> events = new ArrayList<>(batch.size());
+    for (PendingEvent pendingEvent : batch) {
+      lag.update(now - pendingEvent.committedAt, TimeUnit.NANOSECONDS);
+      events.add(pendingEvent.event);
+    }
+    try {
+      consumer.consume(events);
+      consumed.inc(events.size());
+    } catch (RuntimeException ex) {
+      failed.inc(events.size());
+      LOGGER.errorf(
+          ex, "Consumer %s failed to handle %d events", consumer.getName(), events.size());
+    }
+  }
+
+  @AllArgsConstructor
+  private static class PendingEvent {
+    private final DomainEvent event;
+    private final long committedAt;
+  }
+}
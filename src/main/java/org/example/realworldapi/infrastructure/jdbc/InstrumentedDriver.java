@@ -0,0 +1,102 @@
+package org.example.realworldapi.infrastructure.jdbc;
+
+import java.sql.*;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Logger;
+
+public class InstrumentedDriver implements Driver {
+
+  public static final String URL_PREFIX = "jdbc:instrumented:";
+
+  private static final String JDBC_PREFIX = "jdbc:";
+  private static final Map<String, String> DRIVER_CLASSES = new HashMap<>();
+
+  static {
+    DRIVER_CLASSES.put("h2", "org.h2.Driver");
+    DRIVER_CLASSES.put("postgresql", "org.postgresql.Driver");
+    try {
+      DriverManager.registerDriver(new InstrumentedDriver());
+    } catch (SQLException ex) {
+      throw new ExceptionInInitializerError(ex);
+    }
+  }
+
+  private final ConcurrentMap<String, Driver> drivers = new ConcurrentHashMap<>();
+
+  @Override
+  public Connection connect(String url, Properties info) throws SQLException {
+    if (!acceptsURL(url)) {
+      return null;
+    }
+    String targetUrl = targetUrl(url);
+    Connection connection = JdbcProxies.connection(driver(targetUrl).connect(targetUrl, info));
+    return ReplicaRouting.isReplicaUrl(url)
+        ? connection
+        : JdbcProxies.routingConnection(connection);
+  }
+
+  @Override
+  public boolean acceptsURL(String url) {
+    return url != null && url.startsWith(URL_PREFIX);
+  }
+
+  @Override
+  public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) throws SQLException {
+    String targetUrl = targetUrl(url);
+    return driver(targetUrl).getPropertyInfo(targetUrl, info);
+  }
+
+  @Override
+  public int getMajorVersion() {
+    return 1;
+  }
+
+  @Override
+  public int getMinorVersion() {
+    return 0;
+  }
+
+  @Override
+  public boolean jdbcCompliant() {
+    return false;
+  }
+
+  @Override
+  public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+    throw new SQLFeatureNotSupportedException();
+  }
+
+  private String targetUrl(String url) {
+    return JDBC_PREFIX + url.substring(URL_PREFIX.length());
+  }
+
+  private Driver driver(String targetUrl) throws SQLException {
+    String subprotocol = targetUrl.substring(JDBC_PREFIX.length()).split(":")[0];
+    Driver driver = drivers.get(subprotocol);
+    if (driver == null) {
+      driver = loadDriver(subprotocol);
+      Driver existing = drivers.putIfAbsent(subprotocol, driver);
+      driver = existing != null ? existing : driver;
+    }
+    return driver;
+  }
+
+  private Driver loadDriver(String subprotocol) throws SQLException {
+    String driverClass = DRIVER_CLASSES.get(subprotocol);
+    if (driverClass == null) {
+      throw new SQLException("Unsupported database for instrumented driver: " + subprotocol);
+    }
+    try {
+      return (Driver)
+          Class.forName(driverClass, true, InstrumentedDriver.class.getClassLoader())
+              .getDeclaredConstructor()
+              .newInstance();
+    } catch (ReflectiveOperationException ex) {
+      throw new SQLException("Could not load driver " + driverClass, ex);
+    }
+  }
+}
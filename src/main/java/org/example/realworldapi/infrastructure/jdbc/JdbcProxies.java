@@ -0,0 +1,418 @@
+package org.example.realworldapi.infrastructure.jdbc;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.*;
+
+final class JdbcProxies {
+
+  private static final String BATCH = "batch";
+  private static final String EXPLAIN = "EXPLAIN ";
+  private static final String SELECT = "select";
+  private static final int MAX_PARAMETER_LENGTH = 200;
+
+  private JdbcProxies() {}
+
+  static Connection connection(Connection connection) {
+    return proxy(Connection.class, new ConnectionInvocationHandler(connection));
+  }
+
+  static Connection routingConnection(Connection primary) {
+    return proxy(Connection.class, new RoutingConnectionInvocationHandler(primary));
+  }
+
+  private static <T> T proxy(Class<T> type, InvocationHandler invocationHandler) {
+    return type.cast(
+        Proxy.newProxyInstance(
+            JdbcProxies.class.getClassLoader(), new Class<?>[] {type}, invocationHandler));
+  }
+
+  private abstract static class DelegatingInvocationHandler implements InvocationHandler {
+
+    private final Object target;
+
+    DelegatingInvocationHandler(Object target) {
+      this.target = target;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      switch (method.getName()) {
+        case "equals":
+          return proxy == args[0];
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        case "toString":
+          return target.toString();
+        default:
+          return handle(method, args);
+      }
+    }
+
+    abstract Object handle(Method method, Object[] args) throws Throwable;
+
+    Object invokeTarget(Method method, Object[] args) throws Throwable {
+      try {
+        return method.invoke(target, args);
+      } catch (InvocationTargetException ex) {
+        throw ex.getCause();
+      }
+    }
+  }
+
+  private static class ConnectionInvocationHandler extends DelegatingInvocationHandler {
+
+    private final Connection connection;
+
+    ConnectionInvocationHandler(Connection connection) {
+      super(connection);
+      this.connection = connection;
+    }
+
+    @Override
+    Object handle(Method method, Object[] args) throws Throwable {
+      Object result = invokeTarget(method, args);
+      switch (method.getName()) {
+        case "createStatement":
+          return proxy(Statement.class, new StatementInvocationHandler(result, connection, null));
+        case "prepareStatement":
+          return proxy(
+              PreparedStatement.class,
+              new StatementInvocationHandler(result, connection, (String) args[0]));
+        case "prepareCall":
+          return proxy(
+              CallableStatement.class,
+              new StatementInvocationHandler(result, connection, (String) args[0]));
+        default:
+          return result;
+      }
+    }
+  }
+
+  private static class RoutingConnectionInvocationHandler extends DelegatingInvocationHandler {
+
+    private static final Set<String> STATEMENT_METHODS =
+        new HashSet<>(Arrays.asList("createStatement", "prepareStatement", "prepareCall"));
+    private static final Set<String> TRANSACTION_METHODS =
+        new HashSet<>(Arrays.asList("setAutoCommit", "commit", "rollback"));
+
+    private final Connection primary;
+    private ReplicaConnectionPool replicaPool;
+    private Connection replica;
+
+    RoutingConnectionInvocationHandler(Connection primary) {
+      super(primary);
+      this.primary = primary;
+    }
+
+    @Override
+    Object handle(Method method, Object[] args) throws Throwable {
+      String name = method.getName();
+
+      if (STATEMENT_METHODS.contains(name)) {
+        String sql = args != null && args.length > 0 ? (String) args[0] : null;
+        if (name.equals("prepareStatement") && ReplicaRouting.routeToReplica(sql)) {
+          Connection target = replica();
+          if (target != null) {
+            return invoke(target, method, args);
+          }
+        }
+        ReplicaRouting.recordStatement(sql);
+        return invokeTarget(method, args);
+      }
+
+      if (name.equals("close")) {
+        releaseReplica(false);
+        return invokeTarget(method, args);
+      }
+
+      Object result = invokeTarget(method, args);
+      boolean transactionMethod = TRANSACTION_METHODS.contains(name) && !isSavepoint(args);
+      if (replica != null && (transactionMethod || name.equals("setTransactionIsolation"))) {
+        try {
+          invoke(replica, method, args);
+        } catch (SQLException ex) {
+          releaseReplica(false);
+        }
+        if (transactionMethod) {
+          releaseReplica(true);
+        }
+      }
+      return result;
+    }
+
+    private Connection replica() {
+      if (replica == null) {
+        ReplicaConnectionPool pool = ReplicaRouting.getReplicaConnectionPool();
+        if (pool == null) {
+          return null;
+        }
+        Connection connection = null;
+        try {
+          connection = pool.borrow();
+          if (connection == null) {
+            return null;
+          }
+          connection.setAutoCommit(primary.getAutoCommit());
+          connection.setReadOnly(true);
+          replica = connection;
+          replicaPool = pool;
+        } catch (SQLException ex) {
+          if (connection != null) {
+            pool.release(connection, false);
+          }
+          ReplicaRouting.recordReplicaUnavailable();
+          return null;
+        }
+      }
+      return replica;
+    }
+
+    private boolean isSavepoint(Object[] args) {
+      return args != null && args[0] instanceof Savepoint;
+    }
+
+    private void releaseReplica(boolean reusable) {
+      if (replica != null) {
+        replicaPool.release(replica, reusable);
+        replica = null;
+        replicaPool = null;
+      }
+    }
+
+    private Object invoke(Connection connection, Method method, Object[] args) throws Throwable {
+      try {
+        return method.invoke(connection, args);
+      } catch (InvocationTargetException ex) {
+        throw ex.getCause();
+      }
+    }
+  }
+
+  private static class StatementInvocationHandler extends DelegatingInvocationHandler {
+
+    private final Connection connection;
+    private final String sql;
+    private final Map<Integer, Object> parameters;
+    private ResultSetInvocationHandler openResultSet;
+
+    StatementInvocationHandler(Object statement, Connection connection, String sql) {
+      super(statement);
+      this.connection = connection;
+      this.sql = sql;
+      this.parameters = sql != null && SlowQueryLog.isEnabled() ? new TreeMap<>() : null;
+    }
+
+    @Override
+    Object handle(Method method, Object[] args) throws Throwable {
+      String name = method.getName();
+
+      if (name.startsWith("execute")) {
+        return execute(method, args);
+      }
+
+      if (parameters != null) {
+        captureParameter(name, args);
+      }
+
+      if (name.equals("close")) {
+        completeOpenResultSet();
+      }
+
+      return invokeTarget(method, args);
+    }
+
+    private Object execute(Method method, Object[] args) throws Throwable {
+      completeOpenResultSet();
+      String executedSql = executedSql(args);
+      long elapsedNanos;
+      long start = System.nanoTime();
+      Object result;
+      try {
+        result = invokeTarget(method, args);
+      } finally {
+        elapsedNanos = System.nanoTime() - start;
+        SqlStatisticsContext.record(executedSql, elapsedNanos);
+      }
+
+      if (!SlowQueryLog.isSlow(elapsedNanos)) {
+        return result;
+      }
+
+      SlowQueryCapture capture =
+          new SlowQueryCapture(
+              executedSql,
+              describeParameters(),
+              elapsedNanos,
+              RepositoryCallContext.current(),
+              explain(executedSql));
+
+      if (result instanceof ResultSet) {
+        openResultSet = new ResultSetInvocationHandler((ResultSet) result, capture);
+        return proxy(ResultSet.class, openResultSet);
+      }
+
+      SlowQueryLog.record(capture.complete(updatedRows(result)));
+      return result;
+    }
+
+    private void captureParameter(String name, Object[] args) {
+      if (name.equals("clearParameters")) {
+        parameters.clear();
+      } else if (name.startsWith("set")
+          && args != null
+          && args.length >= 2
+          && args[0] instanceof Integer) {
+        parameters.put((Integer) args[0], name.equals("setNull") ? null : args[1]);
+      }
+    }
+
+    private void completeOpenResultSet() {
+      if (openResultSet != null) {
+        openResultSet.complete();
+        openResultSet = null;
+      }
+    }
+
+    private List<String> describeParameters() {
+      if (parameters == null || !SlowQueryLog.isParameterCaptureEnabled()) {
+        return Collections.emptyList();
+      }
+      List<String> descriptions = new ArrayList<>();
+      for (Object parameter : parameters.values()) {
+        descriptions.add(describe(parameter));
+      }
+      return descriptions;
+    }
+
+    private String describe(Object parameter) {
+      if (parameter == null) {
+        return "null";
+      }
+      if (parameter instanceof byte[]) {
+        return "<" + ((byte[]) parameter).length + " bytes>";
+      }
+      String value = String.valueOf(parameter);
+      return value.length() > MAX_PARAMETER_LENGTH
+          ? value.substring(0, MAX_PARAMETER_LENGTH) + "..."
+          : value;
+    }
+
+    private String explain(String executedSql) {
+      if (!SlowQueryLog.isExplainEnabled()
+          || !executedSql.trim().toLowerCase(Locale.ROOT).startsWith(SELECT)) {
+        return null;
+      }
+
+      try (PreparedStatement explainStatement =
+          connection.prepareStatement(EXPLAIN + executedSql)) {
+        if (parameters != null) {
+          for (Map.Entry<Integer, Object> parameter : parameters.entrySet()) {
+            explainStatement.setObject(parameter.getKey(), parameter.getValue());
+          }
+        }
+        StringBuilder plan = new StringBuilder();
+        try (ResultSet resultSet = explainStatement.executeQuery()) {
+          while (resultSet.next()) {
+            if (plan.length() > 0) {
+              plan.append('\n');
+            }
+            plan.append(resultSet.getString(1));
+          }
+        }
+        return plan.toString();
+      } catch (SQLException ex) {
+        return "EXPLAIN failed: " + ex.getMessage();
+      }
+    }
+
+    private long updatedRows(Object result) {
+      if (result instanceof Integer || result instanceof Long) {
+        return ((Number) result).longValue();
+      }
+      if (result instanceof int[]) {
+        return Arrays.stream((int[]) result).filter(rows -> rows > 0).sum();
+      }
+      if (result instanceof long[]) {
+        return Arrays.stream((long[]) result).filter(rows -> rows > 0).sum();
+      }
+      return -1;
+    }
+
+    private String executedSql(Object[] args) {
+      if (sql != null) {
+        return sql;
+      }
+      if (args != null && args.length > 0 && args[0] instanceof String) {
+        return (String) args[0];
+      }
+      return BATCH;
+    }
+  }
+
+  private static class ResultSetInvocationHandler extends DelegatingInvocationHandler {
+
+    private final SlowQueryCapture capture;
+    private long rows;
+    private boolean completed;
+
+    ResultSetInvocationHandler(ResultSet resultSet, SlowQueryCapture capture) {
+      super(resultSet);
+      this.capture = capture;
+    }
+
+    @Override
+    Object handle(Method method, Object[] args) throws Throwable {
+      if (method.getName().equals("close")) {
+        complete();
+      }
+
+      Object result = invokeTarget(method, args);
+
+      if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+        rows++;
+      }
+
+      return result;
+    }
+
+    void complete() {
+      if (!completed) {
+        completed = true;
+        SlowQueryLog.record(capture.complete(rows));
+      }
+    }
+  }
+
+  private static class SlowQueryCapture {
+
+    private final LocalDateTime executedAt = LocalDateTime.now();
+    private final String sql;
+    private final List<String> parameters;
+    private final long elapsedNanos;
+    private final String repositoryMethod;
+    private final String executionPlan;
+
+    SlowQueryCapture(
+        String sql,
+        List<String> parameters,
+        long elapsedNanos,
+        String repositoryMethod,
+        String executionPlan) {
+      this.sql = sql;
+      this.parameters = parameters;
+      this.elapsedNanos = elapsedNanos;
+      this.repositoryMethod = repositoryMethod;
+      this.executionPlan = executionPlan;
+    }
+
+    SlowQuery complete(long rows) {
+      return new SlowQuery(
+          executedAt, sql, parameters, rows, elapsedNanos, repositoryMethod, executionPlan);
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package org.example.realworldapi.infrastructure.jdbc;
+
+public final class ReadOnlyTransaction {
+
+  private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+  private ReadOnlyTransaction() {}
+
+  public static boolean isActive() {
+    return ACTIVE.get() != null;
+  }
+
+  public static boolean enter() {
+    if (isActive()) {
+      return false;
+    }
+    ACTIVE.set(Boolean.TRUE);
+    return true;
+  }
+
+  public static void exit() {
+    ACTIVE.remove();
+  }
+}
@@ -0,0 +1,133 @@
+package org.example.realworldapi.infrastructure.jdbc;
+
+import org.jboss.logging.Logger;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+final class ReplicaConnectionPool {
+
+  private static final Logger LOGGER = Logger.getLogger(ReplicaConnectionPool.class);
+  private static final long VALIDATE_AFTER_IDLE_NANOS = TimeUnit.SECONDS.toNanos(5);
+  private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+  private final ConnectionFactory connectionFactory;
+  private final int maxSize;
+  private final long acquisitionTimeoutNanos;
+  private final Semaphore permits;
+  private final Deque<IdleConnection> idle = new ArrayDeque<>();
+  private boolean closed;
+
+  ReplicaConnectionPool(
+      ConnectionFactory connectionFactory, int maxSize, long acquisitionTimeoutNanos) {
+    this.connectionFactory = connectionFactory;
+    this.maxSize = maxSize;
+    this.acquisitionTimeoutNanos = acquisitionTimeoutNanos;
+    this.permits = new Semaphore(maxSize, true);
+  }
+
+  Connection borrow() throws SQLException {
+    try {
+      if (!permits.tryAcquire(acquisitionTimeoutNanos, TimeUnit.NANOSECONDS)) {
+        return null;
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      return null;
+    }
+    try {
+      Connection connection = pollValid();
+      return connection != null ? connection : connectionFactory.open();
+    } catch (SQLException | RuntimeException ex) {
+      permits.release();
+      throw ex;
+    }
+  }
+
+  void release(Connection connection, boolean reusable) {
+    try {
+      if (reusable) {
+        synchronized (idle) {
+          if (!closed) {
+            idle.addLast(new IdleConnection(connection, System.nanoTime()));
+            return;
+          }
+        }
+      }
+      closeQuietly(connection);
+    } finally {
+      permits.release();
+    }
+  }
+
+  int getActive() {
+    return maxSize - permits.availablePermits();
+  }
+
+  int getIdle() {
+    synchronized (idle) {
+      return idle.size();
+    }
+  }
+
+  void close() {
+    synchronized (idle) {
+      closed = true;
+      idle.forEach(idleConnection -> closeQuietly(idleConnection.connection));
+      idle.clear();
+    }
+  }
+
+  private Connection pollValid() {
+    while (true) {
+      IdleConnection idleConnection;
+      synchronized (idle) {
+        idleConnection = idle.pollLast();
+      }
+      if (idleConnection == null) {
+        return null;
+      }
+      if (System.nanoTime() - idleConnection.idleSince < VALIDATE_AFTER_IDLE_NANOS
+          || isValid(idleConnection.connection)) {
+        return idleConnection.connection;
+      }
+      closeQuietly(idleConnection.connection);
+    }
+  }
+
+  private boolean isValid(Connection connection) {
+    try {
+      return connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+    } catch (SQLException ex) {
+      return false;
+    }
+  }
+
+  private void closeQuietly(Connection connection) {
+    try {
+      connection.close();
+    } catch (SQLException ex) {
+      LOGGER.debugf("Could not close replica connection: %s", ex.getMessage());
+    }
+  }
+
+  interface ConnectionFactory {
+
+    Connection open() throws SQLException;
+  }
+
+  private static class IdleConnection {
+
+    private final Connection connection;
+    private final long idleSince;
+
+    private IdleConnection(Connection connection, long idleSince) {
+      this.connection = connection;
+      this.idleSince = idleSince;
+    }
+  }
+}
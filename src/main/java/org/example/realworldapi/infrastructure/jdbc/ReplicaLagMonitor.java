@@ -0,0 +1,129 @@
+package org.example.realworldapi.infrastructure.jdbc;
+
+import org.jboss.logging.Logger;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class ReplicaLagMonitor implements AutoCloseable {
+
+  private static final Logger LOGGER = Logger.getLogger(ReplicaLagMonitor.class);
+
+  private static final String CREATE_TABLE =
+      "create table if not exists REPLICA_HEARTBEAT (id integer primary key, beatAt bigint)";
+  private static final String UPDATE_HEARTBEAT =
+      "update REPLICA_HEARTBEAT set beatAt = ? where id = 1";
+  private static final String INSERT_HEARTBEAT =
+      "insert into REPLICA_HEARTBEAT (id, beatAt) values (1, ?)";
+  private static final String SELECT_HEARTBEAT =
+      "select beatAt from REPLICA_HEARTBEAT where id = 1";
+
+  private final String primaryUrl;
+  private final Properties primaryInfo = new Properties();
+  private ScheduledExecutorService executor;
+  private Connection primary;
+  private Connection replica;
+
+  public ReplicaLagMonitor(String primaryUrl, String username, String password) {
+    this.primaryUrl = primaryUrl;
+    if (username != null) {
+      primaryInfo.setProperty("user", username);
+    }
+    if (password != null) {
+      primaryInfo.setProperty("password", password);
+    }
+  }
+
+  public synchronized void start(long intervalMillis) {
+    executor =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "replica-lag-monitor");
+              thread.setDaemon(true);
+              return thread;
+            });
+    executor.scheduleWithFixedDelay(this::beat, 0, intervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  synchronized void beat() {
+    try {
+      writeHeartbeat(System.currentTimeMillis());
+    } catch (SQLException ex) {
+      LOGGER.debugf("Could not write replica heartbeat: %s", ex.getMessage());
+      primary = closeQuietly(primary);
+    }
+
+    try {
+      Long beatAt = readHeartbeat();
+      if (beatAt == null) {
+        ReplicaRouting.recordReplicaUnavailable();
+      } else {
+        long lagMillis = Math.max(0, System.currentTimeMillis() - beatAt);
+        ReplicaRouting.recordLag(TimeUnit.MILLISECONDS.toNanos(lagMillis));
+      }
+    } catch (SQLException ex) {
+      LOGGER.debugf("Could not read replica heartbeat: %s", ex.getMessage());
+      ReplicaRouting.recordReplicaUnavailable();
+      replica = closeQuietly(replica);
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+    primary = closeQuietly(primary);
+    replica = closeQuietly(replica);
+  }
+
+  private void writeHeartbeat(long beatAt) throws SQLException {
+    if (primary == null) {
+      primary = DriverManager.getConnection(primaryUrl, primaryInfo);
+      primary.setAutoCommit(true);
+      try (Statement statement = primary.createStatement()) {
+        statement.execute(CREATE_TABLE);
+      }
+    }
+    try (PreparedStatement update = primary.prepareStatement(UPDATE_HEARTBEAT)) {
+      update.setLong(1, beatAt);
+      if (update.executeUpdate() > 0) {
+        return;
+      }
+    }
+    try (PreparedStatement insert = primary.prepareStatement(INSERT_HEARTBEAT)) {
+      insert.setLong(1, beatAt);
+      insert.executeUpdate();
+    }
+  }
+
+  private Long readHeartbeat() throws SQLException {
+    if (replica == null) {
+      replica = ReplicaRouting.openReplicaConnection();
+      replica.setAutoCommit(true);
+    }
+    try (PreparedStatement select = replica.prepareStatement(SELECT_HEARTBEAT);
+        ResultSet resultSet = select.executeQuery()) {
+      return resultSet.next() ? resultSet.getLong(1) : null;
+    }
+  }
+
+  private Connection closeQuietly(Connection connection) {
+    if (connection != null) {
+      try {
+        connection.close();
+      } catch (SQLException ex) {
+        LOGGER.debugf("Could not close heartbeat connection: %s", ex.getMessage());
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,183 @@
+package org.example.realworldapi.infrastructure.jdbc;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+public final class ReplicaRouting {
+
+  private static final String SELECT = "select";
+  private static final long UNKNOWN_LAG = Long.MAX_VALUE;
+
+  private static final ThreadLocal<Boolean> ON_PRIMARY = new ThreadLocal<>();
+  private static final ThreadLocal<RequestState> REQUEST = new ThreadLocal<>();
+
+  private static volatile Settings settings = new Settings(null, null, null, 0, 0, 0);
+  private static volatile long replicaLagNanos = UNKNOWN_LAG;
+
+  private ReplicaRouting() {}
+
+  public static void configure(
+      String url,
+      String username,
+      String password,
+      long maxStalenessNanos,
+      int maxConnections,
+      long acquisitionTimeoutNanos) {
+    Settings previous = settings;
+    settings =
+        new Settings(
+            url, username, password, maxStalenessNanos, maxConnections, acquisitionTimeoutNanos);
+    replicaLagNanos = UNKNOWN_LAG;
+    if (previous.pool != null) {
+      previous.pool.close();
+    }
+  }
+
+  public static boolean isEnabled() {
+    return settings.url != null;
+  }
+
+  public static long getMaxStalenessNanos() {
+    return settings.maxStalenessNanos;
+  }
+
+  public static int getActiveReplicaConnections() {
+    ReplicaConnectionPool pool = settings.pool;
+    return pool != null ? pool.getActive() : 0;
+  }
+
+  public static int getIdleReplicaConnections() {
+    ReplicaConnectionPool pool = settings.pool;
+    return pool != null ? pool.getIdle() : 0;
+  }
+
+  public static long getReplicaLagMillis() {
+    long lagNanos = replicaLagNanos;
+    return lagNanos == UNKNOWN_LAG ? -1 : TimeUnit.NANOSECONDS.toMillis(lagNanos);
+  }
+
+  public static boolean isReplicaFresh() {
+    return replicaLagNanos <= settings.maxStalenessNanos;
+  }
+
+  public static boolean isReadingFromReplica() {
+    if (!isEnabled()
+        || !ReadOnlyTransaction.isActive()
+        || ON_PRIMARY.get() != null
+        || !isReplicaFresh()) {
+      return false;
+    }
+    RequestState requestState = REQUEST.get();
+    return requestState == null || !(requestState.pinnedToPrimary || requestState.wrote);
+  }
+
+  public static <T> T onPrimary(Supplier<T> supplier) {
+    if (ON_PRIMARY.get() != null) {
+      return supplier.get();
+    }
+    ON_PRIMARY.set(Boolean.TRUE);
+    try {
+      return supplier.get();
+    } finally {
+      ON_PRIMARY.remove();
+    }
+  }
+
+  public static void beginRequest(boolean pinnedToPrimary) {
+    REQUEST.set(new RequestState(pinnedToPrimary));
+  }
+
+  public static boolean endRequest() {
+    RequestState requestState = REQUEST.get();
+    REQUEST.remove();
+    return requestState != null && requestState.wrote;
+  }
+
+  static void recordLag(long lagNanos) {
+    replicaLagNanos = lagNanos;
+  }
+
+  static void recordReplicaUnavailable() {
+    replicaLagNanos = UNKNOWN_LAG;
+  }
+
+  static boolean isReplicaUrl(String url) {
+    return url.equals(settings.url);
+  }
+
+  static boolean routeToReplica(String sql) {
+    return isReadingFromReplica() && isSelect(sql);
+  }
+
+  static void recordStatement(String sql) {
+    RequestState requestState = REQUEST.get();
+    if (requestState != null && !requestState.wrote && sql != null && !isSelect(sql)) {
+      requestState.wrote = true;
+    }
+  }
+
+  static ReplicaConnectionPool getReplicaConnectionPool() {
+    return settings.pool;
+  }
+
+  static Connection openReplicaConnection() throws SQLException {
+    return openConnection(settings);
+  }
+
+  private static Connection openConnection(Settings current) throws SQLException {
+    Properties info = new Properties();
+    if (current.username != null) {
+      info.setProperty("user", current.username);
+    }
+    if (current.password != null) {
+      info.setProperty("password", current.password);
+    }
+    return DriverManager.getConnection(current.url, info);
+  }
+
+  private static boolean isSelect(String sql) {
+    return sql != null && sql.trim().toLowerCase(Locale.ROOT).startsWith(SELECT);
+  }
+
+  private static class Settings {
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final long maxStalenessNanos;
+    private final ReplicaConnectionPool pool;
+
+    private Settings(
+        String url,
+        String username,
+        String password,
+        long maxStalenessNanos,
+        int maxConnections,
+        long acquisitionTimeoutNanos) {
+      this.url = url;
+      this.username = username;
+      this.password = password;
+      this.maxStalenessNanos = maxStalenessNanos;
+      this.pool =
+          url != null
+              ? new ReplicaConnectionPool(
+                  () -> openConnection(this), maxConnections, acquisitionTimeoutNanos)
+              : null;
+    }
+  }
+
+  private static class RequestState {
+
+    private final boolean pinnedToPrimary;
+    private boolean wrote;
+
+    private RequestState(boolean pinnedToPrimary) {
+      this.pinnedToPrimary = pinnedToPrimary;
+    }
+  }
+}
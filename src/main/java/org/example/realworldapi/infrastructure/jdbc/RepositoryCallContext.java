@@ -0,0 +1,26 @@
+package org.example.realworldapi.infrastructure.jdbc;
+
+public final class RepositoryCallContext {
+
+  private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+  private RepositoryCallContext() {}
+
+  public static String enter(String repositoryMethod) {
+    String previous = CURRENT.get();
+    CURRENT.set(repositoryMethod);
+    return previous;
+  }
+
+  public static void exit(String previous) {
+    if (previous == null) {
+      CURRENT.remove();
+    } else {
+      CURRENT.set(previous);
+    }
+  }
+
+  static String current() {
+    return CURRENT.get();
+  }
+}
@@ -0,0 +1,35 @@
+package org.example.realworldapi.infrastructure.jdbc;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+public class SlowQuery {
+
+  private final LocalDateTime executedAt;
+  private final String sql;
+  private final List<String> parameters;
+  private final long rows;
+  private final long elapsedNanos;
+  private final String repositoryMethod;
+  private final String executionPlan;
+
+  public SlowQuery(
+      LocalDateTime executedAt,
+      String sql,
+      List<String> parameters,
+      long rows,
+      long elapsedNanos,
+      String repositoryMethod,
+      String executionPlan) {
+    this.executedAt = executedAt;
+    this.sql = sql;
+    this.parameters = parameters;
+    this.rows = rows;
+    this.elapsedNanos = elapsedNanos;
+    this.repositoryMethod = repositoryMethod;
+    this.executionPlan = executionPlan;
+  }
+}
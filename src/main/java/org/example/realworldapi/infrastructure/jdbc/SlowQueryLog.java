@@ -0,0 +1,89 @@
+package org.example.realworldapi.infrastructure.jdbc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+public final class SlowQueryLog {
+
+  private static volatile Settings settings = new Settings(false, 0, false, false, 1);
+
+  private SlowQueryLog() {}
+
+  public static void configure(
+      boolean enabled, long thresholdNanos, boolean explain, boolean parameters, int capacity) {
+    settings = new Settings(enabled, thresholdNanos, explain, parameters, capacity);
+  }
+
+  public static List<SlowQuery> getSlowQueries() {
+    return settings.buffer.snapshot();
+  }
+
+  public static boolean isEnabled() {
+    return settings.enabled;
+  }
+
+  static boolean isSlow(long elapsedNanos) {
+    Settings current = settings;
+    return current.enabled && elapsedNanos >= current.thresholdNanos;
+  }
+
+  static boolean isExplainEnabled() {
+    return settings.explain;
+  }
+
+  static boolean isParameterCaptureEnabled() {
+    return settings.parameters;
+  }
+
+  static void record(SlowQuery slowQuery) {
+    settings.buffer.add(slowQuery);
+  }
+
+  private static class Settings {
+
+    private final boolean enabled;
+    private final long thresholdNanos;
+    private final boolean explain;
+    private final boolean parameters;
+    private final RingBuffer buffer;
+
+    private Settings(
+        boolean enabled, long thresholdNanos, boolean explain, boolean parameters, int capacity) {
+      this.enabled = enabled;
+      this.thresholdNanos = thresholdNanos;
+      this.explain = explain;
+      this.parameters = parameters;
+      this.buffer = new RingBuffer(Math.max(1, capacity));
+    }
+  }
+
+  private static class RingBuffer {
+
+    private final AtomicReferenceArray<SlowQuery> entries;
+    private final AtomicLong sequence = new AtomicLong();
+
+    private RingBuffer(int capacity) {
+      this.entries = new AtomicReferenceArray<>(capacity);
+    }
+
+    private void add(SlowQuery slowQuery) {
+      long index = sequence.getAndIncrement();
+      entries.set((int) (index % entries.length()), slowQuery);
+    }
+
+    private List<SlowQuery> snapshot() {
+      long last = sequence.get();
+      long first = Math.max(0, last - entries.length());
+      List<SlowQuery> slowQueries = new ArrayList<>();
+      for (long index = last - 1; index >= first; index--) {
+        SlowQuery slowQuery = entries.get((int) (index % entries.length()));
+        if (slowQuery != null) {
+          slowQueries.add(slowQuery);
+        }
+      }
+      return slowQueries;
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package org.example.realworldapi.infrastructure.jdbc;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class SqlStatistics {
+
+  private final Map<String, Integer> executionsBySql = new HashMap<>();
+  private int statementCount;
+  private long elapsedNanos;
+
+  void record(String sql, long nanos) {
+    statementCount++;
+    elapsedNanos += nanos;
+    executionsBySql.merge(sql, 1, Integer::sum);
+  }
+
+  public int getStatementCount() {
+    return statementCount;
+  }
+
+  public long getElapsedNanos() {
+    return elapsedNanos;
+  }
+
+  public Map<String, Integer> getRepeatedStatements(int threshold) {
+    return executionsBySql.entrySet().stream()
+        .filter(entry -> entry.getValue() >= threshold)
+        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+  }
+}
@@ -0,0 +1,25 @@
+package org.example.realworldapi.infrastructure.jdbc;
+
+public final class SqlStatisticsContext {
+
+  private static final ThreadLocal<SqlStatistics> CURRENT = new ThreadLocal<>();
+
+  private SqlStatisticsContext() {}
+
+  public static void begin() {
+    CURRENT.set(new SqlStatistics());
+  }
+
+  public static SqlStatistics end() {
+    SqlStatistics sqlStatistics = CURRENT.get();
+    CURRENT.remove();
+    return sqlStatistics;
+  }
+
+  static void record(String sql, long nanos) {
+    SqlStatistics sqlStatistics = CURRENT.get();
+    if (sqlStatistics != null) {
+      sqlStatistics.record(sql, nanos);
+    }
+  }
+}
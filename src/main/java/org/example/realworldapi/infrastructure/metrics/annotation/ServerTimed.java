@@ -0,0 +1,18 @@
+package org.example.realworldapi.infrastructure.metrics.annotation;
+
+import org.example.realworldapi.infrastructure.metrics.timing.ServerTimingPhase;
+
+import javax.enterprise.util.Nonbinding;
+import javax.interceptor.InterceptorBinding;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@InterceptorBinding
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface ServerTimed {
+  @Nonbinding
+  ServerTimingPhase value();
+}
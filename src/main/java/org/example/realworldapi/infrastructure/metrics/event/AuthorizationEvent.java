@@ -0,0 +1,21 @@
+package org.example.realworldapi.infrastructure.metrics.event;
+
+import jdk.jfr.*;
+import lombok.Setter;
+
+@Setter
+@Name("org.example.realworldapi.Authorization")
+@Label("Authorization")
+@Category({"Realworld API", "Security"})
+@StackTrace(false)
+public class AuthorizationEvent extends Event {
+
+  @Label("Endpoint")
+  private String endpoint;
+
+  @Label("Required Roles")
+  private String requiredRoles;
+
+  @Label("Granted")
+  private boolean granted;
+}
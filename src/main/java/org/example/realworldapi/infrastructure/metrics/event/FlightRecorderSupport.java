@@ -0,0 +1,17 @@
+package org.example.realworldapi.infrastructure.metrics.event;
+
+public final class FlightRecorderSupport {
+
+  public static final boolean AVAILABLE = isEventApiAvailable();
+
+  private FlightRecorderSupport() {}
+
+  private static boolean isEventApiAvailable() {
+    try {
+      Class.forName("jdk.jfr.Event", false, FlightRecorderSupport.class.getClassLoader());
+      return true;
+    } catch (ClassNotFoundException | LinkageError ex) {
+      return false;
+    }
+  }
+}
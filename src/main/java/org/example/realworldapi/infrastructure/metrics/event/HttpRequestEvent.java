@@ -0,0 +1,28 @@
+package org.example.realworldapi.infrastructure.metrics.event;
+
+import jdk.jfr.*;
+import lombok.Setter;
+
+@Setter
+@Name("org.example.realworldapi.HttpRequest")
+@Label("HTTP Request")
+@Category({"Realworld API", "HTTP"})
+@Description("Resource method invocation, from request filters to response filters")
+@StackTrace(false)
+public class HttpRequestEvent extends Event {
+
+  @Label("Endpoint")
+  private String endpoint;
+
+  @Label("HTTP Method")
+  private String method;
+
+  @Label("Path")
+  private String path;
+
+  @Label("Path Parameters")
+  private String pathParameters;
+
+  @Label("Status")
+  private int status;
+}
@@ -0,0 +1,24 @@
+package org.example.realworldapi.infrastructure.metrics.event;
+
+import jdk.jfr.*;
+import lombok.Setter;
+
+@Setter
+@Name("org.example.realworldapi.RepositoryCall")
+@Label("Repository Call")
+@Category({"Realworld API", "Repository"})
+@StackTrace(false)
+public class RepositoryCallEvent extends Event {
+
+  @Label("Repository")
+  private String repository;
+
+  @Label("Method")
+  private String method;
+
+  @Label("Arguments")
+  private String arguments;
+
+  @Label("Rows")
+  private int rows;
+}
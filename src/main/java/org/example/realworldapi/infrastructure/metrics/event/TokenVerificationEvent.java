@@ -0,0 +1,18 @@
+package org.example.realworldapi.infrastructure.metrics.event;
+
+import jdk.jfr.*;
+import lombok.Setter;
+
+@Setter
+@Name("org.example.realworldapi.TokenVerification")
+@Label("Token Verification")
+@Category({"Realworld API", "Security"})
+@StackTrace(false)
+public class TokenVerificationEvent extends Event {
+
+  @Label("Subject")
+  private String subject;
+
+  @Label("Verified")
+  private boolean verified;
+}
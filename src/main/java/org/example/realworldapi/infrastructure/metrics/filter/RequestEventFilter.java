@@ -0,0 +1,80 @@
+package org.example.realworldapi.infrastructure.metrics.filter;
+
+import org.example.realworldapi.infrastructure.metrics.event.FlightRecorderSupport;
+import org.example.realworldapi.infrastructure.metrics.event.HttpRequestEvent;
+
+import javax.annotation.Priority;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.Provider;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+
+@Provider
+@Priority(ResourceMetricsFilter.PRIORITY)
+public class RequestEventFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+  private static final String EVENT_PROPERTY = RequestEventFilter.class.getName() + ".event";
+
+  @Context private ResourceInfo resourceInfo;
+
+  @Override
+  public void filter(ContainerRequestContext containerRequestContext) {
+    if (!FlightRecorderSupport.AVAILABLE) {
+      return;
+    }
+
+    HttpRequestEvent event = new HttpRequestEvent();
+    if (event.isEnabled()) {
+      event.begin();
+      containerRequestContext.setProperty(EVENT_PROPERTY, event);
+    }
+  }
+
+  @Override
+  public void filter(
+      ContainerRequestContext containerRequestContext,
+      ContainerResponseContext containerResponseContext) {
+
+    Object property = containerRequestContext.getProperty(EVENT_PROPERTY);
+
+    if (property == null) {
+      return;
+    }
+
+    HttpRequestEvent event = (HttpRequestEvent) property;
+    event.end();
+
+    if (event.shouldCommit()) {
+      Method resourceMethod = resourceInfo.getResourceMethod();
+      if (resourceMethod != null) {
+        event.setEndpoint(
+            resourceMethod.getDeclaringClass().getSimpleName() + "." + resourceMethod.getName());
+      }
+      event.setMethod(containerRequestContext.getMethod());
+      event.setPath(containerRequestContext.getUriInfo().getPath());
+      event.setPathParameters(
+          pathParameters(containerRequestContext.getUriInfo().getPathParameters()));
+      event.setStatus(containerResponseContext.getStatus());
+      event.commit();
+    }
+  }
+
+  private String pathParameters(MultivaluedMap<String, String> pathParameters) {
+    StringBuilder description = new StringBuilder();
+    for (Map.Entry<String, List<String>> pathParameter : pathParameters.entrySet()) {
+      if (description.length() > 0) {
+        description.append(", ");
+      }
+      description.append(pathParameter.getKey()).append('=');
+      description.append(String.join(",", pathParameter.getValue()));
+    }
+    return description.toString();
+  }
+}
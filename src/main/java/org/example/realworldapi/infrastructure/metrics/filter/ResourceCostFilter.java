@@ -0,0 +1,144 @@
+package org.example.realworldapi.infrastructure.metrics.filter;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.metrics.*;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.ext.Provider;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@Provider
+@Priority(ResourceMetricsFilter.PRIORITY)
+public class ResourceCostFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+  private static final String CPU_METRIC_NAME = "http.server.cpu";
+  private static final String ALLOCATION_METRIC_NAME = "http.server.allocations";
+  private static final String START_PROPERTY = ResourceCostFilter.class.getName() + ".start";
+
+  private final Metadata cpuMetadata =
+      Metadata.builder()
+          .withName(CPU_METRIC_NAME)
+          .withType(MetricType.HISTOGRAM)
+          .withUnit(MetricUnits.NANOSECONDS)
+          .withDescription("CPU time of the request thread per resource method")
+          .build();
+
+  private final Metadata allocationMetadata =
+      Metadata.builder()
+          .withName(ALLOCATION_METRIC_NAME)
+          .withType(MetricType.HISTOGRAM)
+          .withUnit(MetricUnits.BYTES)
+          .withDescription("Bytes allocated by the request thread per resource method")
+          .build();
+
+  private final ConcurrentMap<Method, ResourceCost> resourceCosts = new ConcurrentHashMap<>();
+
+  private com.sun.management.ThreadMXBean threadMXBean;
+
+  @Inject MetricRegistry metricRegistry;
+
+  @Inject
+  @ConfigProperty(name = "metrics.resource-cost.enabled", defaultValue = "true")
+  boolean enabled;
+
+  @Context private ResourceInfo resourceInfo;
+
+  @PostConstruct
+  void init() {
+    java.lang.management.ThreadMXBean platformThreadMXBean = ManagementFactory.getThreadMXBean();
+
+    if (enabled
+        && platformThreadMXBean instanceof com.sun.management.ThreadMXBean
+        && platformThreadMXBean.isCurrentThreadCpuTimeSupported()) {
+
+      threadMXBean = (com.sun.management.ThreadMXBean) platformThreadMXBean;
+
+      if (threadMXBean.isThreadAllocatedMemorySupported()) {
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+      }
+      if (!threadMXBean.isThreadCpuTimeEnabled()) {
+        threadMXBean.setThreadCpuTimeEnabled(true);
+      }
+    }
+  }
+
+  @Override
+  public void filter(ContainerRequestContext containerRequestContext) {
+    if (threadMXBean != null) {
+      long threadId = Thread.currentThread().getId();
+      containerRequestContext.setProperty(
+          START_PROPERTY,
+          new long[] {
+            threadId,
+            threadMXBean.getCurrentThreadCpuTime(),
+            threadMXBean.getThreadAllocatedBytes(threadId)
+          });
+    }
+  }
+
+  @Override
+  public void filter(
+      ContainerRequestContext containerRequestContext,
+      ContainerResponseContext containerResponseContext) {
+
+    Object start = containerRequestContext.getProperty(START_PROPERTY);
+    Method resourceMethod = resourceInfo.getResourceMethod();
+
+    if (start == null || resourceMethod == null) {
+      return;
+    }
+
+    long[] startCounters = (long[]) start;
+    long threadId = Thread.currentThread().getId();
+
+    if (startCounters[0] != threadId) {
+      return;
+    }
+
+    ResourceCost resourceCost = resourceCost(resourceMethod);
+    resourceCost.cpu.update(threadMXBean.getCurrentThreadCpuTime() - startCounters[1]);
+
+    if (startCounters[2] >= 0) {
+      resourceCost.allocations.update(
+          threadMXBean.getThreadAllocatedBytes(threadId) - startCounters[2]);
+    }
+  }
+
+  private ResourceCost resourceCost(Method resourceMethod) {
+    ResourceCost resourceCost = resourceCosts.get(resourceMethod);
+    if (resourceCost == null) {
+      resourceCost = resourceCosts.computeIfAbsent(resourceMethod, this::register);
+    }
+    return resourceCost;
+  }
+
+  private ResourceCost register(Method resourceMethod) {
+    Tag resourceTag = new Tag("resource", resourceMethod.getDeclaringClass().getSimpleName());
+    Tag methodTag = new Tag("method", resourceMethod.getName());
+    return new ResourceCost(
+        metricRegistry.histogram(cpuMetadata, resourceTag, methodTag),
+        metricRegistry.histogram(allocationMetadata, resourceTag, methodTag));
+  }
+
+  private static class ResourceCost {
+
+    private final Histogram cpu;
+    private final Histogram allocations;
+
+    private ResourceCost(Histogram cpu, Histogram allocations) {
+      this.cpu = cpu;
+      this.allocations = allocations;
+    }
+  }
+}
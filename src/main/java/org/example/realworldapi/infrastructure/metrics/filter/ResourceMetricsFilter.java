@@ -0,0 +1,77 @@
+package org.example.realworldapi.infrastructure.metrics.filter;
+
+import org.eclipse.microprofile.metrics.*;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.ext.Provider;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+@Provider
+@Priority(ResourceMetricsFilter.PRIORITY)
+public class ResourceMetricsFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+  static final int PRIORITY = 1;
+
+  private static final String METRIC_NAME = "http.server.requests";
+  private static final String START_TIME_PROPERTY =
+      ResourceMetricsFilter.class.getName() + ".startTime";
+
+  private final Metadata metadata =
+      Metadata.builder()
+          .withName(METRIC_NAME)
+          .withType(MetricType.TIMER)
+          .withUnit(MetricUnits.NANOSECONDS)
+          .withDescription("Resource method latency, from the first request filter to the last response filter")
+          .build();
+
+  private final ConcurrentMap<Method, Timer> timers = new ConcurrentHashMap<>();
+
+  @Inject MetricRegistry metricRegistry;
+
+  @Context private ResourceInfo resourceInfo;
+
+  @Override
+  public void filter(ContainerRequestContext containerRequestContext) {
+    containerRequestContext.setProperty(START_TIME_PROPERTY, System.nanoTime());
+  }
+
+  @Override
+  public void filter(
+      ContainerRequestContext containerRequestContext,
+      ContainerResponseContext containerResponseContext) {
+
+    Object startTime = containerRequestContext.getProperty(START_TIME_PROPERTY);
+    Method resourceMethod = resourceInfo.getResourceMethod();
+
+    if (startTime == null || resourceMethod == null) {
+      return;
+    }
+
+    timer(resourceMethod).update(System.nanoTime() - (Long) startTime, TimeUnit.NANOSECONDS);
+  }
+
+  private Timer timer(Method resourceMethod) {
+    Timer timer = timers.get(resourceMethod);
+    if (timer == null) {
+      timer = timers.computeIfAbsent(resourceMethod, this::register);
+    }
+    return timer;
+  }
+
+  private Timer register(Method resourceMethod) {
+    return metricRegistry.timer(
+        metadata,
+        new Tag("resource", resourceMethod.getDeclaringClass().getSimpleName()),
+        new Tag("method", resourceMethod.getName()));
+  }
+}
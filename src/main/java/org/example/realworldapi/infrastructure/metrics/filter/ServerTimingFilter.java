@@ -0,0 +1,51 @@
+package org.example.realworldapi.infrastructure.metrics.filter;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.example.realworldapi.infrastructure.metrics.timing.ServerTimingContext;
+import org.example.realworldapi.infrastructure.metrics.timing.ServerTimings;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.ext.Provider;
+
+@Provider
+@Priority(ResourceMetricsFilter.PRIORITY)
+public class ServerTimingFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+  public static final String SERVER_TIMING_HEADER = "Server-Timing";
+  public static final String REQUEST_HEADER = "X-Server-Timing";
+
+  @Inject
+  @ConfigProperty(name = "server-timing.enabled", defaultValue = "false")
+  boolean enabled;
+
+  @Inject
+  @ConfigProperty(name = "server-timing.on-request", defaultValue = "true")
+  boolean onRequest;
+
+  @Override
+  public void filter(ContainerRequestContext containerRequestContext) {
+    if (enabled || (onRequest && containerRequestContext.getHeaderString(REQUEST_HEADER) != null)) {
+      ServerTimingContext.begin();
+    } else {
+      ServerTimingContext.end();
+    }
+  }
+
+  @Override
+  public void filter(
+      ContainerRequestContext containerRequestContext,
+      ContainerResponseContext containerResponseContext) {
+
+    ServerTimings serverTimings = ServerTimingContext.end();
+    if (serverTimings != null) {
+      containerResponseContext
+          .getHeaders()
+          .putSingle(SERVER_TIMING_HEADER, serverTimings.toHeaderValue());
+    }
+  }
+}
@@ -0,0 +1,89 @@
+package org.example.realworldapi.infrastructure.metrics.filter;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.example.realworldapi.infrastructure.jdbc.SqlStatistics;
+import org.example.realworldapi.infrastructure.jdbc.SqlStatisticsContext;
+import org.jboss.logging.Logger;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.ext.Provider;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Provider
+@Priority(ResourceMetricsFilter.PRIORITY)
+public class SqlStatementBudgetFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+  public static final String STATEMENT_COUNT_HEADER = "X-SQL-Statement-Count";
+  public static final String STATEMENT_TIME_HEADER = "X-SQL-Statement-Time-Millis";
+
+  private static final Logger LOGGER = Logger.getLogger(SqlStatementBudgetFilter.class);
+
+  @Inject
+  @ConfigProperty(name = "sql.statistics.enabled", defaultValue = "false")
+  boolean enabled;
+
+  @Inject
+  @ConfigProperty(name = "sql.statement.budget", defaultValue = "30")
+  int statementBudget;
+
+  @Inject
+  @ConfigProperty(name = "sql.statement.repeated.threshold", defaultValue = "5")
+  int repeatedStatementThreshold;
+
+  @Override
+  public void filter(ContainerRequestContext containerRequestContext) {
+    if (enabled) {
+      SqlStatisticsContext.begin();
+    }
+  }
+
+  @Override
+  public void filter(
+      ContainerRequestContext containerRequestContext,
+      ContainerResponseContext containerResponseContext) {
+
+    if (!enabled) {
+      return;
+    }
+
+    SqlStatistics sqlStatistics = SqlStatisticsContext.end();
+
+    if (sqlStatistics == null) {
+      return;
+    }
+
+    double elapsedMillis =
+        sqlStatistics.getElapsedNanos() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+
+    containerResponseContext
+        .getHeaders()
+        .putSingle(STATEMENT_COUNT_HEADER, sqlStatistics.getStatementCount());
+    containerResponseContext
+        .getHeaders()
+        .putSingle(STATEMENT_TIME_HEADER, String.format("%.3f", elapsedMillis));
+
+    String request =
+        containerRequestContext.getMethod()
+            + " "
+            + containerRequestContext.getUriInfo().getRequestUri().getPath();
+
+    if (sqlStatistics.getStatementCount() > statementBudget) {
+      LOGGER.warnf(
+          "%s executed %d SQL statements in %.3f ms, budget is %d",
+          request, sqlStatistics.getStatementCount(), elapsedMillis, statementBudget);
+    }
+
+    for (Map.Entry<String, Integer> repeatedStatement :
+        sqlStatistics.getRepeatedStatements(repeatedStatementThreshold).entrySet()) {
+      LOGGER.warnf(
+          "%s executed the same SQL statement %d times, possible N+1 query: %s",
+          request, repeatedStatement.getValue(), repeatedStatement.getKey());
+    }
+  }
+}
@@ -0,0 +1,81 @@
+package org.example.realworldapi.infrastructure.metrics.gauge;
+
+import io.quarkus.runtime.StartupEvent;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.metrics.*;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.persistence.EntityManagerFactory;
+
+@ApplicationScoped
+public class HibernateCacheMetrics {
+
+  private static final String CACHE_PREFIX = "hibernate.cache.";
+  private static final String QUERY_CACHE_PREFIX = "hibernate.query-cache.";
+
+  private EntityManagerFactory entityManagerFactory;
+  private MetricRegistry metricRegistry;
+  private boolean enabled;
+
+  public HibernateCacheMetrics(
+      EntityManagerFactory entityManagerFactory,
+      MetricRegistry metricRegistry,
+      @ConfigProperty(name = "metrics.hibernate-cache.enabled", defaultValue = "false")
+          boolean enabled) {
+    this.entityManagerFactory = entityManagerFactory;
+    this.metricRegistry = metricRegistry;
+    this.enabled = enabled;
+  }
+
+  void onStart(@Observes StartupEvent startupEvent) {
+    if (!enabled) {
+      return;
+    }
+
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.setStatisticsEnabled(true);
+
+    for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+      register(
+          CACHE_PREFIX,
+          "Second-level cache",
+          statistics.getDomainDataRegionStatistics(regionName),
+          new Tag("region", regionName));
+    }
+
+    CacheRegionStatistics queryRegionStatistics =
+        statistics.getQueryRegionStatistics(
+            RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME);
+    if (queryRegionStatistics != null) {
+      register(QUERY_CACHE_PREFIX, "Query cache", queryRegionStatistics);
+    }
+  }
+
+  private void register(
+      String prefix, String cache, CacheRegionStatistics regionStatistics, Tag... tags) {
+    register(prefix + "hits", cache + " hits", regionStatistics::getHitCount, tags);
+    register(prefix + "misses", cache + " misses", regionStatistics::getMissCount, tags);
+    register(prefix + "puts", cache + " puts", regionStatistics::getPutCount, tags);
+    register(
+        prefix + "entries",
+        cache + " entries in memory",
+        regionStatistics::getElementCountInMemory,
+        tags);
+  }
+
+  private void register(String name, String description, Gauge<Long> gauge, Tag... tags) {
+    Metadata metadata =
+        Metadata.builder()
+            .withName(name)
+            .withType(MetricType.GAUGE)
+            .withUnit(MetricUnits.NONE)
+            .withDescription(description)
+            .build();
+    metricRegistry.register(metadata, gauge, tags);
+  }
+}
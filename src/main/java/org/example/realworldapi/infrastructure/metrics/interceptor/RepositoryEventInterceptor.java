@@ -0,0 +1,91 @@
+package org.example.realworldapi.infrastructure.metrics.interceptor;
+
+import org.example.realworldapi.infrastructure.metrics.annotation.Instrumented;
+import org.example.realworldapi.infrastructure.metrics.event.FlightRecorderSupport;
+import org.example.realworldapi.infrastructure.metrics.event.RepositoryCallEvent;
+
+import javax.annotation.Priority;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+import java.util.Collection;
+import java.util.Optional;
+
+@Instrumented
+@Interceptor
+@Priority(Interceptor.Priority.LIBRARY_BEFORE + 1)
+public class RepositoryEventInterceptor {
+
+  private static final int MAX_ARGUMENT_LENGTH = 100;
+
+  @AroundInvoke
+  public Object record(InvocationContext invocationContext) throws Exception {
+    if (!FlightRecorderSupport.AVAILABLE) {
+      return invocationContext.proceed();
+    }
+
+    RepositoryCallEvent event = new RepositoryCallEvent();
+
+    if (!event.isEnabled()) {
+      return invocationContext.proceed();
+    }
+
+    event.begin();
+    Object result = null;
+    try {
+      result = invocationContext.proceed();
+      return result;
+    } finally {
+      event.end();
+      if (event.shouldCommit()) {
+        event.setRepository(
+            RepositoryMetricsInterceptor.repositoryName(
+                invocationContext.getMethod().getDeclaringClass()));
+        event.setMethod(invocationContext.getMethod().getName());
+        event.setArguments(arguments(invocationContext.getParameters()));
+        event.setRows(rows(result));
+        event.commit();
+      }
+    }
+  }
+
+  private String arguments(Object[] parameters) {
+    StringBuilder arguments = new StringBuilder();
+    for (Object parameter : parameters) {
+      if (arguments.length() > 0) {
+        arguments.append(", ");
+      }
+      arguments.append(argument(parameter));
+    }
+    return arguments.toString();
+  }
+
+  private String argument(Object parameter) {
+    if (parameter == null || parameter instanceof Number || parameter instanceof Boolean) {
+      return String.valueOf(parameter);
+    }
+    if (parameter instanceof String) {
+      String value = (String) parameter;
+      return value.length() > MAX_ARGUMENT_LENGTH
+          ? value.substring(0, MAX_ARGUMENT_LENGTH) + "..."
+          : value;
+    }
+    if (parameter instanceof Collection) {
+      return parameter.getClass().getSimpleName() + "[" + ((Collection<?>) parameter).size() + "]";
+    }
+    return parameter.getClass().getSimpleName();
+  }
+
+  private int rows(Object result) {
+    if (result == null) {
+      return 0;
+    }
+    if (result instanceof Collection) {
+      return ((Collection<?>) result).size();
+    }
+    if (result instanceof Optional) {
+      return ((Optional<?>) result).isPresent() ? 1 : 0;
+    }
+    return 1;
+  }
+}
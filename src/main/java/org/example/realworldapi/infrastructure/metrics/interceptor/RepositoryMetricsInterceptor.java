@@ -0,0 +1,90 @@
+package org.example.realworldapi.infrastructure.metrics.interceptor;
+
+import org.eclipse.microprofile.metrics.*;
+import org.example.realworldapi.infrastructure.jdbc.RepositoryCallContext;
+import org.example.realworldapi.infrastructure.metrics.annotation.Instrumented;
+import org.example.realworldapi.infrastructure.metrics.timing.ServerTimingContext;
+import org.example.realworldapi.infrastructure.metrics.timing.ServerTimingPhase;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+@Instrumented
+@Interceptor
+@Priority(Interceptor.Priority.LIBRARY_BEFORE)
+public class RepositoryMetricsInterceptor {
+
+  private static final String METRIC_NAME = "repository.calls";
+  private static final String REPOSITORY_SUFFIX = "Repository";
+
+  private final Metadata metadata =
+      Metadata.builder()
+          .withName(METRIC_NAME)
+          .withType(MetricType.TIMER)
+          .withUnit(MetricUnits.NANOSECONDS)
+          .withDescription("Repository method latency")
+          .build();
+
+  private final ConcurrentMap<Method, RepositoryMethod> repositoryMethods =
+      new ConcurrentHashMap<>();
+
+  @Inject MetricRegistry metricRegistry;
+
+  @AroundInvoke
+  public Object time(InvocationContext invocationContext) throws Exception {
+    RepositoryMethod repositoryMethod = repositoryMethod(invocationContext.getMethod());
+    String previousCall = RepositoryCallContext.enter(repositoryMethod.name);
+    ServerTimingContext.start(ServerTimingPhase.DB);
+    long start = System.nanoTime();
+    try {
+      return invocationContext.proceed();
+    } finally {
+      repositoryMethod.timer.update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      ServerTimingContext.stop();
+      RepositoryCallContext.exit(previousCall);
+    }
+  }
+
+  private RepositoryMethod repositoryMethod(Method method) {
+    RepositoryMethod repositoryMethod = repositoryMethods.get(method);
+    if (repositoryMethod == null) {
+      repositoryMethod = repositoryMethods.computeIfAbsent(method, this::register);
+    }
+    return repositoryMethod;
+  }
+
+  private RepositoryMethod register(Method method) {
+    String repositoryName = repositoryName(method.getDeclaringClass());
+    Timer timer =
+        metricRegistry.timer(
+            metadata, new Tag("repository", repositoryName), new Tag("method", method.getName()));
+    return new RepositoryMethod(repositoryName + "." + method.getName(), timer);
+  }
+
+  static String repositoryName(Class<?> repositoryClass) {
+    for (Class<?> repositoryInterface : repositoryClass.getInterfaces()) {
+      if (repositoryInterface.getSimpleName().endsWith(REPOSITORY_SUFFIX)) {
+        return repositoryInterface.getSimpleName();
+      }
+    }
+    return repositoryClass.getSimpleName();
+  }
+
+  private static class RepositoryMethod {
+
+    private final String name;
+    private final Timer timer;
+
+    private RepositoryMethod(String name, Timer timer) {
+      this.name = name;
+      this.timer = timer;
+    }
+  }
+}
@@ -0,0 +1,47 @@
+package org.example.realworldapi.infrastructure.metrics.interceptor;
+
+import org.example.realworldapi.infrastructure.metrics.annotation.ServerTimed;
+import org.example.realworldapi.infrastructure.metrics.timing.ServerTimingContext;
+import org.example.realworldapi.infrastructure.metrics.timing.ServerTimingPhase;
+
+import javax.annotation.Priority;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@ServerTimed(ServerTimingPhase.HYDRATION)
+@Interceptor
+@Priority(Interceptor.Priority.LIBRARY_BEFORE)
+public class ServerTimingInterceptor {
+
+  private final ConcurrentMap<Method, ServerTimingPhase> phases = new ConcurrentHashMap<>();
+
+  @AroundInvoke
+  public Object time(InvocationContext invocationContext) throws Exception {
+    ServerTimingContext.start(phase(invocationContext.getMethod()));
+    try {
+      return invocationContext.proceed();
+    } finally {
+      ServerTimingContext.stop();
+    }
+  }
+
+  private ServerTimingPhase phase(Method method) {
+    ServerTimingPhase phase = phases.get(method);
+    if (phase == null) {
+      phase = phases.computeIfAbsent(method, this::resolvePhase);
+    }
+    return phase;
+  }
+
+  private ServerTimingPhase resolvePhase(Method method) {
+    ServerTimed serverTimed = method.getAnnotation(ServerTimed.class);
+    if (serverTimed == null) {
+      serverTimed = method.getDeclaringClass().getAnnotation(ServerTimed.class);
+    }
+    return serverTimed.value();
+  }
+}
@@ -0,0 +1,52 @@
+package org.example.realworldapi.infrastructure.metrics.timing;
+
+public final class ServerTimingContext {
+
+  private static final ThreadLocal<ServerTimings> CURRENT = new ThreadLocal<>();
+
+  private ServerTimingContext() {}
+
+  public static void begin() {
+    CURRENT.set(new ServerTimings());
+  }
+
+  public static ServerTimings current() {
+    return CURRENT.get();
+  }
+
+  public static ServerTimings end() {
+    ServerTimings serverTimings = CURRENT.get();
+    CURRENT.remove();
+    return serverTimings;
+  }
+
+  public static void start(ServerTimingPhase phase) {
+    ServerTimings serverTimings = CURRENT.get();
+    if (serverTimings != null) {
+      serverTimings.start(phase);
+    }
+  }
+
+  public static void stop() {
+    ServerTimings serverTimings = CURRENT.get();
+    if (serverTimings != null) {
+      serverTimings.stop();
+    }
+  }
+
+  public static <T, E extends Exception> T time(ServerTimingPhase phase, TimedCall<T, E> call)
+      throws E {
+    start(phase);
+    try {
+      return call.call();
+    } finally {
+      stop();
+    }
+  }
+
+  @FunctionalInterface
+  public interface TimedCall<T, E extends Exception> {
+
+    T call() throws E;
+  }
+}
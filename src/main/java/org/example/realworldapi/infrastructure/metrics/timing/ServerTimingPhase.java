@@ -0,0 +1,18 @@
+package org.example.realworldapi.infrastructure.metrics.timing;
+
+public enum ServerTimingPhase {
+  AUTH("auth"),
+  DB("db"),
+  HYDRATION("hydration"),
+  SERIALIZATION("serialization");
+
+  private final String metricName;
+
+  ServerTimingPhase(String metricName) {
+    this.metricName = metricName;
+  }
+
+  public String getMetricName() {
+    return metricName;
+  }
+}
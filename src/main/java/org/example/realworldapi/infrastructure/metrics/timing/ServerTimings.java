@@ -0,0 +1,70 @@
+package org.example.realworldapi.infrastructure.metrics.timing;
+
+import java.util.concurrent.TimeUnit;
+
+public class ServerTimings {
+
+  private static final ServerTimingPhase[] PHASES = ServerTimingPhase.values();
+  private static final int MAX_DEPTH = 8;
+  private static final String TOTAL = "total";
+  private static final long NANOS_PER_MICRO = TimeUnit.MICROSECONDS.toNanos(1);
+
+  private final long requestStart = System.nanoTime();
+  private final long[] elapsedNanos = new long[PHASES.length];
+  private final int[] runningPhases = new int[MAX_DEPTH];
+  private int depth;
+  private long phaseStart;
+
+  void start(ServerTimingPhase phase) {
+    if (depth >= MAX_DEPTH) {
+      depth++;
+      return;
+    }
+    long now = System.nanoTime();
+    if (depth > 0) {
+      elapsedNanos[runningPhases[depth - 1]] += now - phaseStart;
+    }
+    runningPhases[depth++] = phase.ordinal();
+    phaseStart = now;
+  }
+
+  void stop() {
+    if (depth == 0) {
+      return;
+    }
+    if (depth > MAX_DEPTH) {
+      depth--;
+      return;
+    }
+    long now = System.nanoTime();
+    elapsedNanos[runningPhases[--depth]] += now - phaseStart;
+    phaseStart = now;
+  }
+
+  public long getElapsedNanos(ServerTimingPhase phase) {
+    return elapsedNanos[phase.ordinal()];
+  }
+
+  public String toHeaderValue() {
+    StringBuilder headerValue = new StringBuilder(128);
+    for (ServerTimingPhase phase : PHASES) {
+      appendMetric(headerValue, phase.getMetricName(), elapsedNanos[phase.ordinal()]);
+      headerValue.append(", ");
+    }
+    appendMetric(headerValue, TOTAL, System.nanoTime() - requestStart);
+    return headerValue.toString();
+  }
+
+  private void appendMetric(StringBuilder headerValue, String name, long nanos) {
+    long micros = nanos / NANOS_PER_MICRO;
+    long fraction = micros % 1000;
+    headerValue.append(name).append(";dur=").append(micros / 1000).append('.');
+    if (fraction < 100) {
+      headerValue.append('0');
+    }
+    if (fraction < 10) {
+      headerValue.append('0');
+    }
+    headerValue.append(fraction);
+  }
+}
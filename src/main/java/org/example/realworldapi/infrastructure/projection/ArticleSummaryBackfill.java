@@ -0,0 +1,67 @@
+package org.example.realworldapi.infrastructure.projection;
+
+import io.quarkus.runtime.StartupEvent;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.example.realworldapi.domain.model.repository.ArticleSummaryRepository;
+import org.jboss.logging.Logger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.transaction.Transactional;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@ApplicationScoped
+public class ArticleSummaryBackfill {
+
+  private static final Logger LOGGER = Logger.getLogger(ArticleSummaryBackfill.class);
+
+  private ArticleSummaryRepository articleSummaryRepository;
+  private boolean backfillOnStart;
+  private int batchSize;
+
+  public ArticleSummaryBackfill(
+      ArticleSummaryRepository articleSummaryRepository,
+      @ConfigProperty(name = "article-summary.backfill-on-start", defaultValue = "true")
+          boolean backfillOnStart,
+      @ConfigProperty(name = "article-summary.batch-size", defaultValue = "500") int batchSize) {
+    this.articleSummaryRepository = articleSummaryRepository;
+    this.backfillOnStart = backfillOnStart;
+    this.batchSize = batchSize;
+  }
+
+  void onStart(@Observes StartupEvent startupEvent) {
+    if (backfillOnStart) {
+      backfill();
+    }
+  }
+
+  public void backfill() {
+    long start = System.nanoTime();
+    int backfilled = 0;
+    int refreshed;
+    do {
+      refreshed = backfillBatch();
+      backfilled += refreshed;
+    } while (refreshed == batchSize);
+    if (backfilled > 0) {
+      LOGGER.infof(
+          "Backfilled %d article summaries in %d ms",
+          backfilled,
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+  }
+
+  @Transactional
+  int backfillBatch() {
+    List<Long> articleIds = articleSummaryRepository.findMissingArticleIds(batchSize);
+    articleIds.forEach(articleSummaryRepository::refresh);
+    return articleIds.size();
+  }
+
+  @Transactional
+  public void refresh(Collection<Long> articleIds) {
+    articleIds.forEach(articleSummaryRepository::refresh);
+  }
+}
@@ -37,7 +37,22 @@ public class JwtTokenProvider implements TokenProvider {
   }
 
   @Override
-  public String createUserToken(String subject) {
+  public String createUserToken(String subject, boolean admin) {
+    return admin ? createToken(subject, Role.USER, Role.ADMIN) : createToken(subject, Role.USER);
+  }
+
+  @Override
+  public DecodedJWT verify(String token) {
+    return jwtVerifier.verify(token);
+  }
+
+  @Override
+  public Role[] extractRoles(DecodedJWT decodedJWT) {
+    Claim claim = decodedJWT.getClaim(CLAIM_ROLES);
+    return claim.asArray(Role.class);
+  }
+
+  private String createToken(String subject, Role... roles) {
     JWTCreator.Builder builder;
 
     builder =
@@ -47,7 +62,7 @@ public class JwtTokenProvider implements TokenProvider {
             .withIssuedAt(new Date())
             .withClaim(COMPLEMENTARY_SUBSCRIPTION, UUID.randomUUID().toString());
 
-    builder.withArrayClaim(CLAIM_ROLES, toArrayNames(Role.USER));
+    builder.withArrayClaim(CLAIM_ROLES, toArrayNames(roles));
 
     if (expirationTimeInMinutes != null) {
       builder.withExpiresAt(plusMinutes(expirationTimeInMinutes));
@@ -56,17 +71,6 @@ public class JwtTokenProvider implements TokenProvider {
     return builder.sign(algorithm);
   }
 
-  @Override
-  public DecodedJWT verify(String token) {
-    return jwtVerifier.verify(token);
-  }
-
-  @Override
-  public Role[] extractRoles(DecodedJWT decodedJWT) {
-    Claim claim = decodedJWT.getClaim(CLAIM_ROLES);
-    return claim.asArray(Role.class);
-  }
-
   private static String[] toArrayNames(Role... allowedRoles) {
 
     String[] names = new String[allowedRoles.length];
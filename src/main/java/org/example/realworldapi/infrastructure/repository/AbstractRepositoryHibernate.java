@@ -43,6 +43,15 @@ public abstract class AbstractRepositoryHibernate<T, ID> {
     }
   }
 
+  protected <E> E getCachedSingleResult(CriteriaQuery<E> criteriaQuery) {
+    Query<E> query = getHibernateSession().createQuery(criteriaQuery).setCacheable(true);
+    try {
+      return query.getSingleResult();
+    } catch (NoResultException noResultException) {
+      return null;
+    }
+  }
+
   protected <E> List<E> getResultList(CriteriaQuery<E> criteriaQuery) {
     TypedQuery<E> query = getHibernateSession().createQuery(criteriaQuery);
     try {
@@ -52,6 +61,10 @@ public abstract class AbstractRepositoryHibernate<T, ID> {
     }
   }
 
+  protected <E> List<E> getCachedResultList(CriteriaQuery<E> criteriaQuery) {
+    return getHibernateSession().createQuery(criteriaQuery).setCacheable(true).getResultList();
+  }
+
   protected <E> List<E> getPagedResultList(CriteriaQuery<E> criteriaQuery, int offset, int limit) {
     TypedQuery<E> query =
         getHibernateSession()
@@ -1,111 +1,53 @@
 package org.example.realworldapi.infrastructure.repository;
 
 import org.example.realworldapi.domain.model.entity.persistent.*;
+import org.example.realworldapi.domain.model.exception.SlugAlreadyExistsException;
 import org.example.realworldapi.domain.model.repository.ArticleRepository;
+import org.example.realworldapi.infrastructure.metrics.annotation.Instrumented;
+import org.hibernate.exception.ConstraintViolationException;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.persistence.EntityManager;
+import javax.persistence.PersistenceException;
 import javax.persistence.criteria.*;
-import java.util.LinkedList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
+@Instrumented
 @ApplicationScoped
 public class ArticleRepositoryHibernate extends AbstractRepositoryHibernate<Article, Long>
     implements ArticleRepository {
 
+  private static final String SLUG_UNIQUE_CONSTRAINT = "UK_ARTICLES_SLUG";
+  private static final String SLUG_SUFFIX_PATTERN = "-%";
+
   private EntityManager entityManager;
 
   public ArticleRepositoryHibernate(EntityManager entityManager) {
     this.entityManager = entityManager;
   }
 
-  @Override
-  public List<Article> findArticles(
-      int offset, int limit, List<String> tags, List<String> authors, List<String> favorited) {
-
-    CriteriaBuilder builder = getCriteriaBuilder();
-    CriteriaQuery<Article> criteriaQuery = getCriteriaQuery(builder);
-    Root<Article> article = getRoot(criteriaQuery);
-
-    criteriaQuery.select(article);
-
-    List<Predicate> predicates = new LinkedList<>();
-
-    if (isNotEmpty(tags)) {
-      ListJoin<Article, ArticlesTags> articlesTags = article.joinList("tags");
-      Join<ArticlesTags, Tag> tag = articlesTags.join("primaryKey").join("tag");
-      predicates.add(builder.upper(tag.get("name")).in(toUpperCase(tags)));
-    }
-
-    if (isNotEmpty(authors)) {
-      Join<Article, User> author = article.join("author");
-      predicates.add(builder.upper(author.get("username")).in(toUpperCase(authors)));
-    }
-
-    if (isNotEmpty(favorited)) {
-      ListJoin<Article, ArticlesUsers> articlesUsers = article.joinList("favorites");
-      Join<ArticlesUsers, User> userWhoFavorited = articlesUsers.join("primaryKey").join("user");
-      predicates.add(builder.upper(userWhoFavorited.get("username")).in(toUpperCase(favorited)));
-    }
-
-    criteriaQuery.where(builder.and(predicates.toArray(new Predicate[0])));
-
-    criteriaQuery.orderBy(builder.desc(article.get("updatedAt")));
-
-    return getPagedResultList(criteriaQuery, offset, limit);
-  }
-
-  @Override
-  public int count(List<String> tags, List<String> authors, List<String> favorited) {
-
-    CriteriaBuilder builder = getCriteriaBuilder();
-    CriteriaQuery<Long> criteriaQuery = getCriteriaQuery(builder, Long.class);
-    Root<Article> article = getRoot(criteriaQuery, Article.class);
-
-    criteriaQuery.select(builder.count(article));
-
-    List<Predicate> predicates = new LinkedList<>();
-
-    if (isNotEmpty(tags)) {
-      ListJoin<Article, ArticlesTags> articlesTags = article.joinList("tags");
-      Join<ArticlesTags, Tag> tag = articlesTags.join("primaryKey").join("tag");
-      predicates.add(builder.upper(tag.get("name")).in(toUpperCase(tags)));
-    }
-
-    if (isNotEmpty(authors)) {
-      Join<Article, User> author = article.join("author");
-      predicates.add(builder.upper(author.get("username")).in(toUpperCase(authors)));
-    }
-
-    if (isNotEmpty(favorited)) {
-      ListJoin<Article, ArticlesUsers> articlesUsers = article.joinList("favorites");
-      Join<ArticlesUsers, User> userWhoFavorited = articlesUsers.join("primaryKey").join("user");
-      predicates.add(builder.upper(userWhoFavorited.get("username")).in(toUpperCase(favorited)));
-    }
-
-    criteriaQuery.where(builder.and(predicates.toArray(new Predicate[0])));
-
-    return getSingleResult(criteriaQuery).intValue();
-  }
-
   @Override
   public Article create(Article article) {
-    return persist(article);
+    entityManager.persist(article);
+    flush();
+    return article;
   }
 
   @Override
-  public boolean existsBySlug(String slug) {
+  public List<String> findSlugs(String baseSlug) {
     CriteriaBuilder builder = getCriteriaBuilder();
-    CriteriaQuery<Long> criteriaQuery = getCriteriaQuery(builder, Long.class);
+    CriteriaQuery<String> criteriaQuery = getCriteriaQuery(builder, String.class);
     Root<Article> article = getRoot(criteriaQuery, Article.class);
 
-    criteriaQuery.select(builder.count(article));
+    criteriaQuery.select(article.get("slug"));
     criteriaQuery.where(
-        builder.equal(builder.upper(article.get("slug")), slug.toUpperCase().trim()));
+        builder.or(
+            builder.equal(article.get("slug"), baseSlug),
+            builder.like(article.get("slug"), escapeLike(baseSlug) + SLUG_SUFFIX_PATTERN, '\\')));
 
-    return getSingleResult(criteriaQuery).intValue() > 0;
+    return getResultList(criteriaQuery);
   }
 
   @Override
@@ -116,12 +58,14 @@ public class ArticleRepositoryHibernate extends AbstractRepositoryHibernate<Arti
     criteriaQuery.select(article);
     criteriaQuery.where(
         builder.equal(builder.upper(article.get("slug")), slug.toUpperCase().trim()));
-    return Optional.ofNullable(getSingleResult(criteriaQuery));
+    return Optional.ofNullable(getCachedSingleResult(criteriaQuery));
   }
 
   @Override
   public Article update(Article article) {
-    return entityManager.merge(article);
+    Article updatedArticle = entityManager.merge(article);
+    flush();
+    return updatedArticle;
   }
 
   @Override
@@ -144,26 +88,50 @@ public class ArticleRepositoryHibernate extends AbstractRepositoryHibernate<Arti
   }
 
   @Override
-  public List<Comment> findComments(Long articleId) {
-
+  public List<Article> findByIds(Collection<Long> ids) {
     CriteriaBuilder builder = getCriteriaBuilder();
-    CriteriaQuery<Comment> criteriaQuery = getCriteriaQuery(builder, Comment.class);
-    Root<Article> article = getRoot(criteriaQuery, Article.class);
-
-    ListJoin<Article, Comment> comment = article.joinList("comments");
+    CriteriaQuery<Article> criteriaQuery = getCriteriaQuery(builder);
+    Root<Article> article = getRoot(criteriaQuery);
+    criteriaQuery.select(article);
+    criteriaQuery.where(article.get("id").in(ids));
+    return getResultList(criteriaQuery);
+  }
 
-    criteriaQuery.select(comment);
-    criteriaQuery.where(builder.equal(article.get("id"), articleId));
+  @Override
+  public List<Article> findAfterId(Long afterId, int limit) {
+    CriteriaBuilder builder = getCriteriaBuilder();
+    CriteriaQuery<Article> criteriaQuery = getCriteriaQuery(builder);
+    Root<Article> article = getRoot(criteriaQuery);
+    criteriaQuery.select(article);
+    if (afterId != null) {
+      criteriaQuery.where(builder.greaterThan(article.get("id"), afterId));
+    }
+    criteriaQuery.orderBy(builder.asc(article.get("id")));
+    return getPagedResultList(criteriaQuery, 0, limit);
+  }
 
-    return getResultList(criteriaQuery);
+  private void flush() {
+    try {
+      entityManager.flush();
+    } catch (PersistenceException ex) {
+      if (isSlugConstraintViolation(ex)) {
+        throw new SlugAlreadyExistsException();
+      }
+      throw ex;
+    }
   }
 
-  private List<String> toUpperCase(List<String> tags) {
-    return tags.stream().map(String::toUpperCase).collect(Collectors.toList());
+  private boolean isSlugConstraintViolation(PersistenceException ex) {
+    if (!(ex.getCause() instanceof ConstraintViolationException)) {
+      return false;
+    }
+    String constraintName = ((ConstraintViolationException) ex.getCause()).getConstraintName();
+    return constraintName != null
+        && constraintName.toUpperCase().contains(SLUG_UNIQUE_CONSTRAINT);
   }
 
-  private boolean isNotEmpty(List<?> list) {
-    return list != null && !list.isEmpty();
+  private String escapeLike(String value) {
+    return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
   }
 
   @Override
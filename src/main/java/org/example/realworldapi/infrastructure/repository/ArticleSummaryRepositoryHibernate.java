@@ -0,0 +1,339 @@
+package org.example.realworldapi.infrastructure.repository;
+
+import org.example.realworldapi.domain.model.entity.persistent.*;
+import org.example.realworldapi.domain.model.repository.ArticleSummaryRepository;
+import org.example.realworldapi.domain.model.search.TagMode;
+import org.example.realworldapi.infrastructure.metrics.annotation.Instrumented;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.*;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Instrumented
+@ApplicationScoped
+public class ArticleSummaryRepositoryHibernate
+    extends AbstractRepositoryHibernate<ArticleSummary, Long> implements ArticleSummaryRepository {
+
+  private EntityManager entityManager;
+
+  public ArticleSummaryRepositoryHibernate(EntityManager entityManager) {
+    this.entityManager = entityManager;
+  }
+
+  @Override
+  public List<ArticleSummary> findArticles(
+      int offset,
+      int limit,
+      List<String> tags,
+      TagMode tagMode,
+      List<String> authors,
+      List<String> favorited) {
+
+    Optional<ArticleFilter> filter = resolveFilter(tags, tagMode, authors, favorited);
+
+    if (!filter.isPresent()) {
+      return new LinkedList<>();
+    }
+
+    CriteriaBuilder builder = getCriteriaBuilder();
+    CriteriaQuery<ArticleSummary> criteriaQuery = getCriteriaQuery(builder);
+    Root<ArticleSummary> summary = getRoot(criteriaQuery);
+
+    criteriaQuery.select(summary);
+
+    criteriaQuery.where(filter.get().toPredicates(builder, criteriaQuery, summary));
+
+    criteriaQuery.orderBy(builder.desc(summary.get("updatedAt")));
+
+    return getPagedResultList(criteriaQuery, offset, limit);
+  }
+
+  @Override
+  public int count(
+      List<String> tags, TagMode tagMode, List<String> authors, List<String> favorited) {
+
+    Optional<ArticleFilter> filter = resolveFilter(tags, tagMode, authors, favorited);
+
+    if (!filter.isPresent()) {
+      return 0;
+    }
+
+    CriteriaBuilder builder = getCriteriaBuilder();
+    CriteriaQuery<Long> criteriaQuery = getCriteriaQuery(builder, Long.class);
+    Root<ArticleSummary> summary = getRoot(criteriaQuery, ArticleSummary.class);
+
+    criteriaQuery.select(builder.count(summary));
+
+    criteriaQuery.where(filter.get().toPredicates(builder, criteriaQuery, summary));
+
+    return getSingleResult(criteriaQuery).intValue();
+  }
+
+  @Override
+  public List<ArticleSummary> findFeed(Long loggedUserId, int offset, int limit) {
+    CriteriaBuilder builder = getCriteriaBuilder();
+    CriteriaQuery<ArticleSummary> criteriaQuery = getCriteriaQuery(builder);
+    Root<ArticleSummary> summary = getRoot(criteriaQuery);
+    criteriaQuery.select(summary);
+    criteriaQuery.where(
+        summary.get("authorId").in(followedUserIds(criteriaQuery, builder, loggedUserId)));
+    criteriaQuery.orderBy(builder.desc(summary.get("updatedAt")));
+    return getPagedResultList(criteriaQuery, offset, limit);
+  }
+
+  @Override
+  public int countFeed(Long loggedUserId) {
+    CriteriaBuilder builder = getCriteriaBuilder();
+    CriteriaQuery<Long> criteriaQuery = getCriteriaQuery(builder, Long.class);
+    Root<ArticleSummary> summary = getRoot(criteriaQuery, ArticleSummary.class);
+    criteriaQuery.select(builder.count(summary));
+    criteriaQuery.where(
+        summary.get("authorId").in(followedUserIds(criteriaQuery, builder, loggedUserId)));
+    return getSingleResult(criteriaQuery).intValue();
+  }
+
+  @Override
+  public List<ArticleSummary> findByIds(Collection<Long> articleIds) {
+    CriteriaBuilder builder = getCriteriaBuilder();
+    CriteriaQuery<ArticleSummary> criteriaQuery = getCriteriaQuery(builder);
+    Root<ArticleSummary> summary = getRoot(criteriaQuery);
+    criteriaQuery.select(summary);
+    criteriaQuery.where(summary.get("articleId").in(articleIds));
+    return getResultList(criteriaQuery);
+  }
+
+  @Override
+  public List<Long> findMissingArticleIds(int limit) {
+    CriteriaBuilder builder = getCriteriaBuilder();
+    CriteriaQuery<Long> criteriaQuery = getCriteriaQuery(builder, Long.class);
+    Root<Article> article = getRoot(criteriaQuery, Article.class);
+    Subquery<Long> summaries = criteriaQuery.subquery(Long.class);
+    Root<ArticleSummary> summary = summaries.from(ArticleSummary.class);
+    summaries.select(summary.get("articleId"));
+    summaries.where(builder.equal(summary.get("articleId"), article.get("id")));
+    criteriaQuery.select(article.get("id"));
+    criteriaQuery.where(builder.not(builder.exists(summaries)));
+    criteriaQuery.orderBy(builder.asc(article.get("id")));
+    return getPagedResultList(criteriaQuery, 0, limit);
+  }
+
+  @Override
+  public void refresh(Long articleId) {
+    Article article = entityManager.find(Article.class, articleId);
+    if (article == null) {
+      delete(articleId);
+      return;
+    }
+    ArticleSummary summary = entityManager.find(ArticleSummary.class, articleId);
+    if (summary == null) {
+      summary = new ArticleSummary();
+      summary.setArticleId(articleId);
+      entityManager.persist(summary);
+    }
+    User author = article.getAuthor();
+    summary.setSlug(article.getSlug());
+    summary.setTitle(article.getTitle());
+    summary.setDescription(article.getDescription());
+    summary.setBody(article.getBody());
+    summary.setTags(findTagNames(articleId));
+    summary.setFavoritesCount(countFavorites(articleId));
+    summary.setCreatedAt(article.getCreatedAt());
+    summary.setUpdatedAt(article.getUpdatedAt());
+    summary.setAuthorId(author.getId());
+    summary.setAuthorUsername(author.getUsername());
+    summary.setAuthorBio(author.getBio());
+    summary.setAuthorImage(author.getImage());
+  }
+
+  @Override
+  public void updateFavoritesCount(Long articleId, int delta) {
+    CriteriaBuilder builder = getCriteriaBuilder();
+    CriteriaUpdate<ArticleSummary> criteriaUpdate =
+        builder.createCriteriaUpdate(ArticleSummary.class);
+    Root<ArticleSummary> summary = criteriaUpdate.from(ArticleSummary.class);
+    Path<Integer> favoritesCount = summary.get("favoritesCount");
+    criteriaUpdate.set(favoritesCount, builder.sum(favoritesCount, delta));
+    criteriaUpdate.where(builder.equal(summary.get("articleId"), articleId));
+    entityManager.createQuery(criteriaUpdate).executeUpdate();
+  }
+
+  @Override
+  public void updateAuthor(Long authorId, String username, String bio, String image) {
+    CriteriaBuilder builder = getCriteriaBuilder();
+    CriteriaUpdate<ArticleSummary> criteriaUpdate =
+        builder.createCriteriaUpdate(ArticleSummary.class);
+    Root<ArticleSummary> summary = criteriaUpdate.from(ArticleSummary.class);
+    criteriaUpdate.set(summary.get("authorUsername"), username);
+    criteriaUpdate.set(summary.get("authorBio"), bio);
+    criteriaUpdate.set(summary.get("authorImage"), image);
+    criteriaUpdate.where(builder.equal(summary.get("authorId"), authorId));
+    entityManager.createQuery(criteriaUpdate).executeUpdate();
+  }
+
+  @Override
+  public void delete(Long articleId) {
+    CriteriaBuilder builder = getCriteriaBuilder();
+    CriteriaDelete<ArticleSummary> criteriaDelete =
+        builder.createCriteriaDelete(ArticleSummary.class);
+    Root<ArticleSummary> summary = criteriaDelete.from(ArticleSummary.class);
+    criteriaDelete.where(builder.equal(summary.get("articleId"), articleId));
+    entityManager.createQuery(criteriaDelete).executeUpdate();
+  }
+
+  private Subquery<Long> followedUserIds(
+      CriteriaQuery<?> criteriaQuery, CriteriaBuilder builder, Long loggedUserId) {
+    Subquery<Long> followedUserIds = criteriaQuery.subquery(Long.class);
+    Path<UsersFollowersKey> usersFollowersKey =
+        followedUserIds.from(UsersFollowers.class).get("primaryKey");
+    followedUserIds.select(usersFollowersKey.get("follower").get("id"));
+    followedUserIds.where(builder.equal(usersFollowersKey.get("user").get("id"), loggedUserId));
+    return followedUserIds;
+  }
+
+  private List<String> findTagNames(Long articleId) {
+    CriteriaBuilder builder = getCriteriaBuilder();
+    CriteriaQuery<String> criteriaQuery = getCriteriaQuery(builder, String.class);
+    Root<ArticlesTags> articlesTags = getRoot(criteriaQuery, ArticlesTags.class);
+    Path<ArticlesTagsKey> articlesTagsKey = articlesTags.get("primaryKey");
+    criteriaQuery.select(articlesTagsKey.get("tag").get("name"));
+    criteriaQuery.where(builder.equal(articlesTagsKey.get("article").get("id"), articleId));
+    return getResultList(criteriaQuery);
+  }
+
+  private int countFavorites(Long articleId) {
+    CriteriaBuilder builder = getCriteriaBuilder();
+    CriteriaQuery<Long> criteriaQuery = getCriteriaQuery(builder, Long.class);
+    Root<ArticlesUsers> articlesUsers = getRoot(criteriaQuery, ArticlesUsers.class);
+    Path<ArticlesUsersKey> articlesUsersKey = articlesUsers.get("primaryKey");
+    criteriaQuery.select(builder.count(articlesUsers));
+    criteriaQuery.where(builder.equal(articlesUsersKey.get("article").get("id"), articleId));
+    return getSingleResult(criteriaQuery).intValue();
+  }
+
+  private Optional<ArticleFilter> resolveFilter(
+      List<String> tags, TagMode tagMode, List<String> authors, List<String> favorited) {
+
+    ArticleFilter filter = new ArticleFilter();
+
+    if (isNotEmpty(tags)) {
+      Map<String, List<Long>> tagIds = findTagIds(tags);
+      if (tagMode == TagMode.ALL) {
+        for (String tagName : new LinkedHashSet<>(toUpperCase(tags))) {
+          if (!tagIds.containsKey(tagName)) {
+            return Optional.empty();
+          }
+          filter.tagIds.add(tagIds.get(tagName));
+        }
+      } else if (tagIds.isEmpty()) {
+        return Optional.empty();
+      } else {
+        filter.tagIds.add(
+            tagIds.values().stream().flatMap(List::stream).collect(Collectors.toList()));
+      }
+    }
+
+    if (isNotEmpty(authors)) {
+      filter.authorIds = findUserIds(authors);
+      if (filter.authorIds.isEmpty()) {
+        return Optional.empty();
+      }
+    }
+
+    if (isNotEmpty(favorited)) {
+      filter.favoritedByIds = findUserIds(favorited);
+      if (filter.favoritedByIds.isEmpty()) {
+        return Optional.empty();
+      }
+    }
+
+    return Optional.of(filter);
+  }
+
+  private Map<String, List<Long>> findTagIds(List<String> tagNames) {
+    CriteriaBuilder builder = getCriteriaBuilder();
+    CriteriaQuery<Object[]> criteriaQuery = getCriteriaQuery(builder, Object[].class);
+    Root<Tag> tag = getRoot(criteriaQuery, Tag.class);
+    Expression<String> name = builder.upper(tag.get("name"));
+    criteriaQuery.multiselect(tag.get("id"), name);
+    criteriaQuery.where(name.in(toUpperCase(tagNames)));
+    return getResultList(criteriaQuery).stream()
+        .collect(
+            Collectors.groupingBy(
+                row -> (String) row[1],
+                Collectors.mapping(row -> (Long) row[0], Collectors.toList())));
+  }
+
+  private List<Long> findUserIds(List<String> usernames) {
+    CriteriaBuilder builder = getCriteriaBuilder();
+    CriteriaQuery<Long> criteriaQuery = getCriteriaQuery(builder, Long.class);
+    Root<User> user = getRoot(criteriaQuery, User.class);
+    criteriaQuery.select(user.get("id"));
+    criteriaQuery.where(builder.upper(user.get("username")).in(toUpperCase(usernames)));
+    return getResultList(criteriaQuery);
+  }
+
+  private List<String> toUpperCase(List<String> tags) {
+    return tags.stream().map(String::toUpperCase).collect(Collectors.toList());
+  }
+
+  private boolean isNotEmpty(List<?> list) {
+    return list != null && !list.isEmpty();
+  }
+
+  @Override
+  EntityManager getEntityManager() {
+    return this.entityManager;
+  }
+
+  @Override
+  Class<ArticleSummary> getEntityClass() {
+    return ArticleSummary.class;
+  }
+
+  private static class ArticleFilter {
+    private final List<List<Long>> tagIds = new LinkedList<>();
+    private List<Long> authorIds;
+    private List<Long> favoritedByIds;
+
+    private Predicate[] toPredicates(
+        CriteriaBuilder builder, CriteriaQuery<?> criteriaQuery, Root<ArticleSummary> summary) {
+
+      List<Predicate> predicates = new LinkedList<>();
+
+      for (List<Long> anyOfTagIds : tagIds) {
+        Subquery<Long> articlesTagged = criteriaQuery.subquery(Long.class);
+        Path<ArticlesTagsKey> articlesTagsKey =
+            articlesTagged.from(ArticlesTags.class).get("primaryKey");
+        articlesTagged.select(articlesTagsKey.get("tag").get("id"));
+        articlesTagged.where(
+            builder.equal(articlesTagsKey.get("article").get("id"), summary.get("articleId")),
+            articlesTagsKey.get("tag").get("id").in(anyOfTagIds));
+        predicates.add(builder.exists(articlesTagged));
+      }
+
+      if (authorIds != null) {
+        predicates.add(summary.get("authorId").in(authorIds));
+      }
+
+      if (favoritedByIds != null) {
+        Subquery<Long> articlesFavorited = criteriaQuery.subquery(Long.class);
+        Path<ArticlesUsersKey> articlesUsersKey =
+            articlesFavorited.from(ArticlesUsers.class).get("primaryKey");
+        articlesFavorited.select(articlesUsersKey.get("user").get("id"));
+        articlesFavorited.where(
+            builder.equal(articlesUsersKey.get("article").get("id"), summary.get("articleId")),
+            articlesUsersKey.get("user").get("id").in(favoritedByIds));
+        predicates.add(builder.exists(articlesFavorited));
+      }
+
+      return predicates.toArray(new Predicate[0]);
+    }
+  }
+}
@@ -5,6 +5,8 @@ import org.example.realworldapi.domain.model.entity.persistent.ArticlesTags;
 import org.example.realworldapi.domain.model.entity.persistent.ArticlesTagsKey;
 import org.example.realworldapi.domain.model.entity.persistent.Tag;
 import org.example.realworldapi.domain.model.repository.ArticlesTagsRepository;
+import org.example.realworldapi.domain.model.search.TagPosting;
+import org.example.realworldapi.infrastructure.metrics.annotation.Instrumented;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.persistence.EntityManager;
@@ -13,8 +15,10 @@ import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Path;
 import javax.persistence.criteria.Root;
+import java.util.Collection;
 import java.util.List;
 
+@Instrumented
 @ApplicationScoped
 public class ArticlesTagsRepositoryHibernate
     extends AbstractRepositoryHibernate<ArticlesTags, ArticlesTagsKey>
@@ -53,4 +57,32 @@ public class ArticlesTagsRepositoryHibernate
   public ArticlesTags create(ArticlesTags articlesTags) {
     return persist(articlesTags);
   }
+
+  @Override
+  public List<TagPosting> findTagPostings() {
+    CriteriaBuilder builder = getCriteriaBuilder();
+    CriteriaQuery<TagPosting> criteriaQuery = getCriteriaQuery(builder, TagPosting.class);
+    Root<ArticlesTags> articlesTags = getRoot(criteriaQuery, ArticlesTags.class);
+    Path<ArticlesTagsKey> articlesTagsKey = articlesTags.get("primaryKey");
+    Path<Article> article = articlesTagsKey.get("article");
+    criteriaQuery.select(
+        builder.construct(
+            TagPosting.class, article.get("id"), articlesTagsKey.get("tag").get("name")));
+    criteriaQuery.orderBy(builder.asc(article.get("updatedAt")), builder.asc(article.get("id")));
+    return getResultList(criteriaQuery);
+  }
+
+  @Override
+  public List<TagPosting> findTagPostings(Collection<Long> articleIds) {
+    CriteriaBuilder builder = getCriteriaBuilder();
+    CriteriaQuery<TagPosting> criteriaQuery = getCriteriaQuery(builder, TagPosting.class);
+    Root<ArticlesTags> articlesTags = getRoot(criteriaQuery, ArticlesTags.class);
+    Path<ArticlesTagsKey> articlesTagsKey = articlesTags.get("primaryKey");
+    Path<Article> article = articlesTagsKey.get("article");
+    criteriaQuery.select(
+        builder.construct(
+            TagPosting.class, article.get("id"), articlesTagsKey.get("tag").get("name")));
+    criteriaQuery.where(article.get("id").in(articleIds));
+    return getResultList(criteriaQuery);
+  }
 }
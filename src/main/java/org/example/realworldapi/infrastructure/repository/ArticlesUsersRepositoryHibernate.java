@@ -5,12 +5,16 @@ import org.example.realworldapi.domain.model.entity.persistent.ArticlesUsers;
 import org.example.realworldapi.domain.model.entity.persistent.ArticlesUsersKey;
 import org.example.realworldapi.domain.model.entity.persistent.User;
 import org.example.realworldapi.domain.model.repository.ArticlesUsersRepository;
+import org.example.realworldapi.infrastructure.metrics.annotation.Instrumented;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.persistence.EntityManager;
 import javax.persistence.criteria.*;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+@Instrumented
 @ApplicationScoped
 public class ArticlesUsersRepositoryHibernate
     extends AbstractRepositoryHibernate<ArticlesUsers, ArticlesUsersKey>
@@ -56,6 +60,20 @@ public class ArticlesUsersRepositoryHibernate
     return getSingleResult(criteriaQuery).intValue();
   }
 
+  @Override
+  public List<Long> findFavoritedArticleIds(Long currentUserId, Collection<Long> articleIds) {
+    CriteriaBuilder builder = getCriteriaBuilder();
+    CriteriaQuery<Long> criteriaQuery = getCriteriaQuery(builder, Long.class);
+    Root<ArticlesUsers> articlesUsers = getRoot(criteriaQuery, ArticlesUsers.class);
+    Path<ArticlesUsersKey> articlesUsersKey = articlesUsers.get("primaryKey");
+    Path<Article> article = articlesUsersKey.get("article");
+    Path<User> user = articlesUsersKey.get("user");
+    criteriaQuery.select(article.get("id"));
+    criteriaQuery.where(
+        builder.equal(user.get("id"), currentUserId), article.get("id").in(articleIds));
+    return getResultList(criteriaQuery);
+  }
+
   @Override
   public ArticlesUsers create(ArticlesUsers articlesUsers) {
     return persist(articlesUsers);
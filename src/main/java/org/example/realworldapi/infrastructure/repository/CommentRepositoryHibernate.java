@@ -1,18 +1,23 @@
 package org.example.realworldapi.infrastructure.repository;
 
+import org.example.realworldapi.domain.model.entity.CommentCursor;
 import org.example.realworldapi.domain.model.entity.persistent.Article;
 import org.example.realworldapi.domain.model.entity.persistent.Comment;
 import org.example.realworldapi.domain.model.entity.persistent.User;
 import org.example.realworldapi.domain.model.repository.CommentRepository;
+import org.example.realworldapi.infrastructure.metrics.annotation.Instrumented;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.persistence.EntityManager;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Join;
+import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
+import java.util.List;
 import java.util.Optional;
 
+@Instrumented
 @ApplicationScoped
 public class CommentRepositoryHibernate extends AbstractRepositoryHibernate<Comment, Long>
     implements CommentRepository {
@@ -53,6 +58,37 @@ public class CommentRepositoryHibernate extends AbstractRepositoryHibernate<Comm
     entityManager.remove(comment);
   }
 
+  @Override
+  public List<Comment> findComments(Long articleId, CommentCursor after, int limit) {
+
+    CriteriaBuilder builder = getCriteriaBuilder();
+    CriteriaQuery<Comment> criteriaQuery = getCriteriaQuery(builder);
+    Root<Comment> comment = getRoot(criteriaQuery);
+
+    comment.fetch("author");
+
+    Predicate article = builder.equal(comment.get("article").get("id"), articleId);
+
+    criteriaQuery.select(comment);
+
+    if (after != null) {
+      criteriaQuery.where(
+          builder.and(
+              article,
+              builder.or(
+                  builder.greaterThan(comment.get("createdAt"), after.getCreatedAt()),
+                  builder.and(
+                      builder.equal(comment.get("createdAt"), after.getCreatedAt()),
+                      builder.greaterThan(comment.get("id"), after.getId())))));
+    } else {
+      criteriaQuery.where(article);
+    }
+
+    criteriaQuery.orderBy(builder.asc(comment.get("createdAt")), builder.asc(comment.get("id")));
+
+    return getPagedResultList(criteriaQuery, 0, limit);
+  }
+
   @Override
   EntityManager getEntityManager() {
     return this.entityManager;
@@ -2,6 +2,7 @@ package org.example.realworldapi.infrastructure.repository;
 
 import org.example.realworldapi.domain.model.entity.persistent.Tag;
 import org.example.realworldapi.domain.model.repository.TagRepository;
+import org.example.realworldapi.infrastructure.metrics.annotation.Instrumented;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.persistence.EntityManager;
@@ -11,6 +12,7 @@ import javax.persistence.criteria.Root;
 import java.util.List;
 import java.util.Optional;
 
+@Instrumented
 @ApplicationScoped
 public class TagRepositoryHibernate extends AbstractRepositoryHibernate<Tag, Long>
     implements TagRepository {
@@ -32,7 +34,7 @@ public class TagRepositoryHibernate extends AbstractRepositoryHibernate<Tag, Lon
     criteriaQuery.where(
         builder.equal(builder.upper(tag.get("name")), tagName.toUpperCase().trim()));
 
-    return Optional.ofNullable(getSingleResult(criteriaQuery));
+    return Optional.ofNullable(getCachedSingleResult(criteriaQuery));
   }
 
   @Override
@@ -49,7 +51,7 @@ public class TagRepositoryHibernate extends AbstractRepositoryHibernate<Tag, Lon
 
     criteriaQuery.select(tag);
 
-    return getResultList(criteriaQuery);
+    return getCachedResultList(criteriaQuery);
   }
 
   @Override
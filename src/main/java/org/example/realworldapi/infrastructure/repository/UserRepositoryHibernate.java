@@ -2,12 +2,16 @@ package org.example.realworldapi.infrastructure.repository;
 
 import org.example.realworldapi.domain.model.entity.persistent.User;
 import org.example.realworldapi.domain.model.repository.UserRepository;
+import org.example.realworldapi.infrastructure.metrics.annotation.Instrumented;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.persistence.EntityManager;
 import javax.persistence.criteria.*;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+@Instrumented
 @ApplicationScoped
 public class UserRepositoryHibernate extends AbstractRepositoryHibernate<User, Long>
     implements UserRepository {
@@ -45,6 +49,16 @@ public class UserRepositoryHibernate extends AbstractRepositoryHibernate<User, L
     return Optional.ofNullable(entityManager.find(User.class, id));
   }
 
+  @Override
+  public List<User> findByIds(Collection<Long> ids) {
+    CriteriaBuilder builder = getCriteriaBuilder();
+    CriteriaQuery<User> criteriaQuery = getCriteriaQuery(builder);
+    Root<User> user = getRoot(criteriaQuery);
+    criteriaQuery.select(user);
+    criteriaQuery.where(user.get("id").in(ids));
+    return getResultList(criteriaQuery);
+  }
+
   @Override
   public User update(User user) {
     return entityManager.merge(user);
@@ -73,7 +87,7 @@ public class UserRepositoryHibernate extends AbstractRepositoryHibernate<User, L
     criteriaQuery.where(
         builder.equal(builder.upper(user.get("username")), username.toUpperCase().trim()));
 
-    return Optional.ofNullable(getSingleResult(criteriaQuery));
+    return Optional.ofNullable(getCachedSingleResult(criteriaQuery));
   }
 
   private boolean existsBy(String field, Long excludeId, String value) {
@@ -1,16 +1,17 @@
 package org.example.realworldapi.infrastructure.repository;
 
-import org.example.realworldapi.domain.model.entity.persistent.Article;
-import org.example.realworldapi.domain.model.entity.persistent.User;
 import org.example.realworldapi.domain.model.entity.persistent.UsersFollowers;
 import org.example.realworldapi.domain.model.entity.persistent.UsersFollowersKey;
 import org.example.realworldapi.domain.model.repository.UsersFollowersRepository;
+import org.example.realworldapi.infrastructure.metrics.annotation.Instrumented;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.persistence.EntityManager;
 import javax.persistence.criteria.*;
+import java.util.Collection;
 import java.util.List;
 
+@Instrumented
 @ApplicationScoped
 public class UsersFollowersRepositoryHibernate
     extends AbstractRepositoryHibernate<UsersFollowers, UsersFollowersKey>
@@ -46,6 +47,20 @@ public class UsersFollowersRepositoryHibernate
     return getSingleResult(criteriaQuery).intValue() > 0;
   }
 
+  @Override
+  public List<Long> findFollowedUserIds(Long currentUserId, Collection<Long> userIds) {
+    CriteriaBuilder builder = getCriteriaBuilder();
+    CriteriaQuery<Long> criteriaQuery = getCriteriaQuery(builder, Long.class);
+    Root<UsersFollowers> usersFollowers = getRoot(criteriaQuery, UsersFollowers.class);
+    Path<Long> followerId = usersFollowers.get("primaryKey").get("follower").get("id");
+    criteriaQuery.select(followerId);
+    criteriaQuery.where(
+        builder.and(
+            builder.equal(usersFollowers.get("primaryKey").get("user").get("id"), currentUserId),
+            followerId.in(userIds)));
+    return getResultList(criteriaQuery);
+  }
+
   @Override
   public UsersFollowers findByKey(UsersFollowersKey primaryKey) {
     return entityManager.find(UsersFollowers.class, primaryKey);
@@ -61,46 +76,4 @@ public class UsersFollowersRepositoryHibernate
   public void delete(UsersFollowers usersFollowers) {
     entityManager.remove(usersFollowers);
   }
-
-  @Override
-  public List<Article> findMostRecentArticles(Long loggedUserId, int offset, int limit) {
-    CriteriaBuilder builder = getCriteriaBuilder();
-    CriteriaQuery<Article> criteriaQuery = getCriteriaQuery(builder, Article.class);
-    Root<UsersFollowers> usersFollowers = getRoot(criteriaQuery, UsersFollowers.class);
-
-    Join<UsersFollowers, User> user = usersFollowers.join("primaryKey").join("user");
-
-    user.on(builder.equal(user.get("id"), loggedUserId));
-
-    Join<UsersFollowers, User> follower = usersFollowers.join("primaryKey").join("follower");
-
-    ListJoin<User, Article> articles = follower.joinList("articles");
-
-    criteriaQuery.select(articles);
-
-    criteriaQuery.orderBy(builder.desc(articles.get("updatedAt")));
-
-    return getPagedResultList(criteriaQuery, offset, limit);
-  }
-
-  @Override
-  public int count(Long userId) {
-    CriteriaBuilder builder = getCriteriaBuilder();
-
-    CriteriaQuery<Long> criteriaQuery = getCriteriaQuery(builder, Long.class);
-
-    Root<UsersFollowers> usersFollowers = getRoot(criteriaQuery, UsersFollowers.class);
-
-    Join<UsersFollowers, User> user = usersFollowers.join("primaryKey").join("user");
-
-    user.on(builder.equal(user.get("id"), userId));
-
-    Join<UsersFollowers, User> follower = usersFollowers.join("primaryKey").join("follower");
-
-    ListJoin<User, Article> articles = follower.joinList("articles");
-
-    criteriaQuery.select(builder.count(articles));
-
-    return getSingleResult(criteriaQuery).intValue();
-  }
 }
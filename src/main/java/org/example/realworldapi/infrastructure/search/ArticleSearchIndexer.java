@@ -0,0 +1,165 @@
+package org.example.realworldapi.infrastructure.search;
+
+import io.quarkus.runtime.StartupEvent;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.example.realworldapi.domain.model.entity.persistent.Article;
+import org.example.realworldapi.domain.model.event.ArticleCreated;
+import org.example.realworldapi.domain.model.event.ArticleDeleted;
+import org.example.realworldapi.domain.model.event.ArticleUpdated;
+import org.example.realworldapi.domain.model.event.DomainEvent;
+import org.example.realworldapi.domain.model.event.DomainEventConsumer;
+import org.example.realworldapi.domain.model.repository.ArticleRepository;
+import org.example.realworldapi.domain.model.repository.ArticlesTagsRepository;
+import org.example.realworldapi.domain.model.search.ArticleSearchIndex;
+import org.example.realworldapi.domain.model.search.TagPosting;
+import org.jboss.logging.Logger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.transaction.Transactional;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+@ApplicationScoped
+public class ArticleSearchIndexer implements DomainEventConsumer {
+
+  private static final Logger LOGGER = Logger.getLogger(ArticleSearchIndexer.class);
+
+  private ArticleSearchIndex searchIndex;
+  private ArticleRepository articleRepository;
+  private ArticlesTagsRepository articlesTagsRepository;
+  private boolean rebuildOnStart;
+  private int batchSize;
+  private final ReentrantLock indexLock = new ReentrantLock();
+
+  public ArticleSearchIndexer(
+      ArticleSearchIndex searchIndex,
+      ArticleRepository articleRepository,
+      ArticlesTagsRepository articlesTagsRepository,
+      @ConfigProperty(name = "search.index.rebuild-on-start", defaultValue = "true")
+          boolean rebuildOnStart,
+      @ConfigProperty(name = "search.index.batch-size", defaultValue = "500") int batchSize) {
+    this.searchIndex = searchIndex;
+    this.articleRepository = articleRepository;
+    this.articlesTagsRepository = articlesTagsRepository;
+    this.rebuildOnStart = rebuildOnStart;
+    this.batchSize = batchSize;
+  }
+
+  void onStart(@Observes StartupEvent startupEvent) {
+    if (rebuildOnStart) {
+      Thread thread = new Thread(this::rebuild, "search-index-rebuild");
+      thread.setDaemon(true);
+      thread.start();
+    }
+  }
+
+  public void rebuild() {
+    long start = System.nanoTime();
+    int indexed = 0;
+    searchIndex.clear();
+    Long afterId = null;
+    List<Article> articles;
+    do {
+      articles = indexAfter(afterId);
+      indexed += articles.size();
+      if (!articles.isEmpty()) {
+        afterId = articles.get(articles.size() - 1).getId();
+      }
+    } while (articles.size() == batchSize);
+    LOGGER.infof(
+        "Indexed %d articles in %d ms",
+        indexed,
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+  }
+
+  @Transactional
+  List<Article> indexAfter(Long afterId) {
+    indexLock.lock();
+    try {
+      List<Article> articles = articleRepository.findAfterId(afterId, batchSize);
+      index(articles);
+      return articles;
+    } finally {
+      indexLock.unlock();
+    }
+  }
+
+  @Override
+  public String getName() {
+    return "search-index";
+  }
+
+  @Override
+  public boolean accepts(DomainEvent event) {
+    return event instanceof ArticleCreated
+        || event instanceof ArticleUpdated
+        || event instanceof ArticleDeleted;
+  }
+
+  @Override
+  @Transactional
+  public void consume(List<DomainEvent> events) {
+    indexLock.lock();
+    try {
+      apply(events);
+    } finally {
+      indexLock.unlock();
+    }
+  }
+
+  private void apply(List<DomainEvent> events) {
+    Set<Long> changed = new LinkedHashSet<>();
+    for (DomainEvent event : events) {
+      if (event instanceof ArticleCreated) {
+        changed.add(((ArticleCreated) event).getArticleId());
+      } else if (event instanceof ArticleUpdated) {
+        changed.add(((ArticleUpdated) event).getArticleId());
+      } else {
+        Long articleId = ((ArticleDeleted) event).getArticleId();
+        changed.remove(articleId);
+        searchIndex.remove(articleId);
+      }
+    }
+    if (changed.isEmpty()) {
+      return;
+    }
+    List<Article> articles = articleRepository.findByIds(changed);
+    index(articles);
+    articles.forEach(article -> changed.remove(article.getId()));
+    changed.forEach(searchIndex::remove);
+  }
+
+  private void index(List<Article> articles) {
+    if (articles.isEmpty()) {
+      return;
+    }
+    Map<Long, List<String>> tags = findTags(articles);
+    for (Article article : articles) {
+      searchIndex.index(
+          article.getId(),
+          article.getTitle(),
+          article.getDescription(),
+          article.getBody(),
+          tags.getOrDefault(article.getId(), Collections.emptyList()));
+    }
+  }
+
+  private Map<Long, List<String>> findTags(List<Article> articles) {
+    List<Long> articleIds = new ArrayList<>(articles.size());
+    articles.forEach(article -> articleIds.add(article.getId()));
+    Map<Long, List<String>> tags = new HashMap<>();
+    for (TagPosting posting : articlesTagsRepository.findTagPostings(articleIds)) {
+      tags.computeIfAbsent(posting.getArticleId(), articleId -> new ArrayList<>())
+          .add(posting.getTagName());
+    }
+    return tags;
+  }
+}
@@ -0,0 +1,203 @@
+package org.example.realworldapi.infrastructure.search;
+
+import io.quarkus.runtime.StartupEvent;
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.example.realworldapi.domain.model.search.ArticleHit;
+import org.example.realworldapi.domain.model.search.ArticleSearchIndex;
+import org.example.realworldapi.domain.model.search.ArticleSearchResult;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+@ApplicationScoped
+public class InMemoryArticleSearchIndex implements ArticleSearchIndex {
+
+  private static final float TITLE_WEIGHT = 3.0f;
+  private static final float TAGS_WEIGHT = 2.0f;
+  private static final float DESCRIPTION_WEIGHT = 1.5f;
+  private static final float BODY_WEIGHT = 1.0f;
+  private static final double K1 = 1.2;
+  private static final double B = 0.75;
+  private static final Comparator<ArticleHit> RANK =
+      Comparator.comparingDouble(ArticleHit::getScore)
+          .reversed()
+          .thenComparing(ArticleHit::getArticleId);
+
+  private final Map<String, Map<Long, Float>> postings = new HashMap<>();
+  private final Map<Long, Document> documents = new HashMap<>();
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private double totalLength;
+  private MetricRegistry metricRegistry;
+
+  public InMemoryArticleSearchIndex(MetricRegistry metricRegistry) {
+    this.metricRegistry = metricRegistry;
+  }
+
+  void onStart(@Observes StartupEvent startupEvent) {
+    register("documents", "Articles in the search index", () -> (long) read(documents::size));
+    register("terms", "Distinct terms in the search index", () -> (long) read(postings::size));
+  }
+
+  @Override
+  public ArticleSearchResult search(String query, ArticleHit after, int limit) {
+    Set<String> terms = new LinkedHashSet<>(SearchAnalyzer.tokenize(query));
+    Map<Long, Double> scores = new HashMap<>();
+
+    lock.readLock().lock();
+    try {
+      if (documents.isEmpty()) {
+        return new ArticleSearchResult(Collections.emptyList(), 0);
+      }
+      double averageLength = totalLength / documents.size();
+      for (String term : terms) {
+        Map<Long, Float> posting = postings.get(term);
+        if (posting == null) {
+          continue;
+        }
+        double idf =
+            Math.log(1 + (documents.size() - posting.size() + 0.5) / (posting.size() + 0.5));
+        for (Map.Entry<Long, Float> entry : posting.entrySet()) {
+          double frequency = entry.getValue();
+          double norm = K1 * (1 - B + B * documents.get(entry.getKey()).length / averageLength);
+          scores.merge(
+              entry.getKey(), idf * frequency * (K1 + 1) / (frequency + norm), Double::sum);
+        }
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+
+    PriorityQueue<ArticleHit> top = new PriorityQueue<>(limit + 1, RANK.reversed());
+    for (Map.Entry<Long, Double> score : scores.entrySet()) {
+      ArticleHit hit = new ArticleHit(score.getKey(), score.getValue());
+      if (after != null && RANK.compare(hit, after) <= 0) {
+        continue;
+      }
+      top.offer(hit);
+      if (top.size() > limit) {
+        top.poll();
+      }
+    }
+
+    List<ArticleHit> hits = new ArrayList<>(top);
+    hits.sort(RANK);
+    return new ArticleSearchResult(hits, scores.size());
+  }
+
+  @Override
+  public void index(
+      Long articleId, String title, String description, String body, List<String> tags) {
+    Map<String, Float> frequencies = new HashMap<>();
+    float length = 0;
+    length += addField(frequencies, SearchAnalyzer.tokenize(title), TITLE_WEIGHT);
+    length += addField(frequencies, SearchAnalyzer.tokenize(description), DESCRIPTION_WEIGHT);
+    length += addField(frequencies, SearchAnalyzer.tokenize(body), BODY_WEIGHT);
+    for (String tag : tags) {
+      length += addField(frequencies, SearchAnalyzer.tokenize(tag), TAGS_WEIGHT);
+    }
+
+    lock.writeLock().lock();
+    try {
+      removeDocument(articleId);
+      for (Map.Entry<String, Float> frequency : frequencies.entrySet()) {
+        postings
+            .computeIfAbsent(frequency.getKey(), term -> new HashMap<>())
+            .put(articleId, frequency.getValue());
+      }
+      documents.put(articleId, new Document(frequencies.keySet().toArray(new String[0]), length));
+      totalLength += length;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void remove(Long articleId) {
+    lock.writeLock().lock();
+    try {
+      removeDocument(articleId);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void clear() {
+    lock.writeLock().lock();
+    try {
+      postings.clear();
+      documents.clear();
+      totalLength = 0;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private float addField(Map<String, Float> frequencies, List<String> tokens, float weight) {
+    for (String token : tokens) {
+      frequencies.merge(token, weight, Float::sum);
+    }
+    return tokens.size() * weight;
+  }
+
+  private void removeDocument(Long articleId) {
+    Document document = documents.remove(articleId);
+    if (document == null) {
+      return;
+    }
+    for (String term : document.terms) {
+      Map<Long, Float> posting = postings.get(term);
+      posting.remove(articleId);
+      if (posting.isEmpty()) {
+        postings.remove(term);
+      }
+    }
+    totalLength -= document.length;
+  }
+
+  private <T> T read(Supplier<T> supplier) {
+    lock.readLock().lock();
+    try {
+      return supplier.get();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private void register(String name, String description, Gauge<Long> gauge) {
+    metricRegistry.register(
+        Metadata.builder()
+            .withName("search.index." + name)
+            .withType(MetricType.GAUGE)
+            .withUnit(MetricUnits.NONE)
+            .withDescription(description)
+            .build(),
+        gauge);
+  }
+
+  private static class Document {
+    private final String[] terms;
+    private final float length;
+
+    private Document(String[] terms, float length) {
+      this.terms = terms;
+      this.length = length;
+    }
+  }
+}
@@ -0,0 +1,370 @@
+package org.example.realworldapi.infrastructure.search;
+
+import io.quarkus.runtime.StartupEvent;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.example.realworldapi.domain.model.repository.ArticlesTagsRepository;
+import org.example.realworldapi.domain.model.search.ArticleIdPage;
+import org.example.realworldapi.domain.model.search.ArticleTagIndex;
+import org.example.realworldapi.domain.model.search.TagMode;
+import org.example.realworldapi.domain.model.search.TagPosting;
+import org.example.realworldapi.infrastructure.jdbc.ReplicaRouting;
+import org.example.realworldapi.infrastructure.transaction.TransactionCallbacks;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+@ApplicationScoped
+public class InMemoryArticleTagIndex implements ArticleTagIndex {
+
+  private static final String METRICS_PREFIX = "tags.index.";
+
+  private final Map<String, PostingList> postings = new HashMap<>();
+  private final Map<Long, Long> ranksByArticle = new HashMap<>();
+  private final Map<Long, Long> articlesByRank = new HashMap<>();
+  private final Map<Long, Set<String>> tagsByArticle = new HashMap<>();
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private boolean loaded;
+  private long nextRank;
+  private ArticlesTagsRepository articlesTagsRepository;
+  private TransactionCallbacks transactionCallbacks;
+  private MetricRegistry metricRegistry;
+  private boolean enabled;
+
+  public InMemoryArticleTagIndex(
+      ArticlesTagsRepository articlesTagsRepository,
+      TransactionCallbacks transactionCallbacks,
+      MetricRegistry metricRegistry,
+      @ConfigProperty(name = "tags.index.enabled", defaultValue = "true") boolean enabled) {
+    this.articlesTagsRepository = articlesTagsRepository;
+    this.transactionCallbacks = transactionCallbacks;
+    this.metricRegistry = metricRegistry;
+    this.enabled = enabled;
+  }
+
+  void onStart(@Observes StartupEvent startupEvent) {
+    if (!enabled) {
+      return;
+    }
+    register("tags", "Tags in the article tag index", () -> (long) read(postings::size));
+    register(
+        "articles", "Articles in the article tag index", () -> (long) read(ranksByArticle::size));
+  }
+
+  @Override
+  public Optional<ArticleIdPage> find(List<String> tags, TagMode mode, int offset, int limit) {
+    if (!enabled) {
+      return Optional.empty();
+    }
+    Set<String> keys = new LinkedHashSet<>();
+    tags.forEach(tag -> keys.add(tag.toUpperCase()));
+    for (; ; ) {
+      lock.readLock().lock();
+      try {
+        if (loaded) {
+          return Optional.of(page(keys, mode, offset, limit));
+        }
+      } finally {
+        lock.readLock().unlock();
+      }
+      load();
+    }
+  }
+
+  @Override
+  public void add(Long articleId, List<String> tags) {
+    afterCommit(
+        () -> {
+          if (!ranksByArticle.containsKey(articleId)) {
+            long rank = newRank(articleId);
+            tags.forEach(tag -> addPosting(articleId, rank, tag.toUpperCase()));
+          }
+        });
+  }
+
+  @Override
+  public void touch(Long articleId) {
+    afterCommit(
+        () -> {
+          Set<String> keys = tagsByArticle.get(articleId);
+          if (keys != null) {
+            removePostings(articleId);
+            long rank = newRank(articleId);
+            keys.forEach(key -> addPosting(articleId, rank, key));
+          }
+        });
+  }
+
+  @Override
+  public void remove(Long articleId) {
+    afterCommit(() -> removePostings(articleId));
+  }
+
+  @Override
+  public void invalidateAll() {
+    lock.writeLock().lock();
+    try {
+      postings.clear();
+      ranksByArticle.clear();
+      articlesByRank.clear();
+      tagsByArticle.clear();
+      nextRank = 0;
+      loaded = false;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void load() {
+    lock.writeLock().lock();
+    try {
+      if (loaded) {
+        return;
+      }
+      List<TagPosting> tagPostings =
+          ReplicaRouting.onPrimary(articlesTagsRepository::findTagPostings);
+      for (TagPosting posting : tagPostings) {
+        Long rank = ranksByArticle.get(posting.getArticleId());
+        if (rank == null) {
+          rank = newRank(posting.getArticleId());
+        }
+        addPosting(posting.getArticleId(), rank, posting.getTagName().toUpperCase());
+      }
+      loaded = true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private ArticleIdPage page(Set<String> keys, TagMode mode, int offset, int limit) {
+    List<PostingList> lists = new ArrayList<>();
+    for (String key : keys) {
+      PostingList list = postings.get(key);
+      if (list != null) {
+        lists.add(list);
+      } else if (mode == TagMode.ALL) {
+        lists.clear();
+        break;
+      }
+    }
+    Page page = new Page(offset, limit);
+    if (mode == TagMode.ALL) {
+      intersect(lists, page);
+    } else {
+      union(lists, page);
+    }
+    return new ArticleIdPage(page.articleIds, page.total);
+  }
+
+  private void union(List<PostingList> lists, Page page) {
+    int[] positions = new int[lists.size()];
+    for (int list = 0; list < lists.size(); list++) {
+      positions[list] = lists.get(list).size() - 1;
+    }
+    for (; ; ) {
+      long newest = -1;
+      for (int list = 0; list < lists.size(); list++) {
+        if (positions[list] >= 0) {
+          newest = Math.max(newest, lists.get(list).get(positions[list]));
+        }
+      }
+      if (newest < 0) {
+        return;
+      }
+      for (int list = 0; list < lists.size(); list++) {
+        if (positions[list] >= 0 && lists.get(list).get(positions[list]) == newest) {
+          positions[list]--;
+        }
+      }
+      page.add(newest);
+    }
+  }
+
+  private void intersect(List<PostingList> lists, Page page) {
+    if (lists.isEmpty()) {
+      return;
+    }
+    lists.sort(Comparator.comparingInt(PostingList::size));
+    PostingList smallest = lists.get(0);
+    int[] ends = new int[lists.size()];
+    for (int list = 1; list < lists.size(); list++) {
+      ends[list] = lists.get(list).size();
+    }
+    for (int position = smallest.size() - 1; position >= 0; position--) {
+      long rank = smallest.get(position);
+      boolean matches = true;
+      for (int list = 1; list < lists.size() && matches; list++) {
+        int index = lists.get(list).floor(rank, ends[list]);
+        if (index < 0) {
+          return;
+        }
+        matches = lists.get(list).get(index) == rank;
+        ends[list] = matches ? index : index + 1;
+      }
+      if (matches) {
+        page.add(rank);
+      }
+    }
+  }
+
+  private long newRank(Long articleId) {
+    long rank = nextRank++;
+    ranksByArticle.put(articleId, rank);
+    articlesByRank.put(rank, articleId);
+    return rank;
+  }
+
+  private void addPosting(Long articleId, long rank, String key) {
+    postings.computeIfAbsent(key, tag -> new PostingList()).add(rank);
+    tagsByArticle.computeIfAbsent(articleId, id -> new HashSet<>()).add(key);
+  }
+
+  private void removePostings(Long articleId) {
+    Long rank = ranksByArticle.remove(articleId);
+    if (rank == null) {
+      return;
+    }
+    articlesByRank.remove(rank);
+    for (String key : tagsByArticle.remove(articleId)) {
+      PostingList list = postings.get(key);
+      list.remove(rank);
+      if (list.size() == 0) {
+        postings.remove(key);
+      }
+    }
+  }
+
+  private void afterCommit(Runnable action) {
+    if (!enabled) {
+      return;
+    }
+    transactionCallbacks.afterCommit(
+        () -> {
+          lock.writeLock().lock();
+          try {
+            if (loaded) {
+              action.run();
+            }
+          } finally {
+            lock.writeLock().unlock();
+          }
+        });
+  }
+
+  private <T> T read(Supplier<T> supplier) {
+    lock.readLock().lock();
+    try {
+      return supplier.get();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private void register(String name, String description, Gauge<Long> gauge) {
+    Metadata metadata =
+        Metadata.builder()
+            .withName(METRICS_PREFIX + name)
+            .withType(MetricType.GAUGE)
+            .withUnit(MetricUnits.NONE)
+            .withDescription(description)
+            .build();
+    metricRegistry.register(metadata, gauge);
+  }
+
+  private class Page {
+    private final int offset;
+    private final int limit;
+    private final List<Long> articleIds = new ArrayList<>();
+    private int total;
+
+    private Page(int offset, int limit) {
+      this.offset = offset;
+      this.limit = limit;
+    }
+
+    private void add(long rank) {
+      if (total >= offset && articleIds.size() < limit) {
+        articleIds.add(articlesByRank.get(rank));
+      }
+      total++;
+    }
+  }
+
+  private static class PostingList {
+    private long[] ranks = new long[4];
+    private int size;
+
+    private int size() {
+      return size;
+    }
+
+    private long get(int index) {
+      return ranks[index];
+    }
+
+    private void add(long rank) {
+      int index = size;
+      if (size > 0 && ranks[size - 1] >= rank) {
+        index = Arrays.binarySearch(ranks, 0, size, rank);
+        if (index >= 0) {
+          return;
+        }
+        index = -index - 1;
+      }
+      if (size == ranks.length) {
+        ranks = Arrays.copyOf(ranks, size * 2);
+      }
+      System.arraycopy(ranks, index, ranks, index + 1, size - index);
+      ranks[index] = rank;
+      size++;
+    }
+
+    private void remove(long rank) {
+      int index = Arrays.binarySearch(ranks, 0, size, rank);
+      if (index >= 0) {
+        System.arraycopy(ranks, index + 1, ranks, index, size - index - 1);
+        size--;
+      }
+    }
+
+    // Index of the newest rank <= target before end, galloping back from end, or -1.
+    private int floor(long target, int end) {
+      int last = end - 1;
+      if (last < 0 || ranks[last] <= target) {
+        return last;
+      }
+      int step = 1;
+      while (last - step >= 0 && ranks[last - step] > target) {
+        step <<= 1;
+      }
+      int low = Math.max(0, last - step);
+      int high = last - (step >> 1);
+      while (low < high) {
+        int middle = (low + high) >>> 1;
+        if (ranks[middle] > target) {
+          high = middle;
+        } else {
+          low = middle + 1;
+        }
+      }
+      return low - 1;
+    }
+  }
+}
@@ -0,0 +1,46 @@
+package org.example.realworldapi.infrastructure.transaction;
+
+import org.jboss.logging.Logger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.transaction.Status;
+import javax.transaction.Synchronization;
+import javax.transaction.TransactionSynchronizationRegistry;
+
+@ApplicationScoped
+public class TransactionCallbacks {
+
+  private static final Logger LOGGER = Logger.getLogger(TransactionCallbacks.class);
+
+  private TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+
+  public TransactionCallbacks(
+      TransactionSynchronizationRegistry transactionSynchronizationRegistry) {
+    this.transactionSynchronizationRegistry = transactionSynchronizationRegistry;
+  }
+
+  public void afterCommit(Runnable action) {
+    int status = transactionSynchronizationRegistry.getTransactionStatus();
+    switch (status) {
+      case Status.STATUS_NO_TRANSACTION:
+        action.run();
+        break;
+      case Status.STATUS_ACTIVE:
+        transactionSynchronizationRegistry.registerInterposedSynchronization(
+            new Synchronization() {
+              @Override
+              public void beforeCompletion() {}
+
+              @Override
+              public void afterCompletion(int status) {
+                if (status == Status.STATUS_COMMITTED) {
+                  action.run();
+                }
+              }
+            });
+        break;
+      default:
+        LOGGER.debugf("Dropping after-commit action, transaction status is %d", status);
+    }
+  }
+}
@@ -0,0 +1,27 @@
+package org.example.realworldapi.infrastructure.transaction;
+
+public final class TransactionRetryContext {
+
+  private static final ThreadLocal<Integer> ATTEMPT = new ThreadLocal<>();
+
+  private TransactionRetryContext() {}
+
+  public static boolean isRetry() {
+    Integer attempt = ATTEMPT.get();
+    return attempt != null && attempt > 0;
+  }
+
+  public static Integer enter(int attempt) {
+    Integer previous = ATTEMPT.get();
+    ATTEMPT.set(attempt);
+    return previous;
+  }
+
+  public static void exit(Integer previous) {
+    if (previous == null) {
+      ATTEMPT.remove();
+    } else {
+      ATTEMPT.set(previous);
+    }
+  }
+}
@@ -0,0 +1,19 @@
+package org.example.realworldapi.infrastructure.transaction.annotation;
+
+import javax.enterprise.util.Nonbinding;
+import javax.interceptor.InterceptorBinding;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@InterceptorBinding
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface RetryTransaction {
+  @Nonbinding
+  Class<? extends RuntimeException>[] retryOn() default {};
+
+  @Nonbinding
+  int maxAttempts() default 3;
+}
@@ -0,0 +1,45 @@
+package org.example.realworldapi.infrastructure.transaction.interceptor;
+
+import org.example.realworldapi.infrastructure.jdbc.ReadOnlyTransaction;
+import org.hibernate.Session;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+import javax.persistence.EntityManager;
+import javax.transaction.Status;
+import javax.transaction.Transactional;
+import javax.transaction.TransactionSynchronizationRegistry;
+
+@Transactional
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_BEFORE + 250)
+public class ReadOnlyConnectionInterceptor {
+
+  private static final Object CONNECTION_READ_ONLY_SET =
+      ReadOnlyConnectionInterceptor.class.getName() + ".set";
+
+  @Inject EntityManager entityManager;
+
+  @Inject TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+
+  @AroundInvoke
+  public Object readOnlyConnection(InvocationContext invocationContext) throws Exception {
+    if (transactionSynchronizationRegistry.getTransactionStatus() == Status.STATUS_ACTIVE
+        && transactionSynchronizationRegistry.getResource(CONNECTION_READ_ONLY_SET) == null) {
+      transactionSynchronizationRegistry.putResource(CONNECTION_READ_ONLY_SET, Boolean.TRUE);
+      boolean readOnly = ReadOnlyTransaction.isActive();
+      entityManager
+          .unwrap(Session.class)
+          .doWork(
+              connection -> {
+                if (connection.isReadOnly() != readOnly) {
+                  connection.setReadOnly(readOnly);
+                }
+              });
+    }
+    return invocationContext.proceed();
+  }
+}
@@ -0,0 +1,33 @@
+package org.example.realworldapi.infrastructure.transaction.interceptor;
+
+import org.example.realworldapi.infrastructure.jdbc.ReadOnlyTransaction;
+import org.example.realworldapi.infrastructure.transaction.annotation.ReadOnly;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+import javax.transaction.Status;
+import javax.transaction.TransactionManager;
+
+@ReadOnly
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_BEFORE + 100)
+public class ReadOnlyInterceptor {
+
+  @Inject TransactionManager transactionManager;
+
+  @AroundInvoke
+  public Object readOnly(InvocationContext invocationContext) throws Exception {
+    if (transactionManager.getStatus() != Status.STATUS_NO_TRANSACTION
+        || !ReadOnlyTransaction.enter()) {
+      return invocationContext.proceed();
+    }
+    try {
+      return invocationContext.proceed();
+    } finally {
+      ReadOnlyTransaction.exit();
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package org.example.realworldapi.infrastructure.transaction.interceptor;
+
+import org.example.realworldapi.infrastructure.jdbc.ReadOnlyTransaction;
+import org.example.realworldapi.infrastructure.jdbc.ReplicaRouting;
+import org.example.realworldapi.infrastructure.transaction.annotation.ReadOnly;
+import org.hibernate.CacheMode;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+import javax.persistence.EntityManager;
+
+@ReadOnly
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_BEFORE + 300)
+public class ReadOnlySessionInterceptor {
+
+  @Inject EntityManager entityManager;
+
+  @AroundInvoke
+  public Object readOnlySession(InvocationContext invocationContext) throws Exception {
+    if (ReadOnlyTransaction.isActive()) {
+      Session session = entityManager.unwrap(Session.class);
+      session.setDefaultReadOnly(true);
+      session.setHibernateFlushMode(FlushMode.MANUAL);
+      if (ReplicaRouting.isReadingFromReplica()) {
+        session.setCacheMode(CacheMode.GET);
+      }
+    }
+    return invocationContext.proceed();
+  }
+}
@@ -0,0 +1,43 @@
+package org.example.realworldapi.infrastructure.transaction.interceptor;
+
+import org.example.realworldapi.infrastructure.transaction.TransactionRetryContext;
+import org.example.realworldapi.infrastructure.transaction.annotation.RetryTransaction;
+
+import javax.annotation.Priority;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+
+@RetryTransaction
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_BEFORE)
+public class RetryTransactionInterceptor {
+
+  @AroundInvoke
+  public Object retry(InvocationContext invocationContext) throws Exception {
+    RetryTransaction retryTransaction =
+        invocationContext.getMethod().getAnnotation(RetryTransaction.class);
+
+    for (int attempt = 0; ; attempt++) {
+      Integer previousAttempt = TransactionRetryContext.enter(attempt);
+      try {
+        return invocationContext.proceed();
+      } catch (RuntimeException ex) {
+        if (attempt + 1 >= retryTransaction.maxAttempts() || !isRetryable(ex, retryTransaction)) {
+          throw ex;
+        }
+      } finally {
+        TransactionRetryContext.exit(previousAttempt);
+      }
+    }
+  }
+
+  private boolean isRetryable(RuntimeException ex, RetryTransaction retryTransaction) {
+    for (Class<? extends RuntimeException> retryOn : retryTransaction.retryOn()) {
+      if (retryOn.isInstance(ex)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
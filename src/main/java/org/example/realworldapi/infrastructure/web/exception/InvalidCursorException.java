@@ -0,0 +1,11 @@
+package org.example.realworldapi.infrastructure.web.exception;
+
+import org.example.realworldapi.domain.model.exception.BusinessException;
+
+public class InvalidCursorException extends BusinessException {
+
+    public InvalidCursorException(){
+        super("invalid cursor");
+    }
+
+}
@@ -0,0 +1,11 @@
+package org.example.realworldapi.infrastructure.web.exception;
+
+import org.example.realworldapi.domain.model.exception.BusinessException;
+
+public class InvalidTagModeException extends BusinessException {
+
+    public InvalidTagModeException(){
+        super("invalid tag mode");
+    }
+
+}
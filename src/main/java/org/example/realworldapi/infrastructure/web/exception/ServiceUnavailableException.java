@@ -0,0 +1,18 @@
+package org.example.realworldapi.infrastructure.web.exception;
+
+import org.example.realworldapi.domain.model.exception.BusinessException;
+
+public class ServiceUnavailableException extends BusinessException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceUnavailableException(long retryAfterSeconds){
+        super("service unavailable");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+}
@@ -0,0 +1,18 @@
+package org.example.realworldapi.infrastructure.web.exception;
+
+import org.example.realworldapi.domain.model.exception.BusinessException;
+
+public class TooManyRequestsException extends BusinessException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(long retryAfterSeconds){
+        super("too many requests");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+}
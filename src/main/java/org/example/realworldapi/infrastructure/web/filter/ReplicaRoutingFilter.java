@@ -0,0 +1,69 @@
+package org.example.realworldapi.infrastructure.web.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.example.realworldapi.infrastructure.jdbc.ReplicaRouting;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.ext.Provider;
+import java.security.Principal;
+import java.util.concurrent.TimeUnit;
+
+@Provider
+@Priority(Priorities.USER)
+public class ReplicaRoutingFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+  @Inject
+  @ConfigProperty(name = "datasource.replica.max-staleness.millis", defaultValue = "5000")
+  long maxStalenessMillis;
+
+  @Inject
+  @ConfigProperty(name = "datasource.replica.recent-writers", defaultValue = "100000")
+  long maxRecentWriters;
+
+  private Cache<String, Boolean> recentWriters;
+
+  @PostConstruct
+  void init() {
+    recentWriters =
+        Caffeine.newBuilder()
+            .maximumSize(maxRecentWriters)
+            .expireAfterWrite(maxStalenessMillis, TimeUnit.MILLISECONDS)
+            .build();
+  }
+
+  @Override
+  public void filter(ContainerRequestContext containerRequestContext) {
+    if (!ReplicaRouting.isEnabled()) {
+      return;
+    }
+    String user = getUser(containerRequestContext);
+    ReplicaRouting.beginRequest(user != null && recentWriters.getIfPresent(user) != null);
+  }
+
+  @Override
+  public void filter(
+      ContainerRequestContext containerRequestContext,
+      ContainerResponseContext containerResponseContext) {
+    if (!ReplicaRouting.endRequest()) {
+      return;
+    }
+    String user = getUser(containerRequestContext);
+    if (user != null) {
+      recentWriters.put(user, Boolean.TRUE);
+    }
+  }
+
+  private String getUser(ContainerRequestContext containerRequestContext) {
+    Principal principal = containerRequestContext.getSecurityContext().getUserPrincipal();
+    return principal != null ? principal.getName() : null;
+  }
+}
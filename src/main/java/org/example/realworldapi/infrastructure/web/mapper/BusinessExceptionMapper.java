@@ -2,9 +2,14 @@ package org.example.realworldapi.infrastructure.web.mapper;
 
 import org.example.realworldapi.domain.model.exception.*;
 import org.example.realworldapi.infrastructure.web.model.response.ErrorResponse;
+import org.example.realworldapi.infrastructure.web.exception.InvalidCursorException;
+import org.example.realworldapi.infrastructure.web.exception.InvalidTagModeException;
 import org.example.realworldapi.infrastructure.web.exception.ResourceNotFoundException;
+import org.example.realworldapi.infrastructure.web.exception.ServiceUnavailableException;
+import org.example.realworldapi.infrastructure.web.exception.TooManyRequestsException;
 import org.example.realworldapi.infrastructure.web.exception.UnauthorizedException;
 
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.ext.ExceptionMapper;
 import javax.ws.rs.ext.Provider;
@@ -33,10 +38,20 @@ public class BusinessExceptionMapper implements ExceptionMapper<BusinessExceptio
     handlerMap.put(UsernameAlreadyExistsException.class, conflict());
     handlerMap.put(TagNotFoundException.class, notFound());
     handlerMap.put(ArticleNotFoundException.class, notFound());
+    handlerMap.put(SlugAlreadyExistsException.class, conflict());
+    handlerMap.put(InvalidCursorException.class, badRequest());
+    handlerMap.put(InvalidTagModeException.class, badRequest());
+    handlerMap.put(ServiceUnavailableException.class, serviceUnavailable());
+    handlerMap.put(TooManyRequestsException.class, tooManyRequests());
 
     return handlerMap;
   }
 
+  private BusinessExceptionHandler badRequest() {
+    return exceptionHandler(
+        Response.Status.BAD_REQUEST.name(), Response.Status.BAD_REQUEST.getStatusCode());
+  }
+
   private BusinessExceptionHandler notFound() {
     return exceptionHandler(
         Response.Status.NOT_FOUND.name(), Response.Status.NOT_FOUND.getStatusCode());
@@ -52,6 +67,23 @@ public class BusinessExceptionMapper implements ExceptionMapper<BusinessExceptio
         Response.Status.UNAUTHORIZED.name(), Response.Status.UNAUTHORIZED.getStatusCode());
   }
 
+  private BusinessExceptionHandler serviceUnavailable() {
+    return ex ->
+        Response.ok(new ErrorResponse(ex.getMessage()))
+            .status(Response.Status.SERVICE_UNAVAILABLE)
+            .header(
+                HttpHeaders.RETRY_AFTER, ((ServiceUnavailableException) ex).getRetryAfterSeconds())
+            .build();
+  }
+
+  private BusinessExceptionHandler tooManyRequests() {
+    return ex ->
+        Response.ok(new ErrorResponse(ex.getMessage()))
+            .status(Response.Status.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, ((TooManyRequestsException) ex).getRetryAfterSeconds())
+            .build();
+  }
+
   private BusinessExceptionHandler exceptionHandler(String message, int httpStatusCode) {
     return ex -> {
       String resultMessage = message;
@@ -0,0 +1,28 @@
+package org.example.realworldapi.infrastructure.web.model.response;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.example.realworldapi.infrastructure.jdbc.SlowQuery;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@RegisterForReflection
+public class SlowQueriesResponse {
+
+  private boolean enabled;
+  private List<SlowQueryResponse> slowQueries;
+  private int slowQueriesCount;
+
+  public SlowQueriesResponse(boolean enabled, List<SlowQuery> slowQueries) {
+    this.enabled = enabled;
+    this.slowQueries =
+        slowQueries.stream().map(SlowQueryResponse::new).collect(Collectors.toList());
+    this.slowQueriesCount = slowQueries.size();
+  }
+}
@@ -0,0 +1,37 @@
+package org.example.realworldapi.infrastructure.web.model.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import lombok.Getter;
+import lombok.Setter;
+import org.example.realworldapi.infrastructure.jdbc.SlowQuery;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Getter
+@Setter
+@RegisterForReflection
+public class SlowQueryResponse {
+
+  @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'")
+  private LocalDateTime executedAt;
+
+  private String sql;
+  private List<String> parameters;
+  private long rows;
+  private double elapsedMillis;
+  private String repositoryMethod;
+  private String executionPlan;
+
+  public SlowQueryResponse(SlowQuery slowQuery) {
+    this.executedAt = slowQuery.getExecutedAt();
+    this.sql = slowQuery.getSql();
+    this.parameters = slowQuery.getParameters();
+    this.rows = slowQuery.getRows();
+    this.elapsedMillis = slowQuery.getElapsedNanos() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    this.repositoryMethod = slowQuery.getRepositoryMethod();
+    this.executionPlan = slowQuery.getExecutionPlan();
+  }
+}
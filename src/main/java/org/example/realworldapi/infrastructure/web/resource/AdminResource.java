@@ -0,0 +1,38 @@
+package org.example.realworldapi.infrastructure.web.resource;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.realworldapi.infrastructure.jdbc.SlowQueryLog;
+import org.example.realworldapi.infrastructure.web.model.response.SlowQueriesResponse;
+import org.example.realworldapi.infrastructure.web.qualifiers.NoWrapRootValueObjectMapper;
+import org.example.realworldapi.infrastructure.web.security.annotation.Secured;
+import org.example.realworldapi.infrastructure.web.security.profile.Role;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+@Path("/admin")
+public class AdminResource {
+
+  private ObjectMapper objectMapper;
+
+  public AdminResource(@NoWrapRootValueObjectMapper ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  @GET
+  @Path("/slow-queries")
+  @Secured({Role.ADMIN})
+  @Produces(MediaType.APPLICATION_JSON)
+  public Response getSlowQueries() throws JsonProcessingException {
+    return Response.ok(
+            objectMapper.writeValueAsString(
+                new SlowQueriesResponse(
+                    SlowQueryLog.isEnabled(), SlowQueryLog.getSlowQueries())))
+        .status(Response.Status.OK)
+        .build();
+  }
+}
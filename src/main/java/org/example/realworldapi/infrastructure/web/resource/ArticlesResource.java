@@ -4,9 +4,22 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.realworldapi.domain.model.constants.ValidationMessages;
 import org.example.realworldapi.domain.model.entity.Article;
+import org.example.realworldapi.domain.model.entity.ArticleSearchPage;
 import org.example.realworldapi.domain.model.entity.Articles;
 import org.example.realworldapi.domain.model.entity.Comment;
+import org.example.realworldapi.domain.model.entity.CommentCursor;
+import org.example.realworldapi.domain.model.entity.Comments;
+import org.example.realworldapi.domain.model.search.ArticleHit;
+import org.example.realworldapi.domain.model.search.TagMode;
 import org.example.realworldapi.domain.service.ArticlesService;
+import org.example.realworldapi.infrastructure.bulkhead.annotation.Bulkhead;
+import org.example.realworldapi.infrastructure.concurrency.RequestPriority;
+import org.example.realworldapi.infrastructure.concurrency.annotation.ConcurrencyLimit;
+import org.example.realworldapi.infrastructure.metrics.timing.ServerTimingContext;
+import org.example.realworldapi.infrastructure.metrics.timing.ServerTimingPhase;
+import org.example.realworldapi.infrastructure.web.exception.InvalidCursorException;
+import org.example.realworldapi.infrastructure.web.exception.InvalidTagModeException;
+import org.example.realworldapi.infrastructure.web.exception.ServiceUnavailableException;
 import org.example.realworldapi.infrastructure.web.security.profile.Role;
 import org.example.realworldapi.infrastructure.web.model.request.NewArticleRequest;
 import org.example.realworldapi.infrastructure.web.model.request.NewCommentRequest;
@@ -16,7 +29,9 @@ import org.example.realworldapi.infrastructure.web.model.response.ArticlesRespon
 import org.example.realworldapi.infrastructure.web.model.response.CommentResponse;
 import org.example.realworldapi.infrastructure.web.model.response.CommentsResponse;
 import org.example.realworldapi.infrastructure.web.qualifiers.NoWrapRootValueObjectMapper;
+import org.example.realworldapi.infrastructure.web.security.annotation.RateLimited;
 import org.example.realworldapi.infrastructure.web.security.annotation.Secured;
+import org.example.realworldapi.infrastructure.web.stream.SseCommentBroadcaster;
 
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
@@ -26,19 +41,35 @@ import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
+import javax.ws.rs.core.UriInfo;
+import javax.ws.rs.sse.Sse;
+import javax.ws.rs.sse.SseEventSink;
+import java.nio.charset.StandardCharsets;
 import java.security.Principal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
 
+@Bulkhead
+@ConcurrencyLimit
 @Path("/articles")
 public class ArticlesResource {
 
+  private static final String CURSOR_SEPARATOR = ",";
+  private static final long STREAM_RETRY_AFTER_SECONDS = 5;
+
   private ArticlesService articlesService;
   private ObjectMapper objectMapper;
+  private SseCommentBroadcaster commentBroadcaster;
 
   public ArticlesResource(
-      ArticlesService articlesService, @NoWrapRootValueObjectMapper ObjectMapper objectMapper) {
+      ArticlesService articlesService,
+      @NoWrapRootValueObjectMapper ObjectMapper objectMapper,
+      SseCommentBroadcaster commentBroadcaster) {
     this.articlesService = articlesService;
     this.objectMapper = objectMapper;
+    this.commentBroadcaster = commentBroadcaster;
   }
 
   @GET
@@ -52,9 +83,7 @@ public class ArticlesResource {
       throws JsonProcessingException {
     Long loggedUserId = getLoggedUserId(securityContext);
     Articles result = articlesService.findRecentArticles(loggedUserId, offset, limit);
-    return Response.ok(objectMapper.writeValueAsString(new ArticlesResponse(result)))
-        .status(Response.Status.OK)
-        .build();
+    return Response.ok(toJson(new ArticlesResponse(result))).status(Response.Status.OK).build();
   }
 
   @GET
@@ -64,20 +93,51 @@ public class ArticlesResource {
       @QueryParam("offset") int offset,
       @QueryParam("limit") int limit,
       @QueryParam("tag") List<String> tags,
+      @QueryParam("tagMode") @DefaultValue("any") String tagMode,
       @QueryParam("author") List<String> authors,
       @QueryParam("favorited") List<String> favorited,
       @Context SecurityContext securityContext)
       throws JsonProcessingException {
     Long loggedUserId = getLoggedUserId(securityContext);
     Articles result =
-        articlesService.findArticles(offset, limit, loggedUserId, tags, authors, favorited);
-    return Response.ok(objectMapper.writeValueAsString(new ArticlesResponse(result)))
-        .status(Response.Status.OK)
-        .build();
+        articlesService.findArticles(
+            offset, limit, loggedUserId, tags, getTagMode(tagMode), authors, favorited);
+    return Response.ok(toJson(new ArticlesResponse(result))).status(Response.Status.OK).build();
+  }
+
+  @GET
+  @Path("/search")
+  @Secured(optional = true)
+  @ConcurrencyLimit(RequestPriority.LOW)
+  @Produces(MediaType.APPLICATION_JSON)
+  public Response searchArticles(
+      @QueryParam("q") @NotBlank(message = ValidationMessages.QUERY_MUST_BE_NOT_BLANK)
+          String query,
+      @QueryParam("limit") int limit,
+      @QueryParam("after") String after,
+      @Context SecurityContext securityContext,
+      @Context UriInfo uriInfo)
+      throws JsonProcessingException {
+    Long loggedUserId = getLoggedUserId(securityContext);
+    ArticleSearchPage result =
+        articlesService.searchArticles(query, decodeSearchCursor(after), limit, loggedUserId);
+    Response.ResponseBuilder response =
+        Response.ok(toJson(new ArticlesResponse(result.getArticles()))).status(Response.Status.OK);
+    ArticleHit next = result.getNext();
+    if (next != null) {
+      response.link(
+          uriInfo
+              .getRequestUriBuilder()
+              .replaceQueryParam("after", encodeCursor(next.getScore(), next.getArticleId()))
+              .build(),
+          "next");
+    }
+    return response.build();
   }
 
   @POST
   @Secured({Role.ADMIN, Role.USER})
+  @RateLimited("articles")
   @Consumes(MediaType.APPLICATION_JSON)
   @Produces(MediaType.APPLICATION_JSON)
   public Response create(
@@ -97,6 +157,8 @@ public class ArticlesResource {
 
   @GET
   @Path("/{slug}")
+  @Secured(optional = true)
+  @ConcurrencyLimit(RequestPriority.HIGH)
   @Produces(MediaType.APPLICATION_JSON)
   public Response findBySlug(
       @PathParam("slug") @NotBlank(message = ValidationMessages.SLUG_MUST_BE_NOT_BLANK)
@@ -108,6 +170,7 @@ public class ArticlesResource {
   @PUT
   @Path("/{slug}")
   @Secured({Role.ADMIN, Role.USER})
+  @RateLimited("articles")
   @Consumes(MediaType.APPLICATION_JSON)
   @Produces(MediaType.APPLICATION_JSON)
   public Response update(
@@ -128,6 +191,7 @@ public class ArticlesResource {
   @DELETE
   @Path("/{slug}")
   @Secured({Role.ADMIN, Role.USER})
+  @RateLimited("articles")
   @Produces(MediaType.APPLICATION_JSON)
   public Response delete(
       @PathParam("slug") @NotBlank(message = ValidationMessages.SLUG_MUST_BE_NOT_BLANK) String slug,
@@ -143,18 +207,49 @@ public class ArticlesResource {
   @Produces(MediaType.APPLICATION_JSON)
   public Response getCommentsBySlug(
       @PathParam("slug") @NotBlank(message = ValidationMessages.SLUG_MUST_BE_NOT_BLANK) String slug,
-      @Context SecurityContext securityContext)
+      @QueryParam("limit") int limit,
+      @QueryParam("after") String after,
+      @Context SecurityContext securityContext,
+      @Context UriInfo uriInfo)
       throws JsonProcessingException {
     Long loggedUserId = getLoggedUserId(securityContext);
-    List<Comment> comments = articlesService.findCommentsBySlug(slug, loggedUserId);
-    return Response.ok(objectMapper.writeValueAsString(new CommentsResponse(comments)))
-        .status(Response.Status.OK)
-        .build();
+    Comments result =
+        articlesService.findCommentsBySlug(slug, loggedUserId, decodeCommentCursor(after), limit);
+    Response.ResponseBuilder response =
+        Response.ok(toJson(new CommentsResponse(result.getComments()))).status(Response.Status.OK);
+    if (result.isHasMore()) {
+      List<Comment> comments = result.getComments();
+      Comment last = comments.get(comments.size() - 1);
+      response.link(
+          uriInfo
+              .getRequestUriBuilder()
+              .replaceQueryParam("limit", comments.size())
+              .replaceQueryParam("after", encodeCursor(last.getCreatedAt(), last.getId()))
+              .build(),
+          "next");
+    }
+    return response.build();
+  }
+
+  @GET
+  @Path("/{slug}/comments/stream")
+  @Secured(optional = true)
+  @ConcurrencyLimit(sampled = false)
+  @Produces(MediaType.SERVER_SENT_EVENTS)
+  public void streamComments(
+      @PathParam("slug") @NotBlank(message = ValidationMessages.SLUG_MUST_BE_NOT_BLANK) String slug,
+      @Context SseEventSink eventSink,
+      @Context Sse sse) {
+    Long articleId = articlesService.findArticleId(slug);
+    if (!commentBroadcaster.subscribe(articleId, eventSink, sse)) {
+      throw new ServiceUnavailableException(STREAM_RETRY_AFTER_SECONDS);
+    }
   }
 
   @POST
   @Path("/{slug}/comments")
   @Secured({Role.ADMIN, Role.USER})
+  @RateLimited("comments")
   @Consumes(MediaType.APPLICATION_JSON)
   @Produces(MediaType.APPLICATION_JSON)
   public Response createComment(
@@ -170,6 +265,7 @@ public class ArticlesResource {
   @DELETE
   @Path("/{slug}/comments/{id}")
   @Secured({Role.ADMIN, Role.USER})
+  @RateLimited("comments")
   @Produces(MediaType.APPLICATION_JSON)
   public Response deleteComment(
       @PathParam("slug") @NotBlank(message = ValidationMessages.SLUG_MUST_BE_NOT_BLANK) String slug,
@@ -183,6 +279,7 @@ public class ArticlesResource {
   @POST
   @Path("/{slug}/favorite")
   @Secured({Role.ADMIN, Role.USER})
+  @RateLimited("favorites")
   @Produces(MediaType.APPLICATION_JSON)
   public Response favoriteArticle(
       @PathParam("slug") @NotBlank(message = ValidationMessages.SLUG_MUST_BE_NOT_BLANK) String slug,
@@ -195,6 +292,7 @@ public class ArticlesResource {
   @DELETE
   @Path("/{slug}/favorite")
   @Secured({Role.ADMIN, Role.USER})
+  @RateLimited("favorites")
   @Produces(MediaType.APPLICATION_JSON)
   public Response unfavoriteArticle(
       @PathParam("slug") @NotBlank(message = ValidationMessages.SLUG_MUST_BE_NOT_BLANK) String slug,
@@ -208,4 +306,57 @@ public class ArticlesResource {
     Principal principal = securityContext.getUserPrincipal();
     return principal != null ? Long.valueOf(principal.getName()) : null;
   }
+
+  private TagMode getTagMode(String tagMode) {
+    try {
+      return TagMode.valueOf(tagMode.trim().toUpperCase());
+    } catch (IllegalArgumentException ex) {
+      throw new InvalidTagModeException();
+    }
+  }
+
+  private String encodeCursor(Object key, Long id) {
+    String cursor = key + CURSOR_SEPARATOR + id;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private CommentCursor decodeCommentCursor(String after) {
+    if (after == null || after.isEmpty()) {
+      return null;
+    }
+    try {
+      String[] cursor = decodeCursor(after);
+      return new CommentCursor(LocalDateTime.parse(cursor[0]), Long.valueOf(cursor[1]));
+    } catch (IllegalArgumentException | DateTimeParseException ex) {
+      throw new InvalidCursorException();
+    }
+  }
+
+  private ArticleHit decodeSearchCursor(String after) {
+    if (after == null || after.isEmpty()) {
+      return null;
+    }
+    try {
+      String[] cursor = decodeCursor(after);
+      return new ArticleHit(Long.valueOf(cursor[1]), Double.parseDouble(cursor[0]));
+    } catch (IllegalArgumentException ex) {
+      throw new InvalidCursorException();
+    }
+  }
+
+  private String[] decodeCursor(String after) {
+    String cursor = new String(Base64.getUrlDecoder().decode(after), StandardCharsets.UTF_8);
+    int separator = cursor.indexOf(CURSOR_SEPARATOR);
+    if (separator < 0) {
+      throw new InvalidCursorException();
+    }
+    return new String[] {cursor.substring(0, separator), cursor.substring(separator + 1)};
+  }
+
+  private String toJson(Object response) throws JsonProcessingException {
+    return ServerTimingContext.time(
+        ServerTimingPhase.SERIALIZATION, () -> objectMapper.writeValueAsString(response));
+  }
 }
@@ -2,9 +2,13 @@ package org.example.realworldapi.infrastructure.web.resource;
 
 import org.example.realworldapi.domain.model.constants.ValidationMessages;
 import org.example.realworldapi.domain.model.entity.Profile;
+import org.example.realworldapi.infrastructure.bulkhead.annotation.Bulkhead;
+import org.example.realworldapi.infrastructure.concurrency.RequestPriority;
+import org.example.realworldapi.infrastructure.concurrency.annotation.ConcurrencyLimit;
 import org.example.realworldapi.infrastructure.web.security.profile.Role;
 import org.example.realworldapi.domain.service.ProfilesService;
 import org.example.realworldapi.infrastructure.web.model.response.ProfileResponse;
+import org.example.realworldapi.infrastructure.web.security.annotation.RateLimited;
 import org.example.realworldapi.infrastructure.web.security.annotation.Secured;
 
 import javax.validation.constraints.NotBlank;
@@ -15,6 +19,8 @@ import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
 import java.security.Principal;
 
+@Bulkhead
+@ConcurrencyLimit
 @Path("/profiles")
 public class ProfilesResource {
 
@@ -27,6 +33,7 @@ public class ProfilesResource {
   @GET
   @Secured(optional = true)
   @Path("/{username}")
+  @ConcurrencyLimit(RequestPriority.HIGH)
   @Produces(MediaType.APPLICATION_JSON)
   public Response getProfile(
       @PathParam("username") @NotBlank(message = ValidationMessages.USERNAME_MUST_BE_NOT_BLANK)
@@ -40,6 +47,7 @@ public class ProfilesResource {
   @POST
   @Secured({Role.USER, Role.ADMIN})
   @Path("/{username}/follow")
+  @RateLimited("follows")
   @Produces(MediaType.APPLICATION_JSON)
   public Response follow(
       @PathParam("username") @NotBlank(message = ValidationMessages.USERNAME_MUST_BE_NOT_BLANK)
@@ -52,6 +60,7 @@ public class ProfilesResource {
   @DELETE
   @Secured({Role.USER, Role.ADMIN})
   @Path("/{username}/follow")
+  @RateLimited("follows")
   @Produces(MediaType.APPLICATION_JSON)
   public Response unfollow(
       @PathParam("username") @NotBlank(message = ValidationMessages.USERNAME_MUST_BE_NOT_BLANK)
@@ -4,8 +4,14 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.realworldapi.domain.model.entity.persistent.Tag;
 import org.example.realworldapi.domain.service.TagsService;
+import org.example.realworldapi.infrastructure.bulkhead.annotation.Bulkhead;
+import org.example.realworldapi.infrastructure.concurrency.RequestPriority;
+import org.example.realworldapi.infrastructure.concurrency.annotation.ConcurrencyLimit;
+import org.example.realworldapi.infrastructure.metrics.timing.ServerTimingContext;
+import org.example.realworldapi.infrastructure.metrics.timing.ServerTimingPhase;
 import org.example.realworldapi.infrastructure.web.model.response.TagsResponse;
 import org.example.realworldapi.infrastructure.web.qualifiers.NoWrapRootValueObjectMapper;
+import org.example.realworldapi.infrastructure.web.security.annotation.Secured;
 
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
@@ -14,6 +20,8 @@ import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import java.util.List;
 
+@Bulkhead
+@ConcurrencyLimit
 @Path("/tags")
 public class TagsResource {
 
@@ -27,11 +35,16 @@ public class TagsResource {
   }
 
   @GET
+  @Secured(optional = true)
+  @ConcurrencyLimit(RequestPriority.HIGH)
   @Produces(MediaType.APPLICATION_JSON)
   public Response getTags() throws JsonProcessingException {
     List<Tag> tags = tagsService.findTags();
-    return Response.ok(objectMapper.writeValueAsString(new TagsResponse(tags)))
-        .status(Response.Status.OK)
-        .build();
+    return Response.ok(toJson(new TagsResponse(tags))).status(Response.Status.OK).build();
+  }
+
+  private String toJson(Object response) throws JsonProcessingException {
+    return ServerTimingContext.time(
+        ServerTimingPhase.SERIALIZATION, () -> objectMapper.writeValueAsString(response));
   }
 }
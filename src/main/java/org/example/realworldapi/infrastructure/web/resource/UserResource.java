@@ -3,9 +3,13 @@ package org.example.realworldapi.infrastructure.web.resource;
 import org.example.realworldapi.domain.model.constants.ValidationMessages;
 import org.example.realworldapi.domain.model.entity.persistent.User;
 import org.example.realworldapi.domain.service.UsersService;
+import org.example.realworldapi.infrastructure.bulkhead.annotation.Bulkhead;
+import org.example.realworldapi.infrastructure.concurrency.RequestPriority;
+import org.example.realworldapi.infrastructure.concurrency.annotation.ConcurrencyLimit;
 import org.example.realworldapi.infrastructure.web.security.profile.Role;
 import org.example.realworldapi.infrastructure.web.model.request.UpdateUserRequest;
 import org.example.realworldapi.infrastructure.web.model.response.UserResponse;
+import org.example.realworldapi.infrastructure.web.security.annotation.RateLimited;
 import org.example.realworldapi.infrastructure.web.security.annotation.Secured;
 
 import javax.validation.Valid;
@@ -16,6 +20,8 @@ import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
 
+@Bulkhead
+@ConcurrencyLimit
 @Path("/user")
 public class UserResource {
 
@@ -27,6 +33,7 @@ public class UserResource {
 
   @GET
   @Secured({Role.ADMIN, Role.USER})
+  @ConcurrencyLimit(RequestPriority.HIGH)
   @Produces(MediaType.APPLICATION_JSON)
   public Response getUser(@Context SecurityContext securityContext) {
     User user = usersService.findById(Long.valueOf(securityContext.getUserPrincipal().getName()));
@@ -35,6 +42,7 @@ public class UserResource {
 
   @PUT
   @Secured({Role.USER, Role.USER})
+  @RateLimited("users")
   @Consumes(MediaType.APPLICATION_JSON)
   @Produces(MediaType.APPLICATION_JSON)
   public Response update(
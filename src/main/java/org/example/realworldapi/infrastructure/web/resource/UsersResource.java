@@ -4,10 +4,15 @@ import org.example.realworldapi.domain.model.constants.ValidationMessages;
 import org.example.realworldapi.domain.model.entity.persistent.User;
 import org.example.realworldapi.domain.model.exception.UserNotFoundException;
 import org.example.realworldapi.domain.service.UsersService;
+import org.example.realworldapi.infrastructure.bulkhead.TrafficClass;
+import org.example.realworldapi.infrastructure.bulkhead.annotation.Bulkhead;
+import org.example.realworldapi.infrastructure.concurrency.RequestPriority;
+import org.example.realworldapi.infrastructure.concurrency.annotation.ConcurrencyLimit;
 import org.example.realworldapi.infrastructure.web.model.request.LoginRequest;
 import org.example.realworldapi.infrastructure.web.model.request.NewUserRequest;
 import org.example.realworldapi.infrastructure.web.model.response.UserResponse;
 import org.example.realworldapi.infrastructure.web.exception.UnauthorizedException;
+import org.example.realworldapi.infrastructure.web.security.annotation.RateLimited;
 
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
@@ -19,6 +24,8 @@ import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
+@Bulkhead(TrafficClass.AUTH)
+@ConcurrencyLimit(RequestPriority.LOW)
 @Path("/users")
 public class UsersResource {
 
@@ -29,6 +36,7 @@ public class UsersResource {
   }
 
   @POST
+  @RateLimited("registrations")
   @Consumes(MediaType.APPLICATION_JSON)
   @Produces(MediaType.APPLICATION_JSON)
   public Response create(
@@ -43,6 +51,7 @@ public class UsersResource {
 
   @POST
   @Path("/login")
+  @RateLimited("logins")
   @Consumes(MediaType.APPLICATION_JSON)
   @Produces(MediaType.APPLICATION_JSON)
   public Response login(
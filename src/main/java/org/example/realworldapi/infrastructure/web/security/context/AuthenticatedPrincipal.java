@@ -0,0 +1,22 @@
+package org.example.realworldapi.infrastructure.web.security.context;
+
+import javax.enterprise.context.RequestScoped;
+import java.security.Principal;
+
+@RequestScoped
+public class AuthenticatedPrincipal {
+
+  private Principal principal;
+
+  public Principal getPrincipal() {
+    return principal;
+  }
+
+  public void setPrincipal(Principal principal) {
+    this.principal = principal;
+  }
+
+  public boolean isAuthenticated() {
+    return principal != null;
+  }
+}
@@ -3,8 +3,13 @@ package org.example.realworldapi.infrastructure.web.security.filter;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import org.example.realworldapi.domain.model.provider.TokenProvider;
+import org.example.realworldapi.infrastructure.metrics.event.FlightRecorderSupport;
+import org.example.realworldapi.infrastructure.metrics.event.TokenVerificationEvent;
+import org.example.realworldapi.infrastructure.metrics.timing.ServerTimingContext;
+import org.example.realworldapi.infrastructure.metrics.timing.ServerTimingPhase;
 import org.example.realworldapi.infrastructure.web.exception.UnauthorizedException;
 import org.example.realworldapi.infrastructure.web.security.annotation.Secured;
+import org.example.realworldapi.infrastructure.web.security.context.AuthenticatedPrincipal;
 import org.example.realworldapi.infrastructure.web.security.context.DecodedJWTSecurityContext;
 import org.example.realworldapi.infrastructure.web.security.context.EmptySecurityContext;
 
@@ -31,6 +36,8 @@ public class AuthenticationFilter implements ContainerRequestFilter {
   @Inject
   TokenProvider tokenProvider;
 
+  @Inject AuthenticatedPrincipal authenticatedPrincipal;
+
   @Context private ResourceInfo resourceInfo;
 
   @Override
@@ -45,10 +52,12 @@ public class AuthenticationFilter implements ContainerRequestFilter {
 
       try {
 
-        DecodedJWT decodedJWT = tokenProvider.verify(token);
+        DecodedJWT decodedJWT = verify(token);
 
-        containerRequestContext.setSecurityContext(
-            new DecodedJWTSecurityContext(decodedJWT, tokenProvider));
+        DecodedJWTSecurityContext securityContext =
+            new DecodedJWTSecurityContext(decodedJWT, tokenProvider);
+        containerRequestContext.setSecurityContext(securityContext);
+        authenticatedPrincipal.setPrincipal(securityContext.getUserPrincipal());
 
       } catch (JWTVerificationException ex) {
         containerRequestContext.abortWith(
@@ -66,6 +75,34 @@ public class AuthenticationFilter implements ContainerRequestFilter {
     }
   }
 
+  private DecodedJWT verify(String token) {
+    ServerTimingContext.start(ServerTimingPhase.AUTH);
+    try {
+      return FlightRecorderSupport.AVAILABLE
+          ? recordVerification(token)
+          : tokenProvider.verify(token);
+    } finally {
+      ServerTimingContext.stop();
+    }
+  }
+
+  private DecodedJWT recordVerification(String token) {
+    TokenVerificationEvent event = new TokenVerificationEvent();
+    event.begin();
+    DecodedJWT decodedJWT = null;
+    try {
+      decodedJWT = tokenProvider.verify(token);
+      return decodedJWT;
+    } finally {
+      event.end();
+      if (event.shouldCommit()) {
+        event.setSubject(decodedJWT != null ? decodedJWT.getSubject() : null);
+        event.setVerified(decodedJWT != null);
+        event.commit();
+      }
+    }
+  }
+
   private boolean isSecurityOptional() {
 
     Class<?> resourceClass = resourceInfo.getResourceClass();
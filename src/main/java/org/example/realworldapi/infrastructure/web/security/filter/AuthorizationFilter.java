@@ -1,5 +1,7 @@
 package org.example.realworldapi.infrastructure.web.security.filter;
 
+import org.example.realworldapi.infrastructure.metrics.event.AuthorizationEvent;
+import org.example.realworldapi.infrastructure.metrics.event.FlightRecorderSupport;
 import org.example.realworldapi.infrastructure.web.security.profile.Role;
 import org.example.realworldapi.infrastructure.web.exception.ForbiddenException;
 import org.example.realworldapi.infrastructure.web.security.annotation.Secured;
@@ -73,6 +75,28 @@ public class AuthorizationFilter implements ContainerRequestFilter {
   }
 
   private boolean isAccessAllowed(List<Role> allowedRoles, SecurityContext securityContext) {
+    if (!FlightRecorderSupport.AVAILABLE) {
+      return hasAnyRole(allowedRoles, securityContext);
+    }
+
+    AuthorizationEvent event = new AuthorizationEvent();
+    event.begin();
+    boolean granted = hasAnyRole(allowedRoles, securityContext);
+    event.end();
+
+    if (event.shouldCommit()) {
+      Method resourceMethod = resourceInfo.getResourceMethod();
+      event.setEndpoint(
+          resourceMethod.getDeclaringClass().getSimpleName() + "." + resourceMethod.getName());
+      event.setRequiredRoles(allowedRoles.toString());
+      event.setGranted(granted);
+      event.commit();
+    }
+
+    return granted;
+  }
+
+  private boolean hasAnyRole(List<Role> allowedRoles, SecurityContext securityContext) {
     for (Role allowedRole : allowedRoles) {
       if (securityContext.isUserInRole(allowedRole.name())) {
         return true;
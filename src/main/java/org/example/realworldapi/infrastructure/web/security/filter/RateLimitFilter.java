@@ -0,0 +1,158 @@
+package org.example.realworldapi.infrastructure.web.security.filter;
+
+import io.vertx.core.http.HttpServerRequest;
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.Tag;
+import org.example.realworldapi.infrastructure.web.exception.TooManyRequestsException;
+import org.example.realworldapi.infrastructure.web.security.annotation.RateLimited;
+import org.example.realworldapi.infrastructure.web.security.ratelimit.TokenBucketRateLimiter;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.ext.Provider;
+import java.lang.reflect.Method;
+import java.security.Principal;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+@RateLimited
+@Provider
+@Priority(Priorities.AUTHORIZATION + 1)
+public class RateLimitFilter implements ContainerRequestFilter {
+
+  private static final String PREFIX = "rate-limit.";
+  private static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+
+  @Inject
+  @ConfigProperty(name = "rate-limit.enabled", defaultValue = "true")
+  boolean enabled;
+
+  @Inject
+  @ConfigProperty(name = "rate-limit.capacity", defaultValue = "60")
+  long defaultCapacity;
+
+  @Inject
+  @ConfigProperty(name = "rate-limit.refill-per-minute", defaultValue = "60")
+  long defaultRefillPerMinute;
+
+  @Inject
+  @ConfigProperty(name = "rate-limit.max-keys", defaultValue = "100000")
+  long maxKeys;
+
+  @Inject
+  @ConfigProperty(name = "rate-limit.trust-forwarded-for", defaultValue = "false")
+  boolean trustForwardedFor;
+
+  @Inject
+  @ConfigProperty(name = "rate-limit.trusted-proxies", defaultValue = "1")
+  int trustedProxies;
+
+  @Inject Config config;
+
+  @Inject MetricRegistry metricRegistry;
+
+  @Context private ResourceInfo resourceInfo;
+
+  @Context private HttpServerRequest httpServerRequest;
+
+  private final ConcurrentMap<String, TokenBucketRateLimiter> limiters =
+      new ConcurrentHashMap<>();
+
+  @Override
+  public void filter(ContainerRequestContext containerRequestContext) {
+    if (!enabled) {
+      return;
+    }
+    String endpoint = getEndpoint(resourceInfo.getResourceMethod());
+    long waitNanos = limiter(endpoint).tryAcquire(getKey(containerRequestContext));
+    if (waitNanos > 0) {
+      metricRegistry
+          .counter(
+              metadata("rejected", "Requests rejected by the rate limiter", MetricType.COUNTER),
+              new Tag("endpoint", endpoint))
+          .inc();
+      throw new TooManyRequestsException(TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1);
+    }
+  }
+
+  private String getEndpoint(Method resourceMethod) {
+    RateLimited rateLimited = resourceMethod.getAnnotation(RateLimited.class);
+    if (rateLimited == null) {
+      rateLimited = resourceMethod.getDeclaringClass().getAnnotation(RateLimited.class);
+    }
+    return rateLimited.value();
+  }
+
+  private String getKey(ContainerRequestContext containerRequestContext) {
+    Principal principal = containerRequestContext.getSecurityContext().getUserPrincipal();
+    if (principal != null) {
+      return "user:" + principal.getName();
+    }
+    if (trustForwardedFor) {
+      String forwardedFor =
+          getForwardedFor(
+              containerRequestContext.getHeaderString(FORWARDED_FOR_HEADER), trustedProxies);
+      if (forwardedFor != null) {
+        return "ip:" + forwardedFor;
+      }
+    }
+    return "ip:" + httpServerRequest.remoteAddress().host();
+  }
+
+  static String getForwardedFor(String header, int trustedProxies) {
+    if (header == null || trustedProxies < 1) {
+      return null;
+    }
+    String[] addresses = header.split(",");
+    if (addresses.length < trustedProxies) {
+      return null;
+    }
+    String address = addresses[addresses.length - trustedProxies].trim();
+    return address.isEmpty() ? null : address;
+  }
+
+  private TokenBucketRateLimiter limiter(String endpoint) {
+    TokenBucketRateLimiter limiter = limiters.get(endpoint);
+    if (limiter == null) {
+      limiter = limiters.computeIfAbsent(endpoint, this::createLimiter);
+    }
+    return limiter;
+  }
+
+  private TokenBucketRateLimiter createLimiter(String endpoint) {
+    String name = PREFIX + endpoint;
+    TokenBucketRateLimiter limiter =
+        new TokenBucketRateLimiter(
+            config.getOptionalValue(name + ".capacity", Long.class).orElse(defaultCapacity),
+            config
+                .getOptionalValue(name + ".refill-per-minute", Long.class)
+                .orElse(defaultRefillPerMinute),
+            maxKeys);
+    metricRegistry.register(
+        metadata("keys", "Clients with a token bucket for the endpoint", MetricType.GAUGE),
+        (Gauge<Long>) limiter::getKeys,
+        new Tag("endpoint", endpoint));
+    return limiter;
+  }
+
+  private Metadata metadata(String name, String description, MetricType type) {
+    return Metadata.builder()
+        .withName(PREFIX + name)
+        .withType(type)
+        .withUnit(MetricUnits.NONE)
+        .withDescription(description)
+        .build();
+  }
+}
@@ -0,0 +1,47 @@
+package org.example.realworldapi.infrastructure.web.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TokenBucketRateLimiter {
+
+  private final long capacity;
+  private final long refillIntervalNanos;
+  private final Cache<String, AtomicLong> buckets;
+
+  public TokenBucketRateLimiter(long capacity, long refillPerMinute, long maxKeys) {
+    this.capacity = capacity;
+    this.refillIntervalNanos = TimeUnit.MINUTES.toNanos(1) / refillPerMinute;
+    this.buckets =
+        Caffeine.newBuilder()
+            .maximumSize(maxKeys)
+            .expireAfterAccess(capacity * refillIntervalNanos, TimeUnit.NANOSECONDS)
+            .build();
+  }
+
+  public long tryAcquire(String key) {
+    return tryAcquire(key, System.nanoTime());
+  }
+
+  long tryAcquire(String key, long now) {
+    AtomicLong emptyAt = buckets.get(key, k -> new AtomicLong(Long.MIN_VALUE));
+    long fullAt = now - capacity * refillIntervalNanos;
+    while (true) {
+      long current = emptyAt.get();
+      long next = Math.max(current, fullAt) + refillIntervalNanos;
+      if (next > now) {
+        return next - now;
+      }
+      if (emptyAt.compareAndSet(current, next)) {
+        return 0;
+      }
+    }
+  }
+
+  public long getKeys() {
+    return buckets.estimatedSize();
+  }
+}
@@ -0,0 +1,12 @@
+package org.example.realworldapi.infrastructure.web.stream;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+class CommentStreamEvent {
+  private final String name;
+  private final String id;
+  private final String data;
+}
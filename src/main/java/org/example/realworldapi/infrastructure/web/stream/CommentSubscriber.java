@@ -0,0 +1,178 @@
+package org.example.realworldapi.infrastructure.web.stream;
+
+import lombok.Getter;
+import org.eclipse.microprofile.metrics.Counter;
+
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.sse.OutboundSseEvent;
+import javax.ws.rs.sse.Sse;
+import javax.ws.rs.sse.SseEventSink;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+class CommentSubscriber {
+
+  private static final String HEARTBEAT = "keep-alive";
+
+  @Getter private final Long articleId;
+  private final SseEventSink eventSink;
+  private final Sse sse;
+  private final int queueSize;
+  private final OverflowPolicy overflowPolicy;
+  private final ScheduledExecutorService executor;
+  private final Executor writer;
+  private final long writeTimeoutMillis;
+  private final Counter droppedEvents;
+  private final Consumer<CommentSubscriber> onClose;
+  private final Deque<OutboundSseEvent> queue = new ArrayDeque<>();
+  private boolean sending;
+  private boolean closed;
+  private long sends;
+  private long pendingSend;
+
+  CommentSubscriber(
+      Long articleId,
+      SseEventSink eventSink,
+      Sse sse,
+      int queueSize,
+      OverflowPolicy overflowPolicy,
+      ScheduledExecutorService executor,
+      Executor writer,
+      long writeTimeoutMillis,
+      Counter droppedEvents,
+      Consumer<CommentSubscriber> onClose) {
+    this.articleId = articleId;
+    this.eventSink = eventSink;
+    this.sse = sse;
+    this.queueSize = queueSize;
+    this.overflowPolicy = overflowPolicy;
+    this.executor = executor;
+    this.writer = writer;
+    this.writeTimeoutMillis = writeTimeoutMillis;
+    this.droppedEvents = droppedEvents;
+    this.onClose = onClose;
+  }
+
+  void offer(CommentStreamEvent event) {
+    enqueue(
+        sse.newEventBuilder()
+            .name(event.getName())
+            .id(event.getId())
+            .mediaType(MediaType.APPLICATION_JSON_TYPE)
+            .data(String.class, event.getData())
+            .build());
+  }
+
+  void heartbeat() {
+    synchronized (this) {
+      if (sending || !queue.isEmpty()) {
+        return;
+      }
+    }
+    enqueue(sse.newEventBuilder().comment(HEARTBEAT).build());
+  }
+
+  void close() {
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      queue.clear();
+    }
+    try {
+      eventSink.close();
+    } finally {
+      onClose.accept(this);
+    }
+  }
+
+  private void enqueue(OutboundSseEvent event) {
+    boolean overflow = false;
+    boolean dispatch = false;
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      if (queue.size() < queueSize || overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+        if (queue.size() >= queueSize) {
+          queue.pollFirst();
+          droppedEvents.inc();
+        }
+        queue.addLast(event);
+        dispatch = !sending;
+        sending = true;
+      } else {
+        droppedEvents.inc(queue.size() + 1);
+        overflow = true;
+      }
+    }
+    if (overflow) {
+      close();
+    } else if (dispatch) {
+      executor.execute(this::sendNext);
+    }
+  }
+
+  private void sendNext() {
+    OutboundSseEvent event;
+    long send;
+    synchronized (this) {
+      event = closed ? null : queue.pollFirst();
+      if (event == null) {
+        sending = false;
+        return;
+      }
+      send = ++sends;
+      pendingSend = send;
+    }
+    ScheduledFuture<?> timeout =
+        executor.schedule(() -> writeTimedOut(send), writeTimeoutMillis, TimeUnit.MILLISECONDS);
+    writer.execute(() -> write(event, timeout));
+  }
+
+  private void write(OutboundSseEvent event, ScheduledFuture<?> timeout) {
+    CompletionStage<?> result;
+    try {
+      result = eventSink.send(event);
+    } catch (RuntimeException ex) {
+      timeout.cancel(false);
+      close();
+      return;
+    }
+    result.whenCompleteAsync(
+        (sent, error) -> {
+          timeout.cancel(false);
+          synchronized (this) {
+            pendingSend = 0;
+          }
+          if (error != null) {
+            close();
+          } else {
+            sendNext();
+          }
+        },
+        executor);
+  }
+
+  private void writeTimedOut(long send) {
+    int dropped;
+    synchronized (this) {
+      if (closed || pendingSend != send) {
+        return;
+      }
+      closed = true;
+      dropped = queue.size() + 1;
+      queue.clear();
+    }
+    droppedEvents.inc(dropped);
+    onClose.accept(this);
+    writer.execute(eventSink::close);
+  }
+}
@@ -0,0 +1,10 @@
+package org.example.realworldapi.infrastructure.web.stream;
+
+public enum OverflowPolicy {
+  DROP_OLDEST,
+  DISCONNECT;
+
+  static OverflowPolicy fromConfig(String value) {
+    return valueOf(value.trim().toUpperCase().replace('-', '_'));
+  }
+}
@@ -0,0 +1,231 @@
+package org.example.realworldapi.infrastructure.web.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.example.realworldapi.domain.model.event.CommentAdded;
+import org.example.realworldapi.domain.model.event.CommentDeleted;
+import org.example.realworldapi.domain.model.event.DomainEvent;
+import org.example.realworldapi.domain.model.event.DomainEventConsumer;
+import org.example.realworldapi.infrastructure.web.model.response.CommentResponse;
+import org.example.realworldapi.infrastructure.web.qualifiers.NoWrapRootValueObjectMapper;
+import org.jboss.logging.Logger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.ws.rs.sse.Sse;
+import javax.ws.rs.sse.SseEventSink;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@ApplicationScoped
+public class SseCommentBroadcaster implements DomainEventConsumer {
+
+  static final String COMMENT_CREATED = "comment-created";
+  static final String COMMENT_DELETED = "comment-deleted";
+
+  private static final Logger LOGGER = Logger.getLogger(SseCommentBroadcaster.class);
+  private static final String METRICS_PREFIX = "comments.stream.";
+
+  private final Map<Long, Set<CommentSubscriber>> subscribers = new ConcurrentHashMap<>();
+  private final AtomicInteger subscriberCount = new AtomicInteger();
+  private ObjectMapper objectMapper;
+  private MetricRegistry metricRegistry;
+  private int queueSize;
+  private OverflowPolicy overflowPolicy;
+  private int maxSubscribers;
+  private int dispatcherThreads;
+  private long heartbeatSeconds;
+  private long writeTimeoutMillis;
+  private ScheduledExecutorService executor;
+  private ExecutorService writer;
+  private Counter droppedEvents;
+
+  public SseCommentBroadcaster(
+      @NoWrapRootValueObjectMapper ObjectMapper objectMapper,
+      MetricRegistry metricRegistry,
+      @ConfigProperty(name = "comments.stream.queue-size", defaultValue = "32") int queueSize,
+      @ConfigProperty(name = "comments.stream.overflow", defaultValue = "drop-oldest")
+          String overflowPolicy,
+      @ConfigProperty(name = "comments.stream.max-subscribers", defaultValue = "1000")
+          int maxSubscribers,
+      @ConfigProperty(name = "comments.stream.dispatcher-threads", defaultValue = "2")
+          int dispatcherThreads,
+      @ConfigProperty(name = "comments.stream.heartbeat.seconds", defaultValue = "30")
+          long heartbeatSeconds,
+      @ConfigProperty(name = "comments.stream.write-timeout.millis", defaultValue = "10000")
+          long writeTimeoutMillis) {
+    this.objectMapper = objectMapper;
+    this.metricRegistry = metricRegistry;
+    this.queueSize = queueSize;
+    this.overflowPolicy = OverflowPolicy.fromConfig(overflowPolicy);
+    this.maxSubscribers = maxSubscribers;
+    this.dispatcherThreads = dispatcherThreads;
+    this.heartbeatSeconds = heartbeatSeconds;
+    this.writeTimeoutMillis = writeTimeoutMillis;
+  }
+
+  void onStart(@Observes StartupEvent startupEvent) {
+    AtomicInteger threads = new AtomicInteger();
+    executor =
+        Executors.newScheduledThreadPool(
+            dispatcherThreads,
+            runnable -> {
+              Thread thread = new Thread(runnable, "comment-stream-" + threads.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+    AtomicInteger writerThreads = new AtomicInteger();
+    writer =
+        Executors.newCachedThreadPool(
+            runnable -> {
+              Thread thread =
+                  new Thread(
+                      runnable, "comment-stream-writer-" + writerThreads.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+    executor.scheduleWithFixedDelay(
+        this::heartbeat, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+
+    droppedEvents =
+        metricRegistry.counter(
+            Metadata.builder()
+                .withName(METRICS_PREFIX + "dropped")
+                .withType(MetricType.COUNTER)
+                .withUnit(MetricUnits.NONE)
+                .withDescription("Comment events dropped for slow subscribers")
+                .build());
+    metricRegistry.register(
+        Metadata.builder()
+            .withName(METRICS_PREFIX + "subscribers")
+            .withType(MetricType.GAUGE)
+            .withUnit(MetricUnits.NONE)
+            .withDescription("Open comment streams")
+            .build(),
+        (Gauge<Integer>) subscriberCount::get);
+  }
+
+  void onStop(@Observes ShutdownEvent shutdownEvent) {
+    executor.shutdownNow();
+    allSubscribers().forEach(CommentSubscriber::close);
+    writer.shutdownNow();
+  }
+
+  public boolean subscribe(Long articleId, SseEventSink eventSink, Sse sse) {
+    if (subscriberCount.incrementAndGet() > maxSubscribers) {
+      subscriberCount.decrementAndGet();
+      return false;
+    }
+    CommentSubscriber subscriber =
+        new CommentSubscriber(
+            articleId,
+            eventSink,
+            sse,
+            queueSize,
+            overflowPolicy,
+            executor,
+            writer,
+            writeTimeoutMillis,
+            droppedEvents,
+            this::unsubscribe);
+    subscribers.compute(
+        articleId,
+        (id, articleSubscribers) -> {
+          Set<CommentSubscriber> result =
+              articleSubscribers != null ? articleSubscribers : ConcurrentHashMap.newKeySet();
+          result.add(subscriber);
+          return result;
+        });
+    return true;
+  }
+
+  @Override
+  public String getName() {
+    return "comment-stream";
+  }
+
+  @Override
+  public boolean accepts(DomainEvent event) {
+    return event instanceof CommentAdded || event instanceof CommentDeleted;
+  }
+
+  @Override
+  public void consume(List<DomainEvent> events) {
+    for (DomainEvent event : events) {
+      if (event instanceof CommentAdded) {
+        CommentAdded commentAdded = (CommentAdded) event;
+        publish(
+            commentAdded.getArticleId(),
+            COMMENT_CREATED,
+            commentAdded.getComment().getId(),
+            () -> new CommentResponse(commentAdded.getComment()));
+      } else {
+        CommentDeleted commentDeleted = (CommentDeleted) event;
+        publish(
+            commentDeleted.getArticleId(),
+            COMMENT_DELETED,
+            commentDeleted.getCommentId(),
+            () -> Collections.singletonMap("id", commentDeleted.getCommentId()));
+      }
+    }
+  }
+
+  private void publish(Long articleId, String name, Long id, Supplier<Object> data) {
+    Set<CommentSubscriber> articleSubscribers = subscribers.get(articleId);
+    if (articleSubscribers == null || articleSubscribers.isEmpty()) {
+      return;
+    }
+    CommentStreamEvent event;
+    try {
+      event =
+          new CommentStreamEvent(
+              name, String.valueOf(id), objectMapper.writeValueAsString(data.get()));
+    } catch (JsonProcessingException ex) {
+      LOGGER.warnf(ex, "Unable to serialize %s event for article %d", name, articleId);
+      return;
+    }
+    for (CommentSubscriber subscriber : articleSubscribers) {
+      subscriber.offer(event);
+    }
+  }
+
+  private void unsubscribe(CommentSubscriber subscriber) {
+    subscribers.computeIfPresent(
+        subscriber.getArticleId(),
+        (articleId, articleSubscribers) -> {
+          if (articleSubscribers.remove(subscriber)) {
+            subscriberCount.decrementAndGet();
+          }
+          return articleSubscribers.isEmpty() ? null : articleSubscribers;
+        });
+  }
+
+  private void heartbeat() {
+    allSubscribers().forEach(CommentSubscriber::heartbeat);
+  }
+
+  private List<CommentSubscriber> allSubscribers() {
+    List<CommentSubscriber> result = new ArrayList<>();
+    subscribers.values().forEach(result::addAll);
+    return result;
+  }
+}
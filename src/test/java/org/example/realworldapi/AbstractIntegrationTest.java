@@ -3,24 +3,48 @@ package org.example.realworldapi;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.slugify.Slugify;
 import org.example.realworldapi.domain.model.builder.ArticleBuilder;
+import org.example.realworldapi.domain.model.cache.CommentThreadCache;
 import org.example.realworldapi.domain.model.entity.persistent.*;
 import org.example.realworldapi.domain.model.provider.TokenProvider;
+import org.example.realworldapi.domain.model.search.ArticleSearchIndex;
+import org.example.realworldapi.domain.model.search.ArticleTagIndex;
+import org.example.realworldapi.infrastructure.projection.ArticleSummaryBackfill;
+import org.example.realworldapi.infrastructure.search.ArticleSearchIndexer;
 import org.example.realworldapi.util.UserUtils;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.BeforeEach;
 
 import javax.inject.Inject;
+import javax.persistence.EntityManagerFactory;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 public class AbstractIntegrationTest extends DatabaseIntegrationTest {
 
   @Inject protected ObjectMapper objectMapper;
   @Inject protected TokenProvider tokenProvider;
   @Inject protected Slugify slugify;
+  @Inject EntityManagerFactory applicationEntityManagerFactory;
+  @Inject CommentThreadCache commentThreadCache;
+  @Inject protected ArticleSearchIndex articleSearchIndex;
+  @Inject ArticleTagIndex articleTagIndex;
+  @Inject protected ArticleSearchIndexer articleSearchIndexer;
+  @Inject ArticleSummaryBackfill articleSummaryBackfill;
+
+  private final Map<String, Integer> slugCounters = new HashMap<>();
 
   @BeforeEach
   public void beforeEach() {
     clear();
+    slugCounters.clear();
+    applicationEntityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    commentThreadCache.invalidateAll();
+    articleSearchIndex.clear();
+    articleTagIndex.invalidateAll();
   }
 
   protected User createUser(
@@ -29,7 +53,7 @@ public class AbstractIntegrationTest extends DatabaseIntegrationTest {
         () -> {
           User user = UserUtils.create(username, email, password, bio, image);
           entityManager.persist(user);
-          user.setToken(tokenProvider.createUserToken(user.getId().toString()));
+          user.setToken(tokenProvider.createUserToken(user.getId().toString(), user.isAdmin()));
           entityManager.merge(user);
           return user;
         });
@@ -65,31 +89,35 @@ public class AbstractIntegrationTest extends DatabaseIntegrationTest {
   }
 
   protected List<ArticlesTags> createArticlesTags(List<Article> articles, Tag... tags) {
-    return transaction(
-        () -> {
-          List<ArticlesTags> resultList = new LinkedList<>();
+    List<ArticlesTags> createdArticlesTags =
+        transaction(
+            () -> {
+              List<ArticlesTags> resultList = new LinkedList<>();
 
-          for (Article article : articles) {
+              for (Article article : articles) {
 
-            Article managedArticle = entityManager.find(Article.class, article.getId());
+                Article managedArticle = entityManager.find(Article.class, article.getId());
 
-            for (Tag tag : tags) {
-              Tag managedTag = entityManager.find(Tag.class, tag.getId());
+                for (Tag tag : tags) {
+                  Tag managedTag = entityManager.find(Tag.class, tag.getId());
 
-              ArticlesTagsKey articlesTagsKey = new ArticlesTagsKey();
-              articlesTagsKey.setArticle(managedArticle);
-              articlesTagsKey.setTag(managedTag);
+                  ArticlesTagsKey articlesTagsKey = new ArticlesTagsKey();
+                  articlesTagsKey.setArticle(managedArticle);
+                  articlesTagsKey.setTag(managedTag);
 
-              ArticlesTags articlesTags = new ArticlesTags();
-              articlesTags.setPrimaryKey(articlesTagsKey);
+                  ArticlesTags articlesTags = new ArticlesTags();
+                  articlesTags.setPrimaryKey(articlesTagsKey);
 
-              entityManager.persist(articlesTags);
-              resultList.add(articlesTags);
-            }
-          }
+                  entityManager.persist(articlesTags);
+                  resultList.add(articlesTags);
+                }
+              }
 
-          return resultList;
-        });
+              return resultList;
+            });
+    articleSummaryBackfill.refresh(
+        articles.stream().map(Article::getId).collect(Collectors.toList()));
+    return createdArticlesTags;
   }
 
   protected List<Article> createArticles(
@@ -110,28 +138,34 @@ public class AbstractIntegrationTest extends DatabaseIntegrationTest {
   }
 
   protected Article createArticle(User author, String title, String description, String body) {
-    return transaction(
-        () -> {
-          Article article =
-              new ArticleBuilder()
-                  .title(title)
-                  .slug(slugify.slugify(title))
-                  .description(description)
-                  .body(body)
-                  .author(author)
-                  .build();
-          entityManager.persist(article);
-          return article;
-        });
+    Article createdArticle =
+        transaction(
+            () -> {
+              Article article =
+                  new ArticleBuilder()
+                      .title(title)
+                      .slug(uniqueSlug(title))
+                      .description(description)
+                      .body(body)
+                      .author(author)
+                      .build();
+              entityManager.persist(article);
+              return article;
+            });
+    articleSummaryBackfill.refresh(Collections.singletonList(createdArticle.getId()));
+    return createdArticle;
   }
 
   protected ArticlesUsers favorite(Article article, User user) {
-    return transaction(
-        () -> {
-          ArticlesUsers articlesUsers = getArticlesUsers(article, user);
-          entityManager.persist(articlesUsers);
-          return articlesUsers;
-        });
+    ArticlesUsers favorite =
+        transaction(
+            () -> {
+              ArticlesUsers articlesUsers = getArticlesUsers(article, user);
+              entityManager.persist(articlesUsers);
+              return articlesUsers;
+            });
+    articleSummaryBackfill.refresh(Collections.singletonList(article.getId()));
+    return favorite;
   }
 
   protected Comment createComment(User author, Article article, String body) {
@@ -146,6 +180,12 @@ public class AbstractIntegrationTest extends DatabaseIntegrationTest {
         });
   };
 
+  private String uniqueSlug(String title) {
+    String slug = slugify.slugify(title);
+    int count = slugCounters.merge(slug, 1, Integer::sum);
+    return count == 1 ? slug : slug + "-" + count;
+  }
+
   private ArticlesUsers getArticlesUsers(Article article, User loggedUser) {
     ArticlesUsersKey articlesUsersKey = getArticlesUsersKey(article, loggedUser);
     ArticlesUsers articlesUsers = new ArticlesUsers();
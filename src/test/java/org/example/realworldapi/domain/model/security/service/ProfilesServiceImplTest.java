@@ -4,6 +4,7 @@ import io.quarkus.test.junit.QuarkusTest;
 import org.example.realworldapi.domain.model.builder.UserBuilder;
 import org.example.realworldapi.domain.model.entity.Profile;
 import org.example.realworldapi.domain.model.entity.persistent.User;
+import org.example.realworldapi.domain.model.event.DomainEventPublisher;
 import org.example.realworldapi.domain.model.repository.UsersFollowersRepository;
 import org.example.realworldapi.domain.service.ProfilesService;
 import org.example.realworldapi.domain.service.UsersService;
@@ -26,7 +27,9 @@ public class ProfilesServiceImplTest {
   private void beforeEach() {
     usersService = mock(UsersService.class);
     usersFollowersRepository = mock(UsersFollowersRepository.class);
-    profilesService = new ProfilesServiceImpl(usersService, usersFollowersRepository);
+    profilesService =
+        new ProfilesServiceImpl(
+            usersService, usersFollowersRepository, mock(DomainEventPublisher.class));
   }
 
   @Test
@@ -4,12 +4,15 @@ import io.quarkus.test.junit.QuarkusTest;
 import org.example.realworldapi.domain.application.UsersServiceImpl;
 import org.example.realworldapi.domain.model.builder.UserBuilder;
 import org.example.realworldapi.domain.model.entity.persistent.User;
+import org.example.realworldapi.domain.model.event.DomainEventPublisher;
+import org.example.realworldapi.domain.model.event.UserUpdated;
 import org.example.realworldapi.domain.model.exception.EmailAlreadyExistsException;
 import org.example.realworldapi.domain.model.exception.InvalidPasswordException;
 import org.example.realworldapi.domain.model.exception.UserNotFoundException;
 import org.example.realworldapi.domain.model.exception.UsernameAlreadyExistsException;
 import org.example.realworldapi.domain.model.provider.HashProvider;
 import org.example.realworldapi.domain.model.provider.TokenProvider;
+import org.example.realworldapi.domain.model.repository.ArticleSummaryRepository;
 import org.example.realworldapi.domain.model.repository.UserRepository;
 import org.example.realworldapi.domain.service.UsersService;
 import org.example.realworldapi.util.UserUtils;
@@ -23,6 +26,7 @@ import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @QuarkusTest
@@ -31,6 +35,8 @@ public class UsersServiceImplTest {
   private UserRepository userRepository;
   private TokenProvider tokenProvider;
   private HashProvider hashProvider;
+  private DomainEventPublisher eventPublisher;
+  private ArticleSummaryRepository articleSummaryRepository;
   private UsersService usersService;
 
   @BeforeEach
@@ -38,7 +44,11 @@ public class UsersServiceImplTest {
     userRepository = mock(UserRepository.class);
     tokenProvider = mock(TokenProvider.class);
     hashProvider = mock(HashProvider.class);
-    usersService = new UsersServiceImpl(userRepository, tokenProvider, hashProvider);
+    eventPublisher = mock(DomainEventPublisher.class);
+    articleSummaryRepository = mock(ArticleSummaryRepository.class);
+    usersService =
+        new UsersServiceImpl(
+            userRepository, tokenProvider, hashProvider, eventPublisher, articleSummaryRepository);
   }
 
   @Test
@@ -56,7 +66,7 @@ public class UsersServiceImplTest {
     createdUser.setToken(UUID.randomUUID().toString());
 
     when(userRepository.create(any(User.class))).thenReturn(createdUser);
-    when(tokenProvider.createUserToken(createdUser.getId().toString())).thenReturn("token");
+    when(tokenProvider.createUserToken(createdUser.getId().toString(), false)).thenReturn("token");
 
     User resultUser = usersService.create(username, email, password);
 
@@ -103,7 +113,8 @@ public class UsersServiceImplTest {
     when(userRepository.findByEmail(email)).thenReturn(existingUser);
     when(userRepository.update(existingUser.get())).thenReturn(existingUser.get());
     when(hashProvider.checkPassword(password, existingUser.get().getPassword())).thenReturn(true);
-    when(tokenProvider.createUserToken(existingUser.get().getId().toString())).thenReturn("token");
+    when(tokenProvider.createUserToken(existingUser.get().getId().toString(), false))
+        .thenReturn("token");
 
     User resultUser = usersService.login(email, password);
 
@@ -170,6 +181,8 @@ public class UsersServiceImplTest {
     User result = usersService.update(user);
 
     Assertions.assertEquals(user.getEmail(), result.getEmail());
+    verify(articleSummaryRepository).updateAuthor(user.getId(), "user1", "user1 bio", null);
+    verify(eventPublisher).publish(any(UserUpdated.class));
   }
 
   @Test
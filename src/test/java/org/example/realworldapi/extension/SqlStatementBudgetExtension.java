@@ -0,0 +1,79 @@
+package org.example.realworldapi.extension;
+
+import io.restassured.RestAssured;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.example.realworldapi.infrastructure.metrics.filter.SqlStatementBudgetFilter;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+public class SqlStatementBudgetExtension implements BeforeEachCallback, AfterEachCallback {
+
+  private static final ExtensionContext.Namespace NAMESPACE =
+      ExtensionContext.Namespace.create(SqlStatementBudgetExtension.class);
+  private static final String PREVIOUS_FILTERS = "previousFilters";
+
+  @Override
+  public void beforeEach(ExtensionContext context) {
+    Optional<SqlStatementBudget> sqlStatementBudget =
+        AnnotationSupport.findAnnotation(context.getElement(), SqlStatementBudget.class);
+
+    if (sqlStatementBudget.isPresent()) {
+      context.getStore(NAMESPACE).put(PREVIOUS_FILTERS, new ArrayList<>(RestAssured.filters()));
+      RestAssured.filters(new StatementBudgetFilter(sqlStatementBudget.get().max()));
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void afterEach(ExtensionContext context) {
+    List<Filter> previousFilters = context.getStore(NAMESPACE).remove(PREVIOUS_FILTERS, List.class);
+    if (previousFilters != null) {
+      RestAssured.replaceFiltersWith(previousFilters);
+    }
+  }
+
+  private static class StatementBudgetFilter implements Filter {
+
+    private final int maxStatements;
+
+    private StatementBudgetFilter(int maxStatements) {
+      this.maxStatements = maxStatements;
+    }
+
+    @Override
+    public Response filter(
+        FilterableRequestSpecification requestSpec,
+        FilterableResponseSpecification responseSpec,
+        FilterContext context) {
+
+      Response response = context.next(requestSpec, responseSpec);
+      String request = requestSpec.getMethod() + " " + requestSpec.getURI();
+      String statementCount = response.getHeader(SqlStatementBudgetFilter.STATEMENT_COUNT_HEADER);
+
+      if (statementCount == null) {
+        throw new AssertionError(request + " did not report its SQL statement count");
+      }
+
+      if (Integer.parseInt(statementCount) > maxStatements) {
+        throw new AssertionError(
+            request
+                + " executed "
+                + statementCount
+                + " SQL statements, the budget is "
+                + maxStatements);
+      }
+
+      return response;
+    }
+  }
+}
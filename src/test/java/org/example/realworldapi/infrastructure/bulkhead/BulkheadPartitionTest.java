@@ -0,0 +1,59 @@
+package org.example.realworldapi.infrastructure.bulkhead;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class BulkheadPartitionTest {
+
+  @Test
+  public void givenFullPartitionWithoutQueue_shouldRejectImmediately() throws Exception {
+    BulkheadPartition partition =
+        new BulkheadPartition(TrafficClass.WRITE, 1, 0, TimeUnit.SECONDS.toNanos(10));
+
+    Assertions.assertTrue(partition.tryAcquire());
+    long start = System.nanoTime();
+    Assertions.assertFalse(partition.tryAcquire());
+    Assertions.assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+    Assertions.assertEquals(1, partition.getActive());
+    Assertions.assertEquals(0, partition.getQueued());
+  }
+
+  @Test
+  public void givenFullPartition_shouldAdmitQueuedRequestOnRelease() throws Exception {
+    BulkheadPartition partition =
+        new BulkheadPartition(TrafficClass.AUTH, 1, 1, TimeUnit.SECONDS.toNanos(10));
+    Assertions.assertTrue(partition.tryAcquire());
+
+    CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> acquire(partition));
+    while (partition.getQueued() == 0) {
+      Thread.sleep(1);
+    }
+    Assertions.assertFalse(partition.tryAcquire());
+
+    partition.release();
+    Assertions.assertTrue(queued.get(10, TimeUnit.SECONDS));
+    Assertions.assertEquals(1, partition.getActive());
+    Assertions.assertEquals(0, partition.getQueued());
+  }
+
+  @Test
+  public void givenFullPartition_shouldRejectQueuedRequestAfterTimeout() throws Exception {
+    BulkheadPartition partition =
+        new BulkheadPartition(TrafficClass.ANONYMOUS_READ, 1, 1, TimeUnit.MILLISECONDS.toNanos(50));
+    Assertions.assertTrue(partition.tryAcquire());
+
+    Assertions.assertFalse(partition.tryAcquire());
+    Assertions.assertEquals(0, partition.getQueued());
+  }
+
+  private boolean acquire(BulkheadPartition partition) {
+    try {
+      return partition.tryAcquire();
+    } catch (InterruptedException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+}
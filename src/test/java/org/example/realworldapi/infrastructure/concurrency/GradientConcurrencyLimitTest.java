@@ -0,0 +1,111 @@
+package org.example.realworldapi.infrastructure.concurrency;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class GradientConcurrencyLimitTest {
+
+  @Test
+  public void givenLimitReached_shouldShedWithoutQueueTimeout() throws Exception {
+    GradientConcurrencyLimit limit = new GradientConcurrencyLimit(2, 1, 10, 10);
+
+    Assertions.assertTrue(limit.tryAcquire(RequestPriority.HIGH, 0));
+    Assertions.assertTrue(limit.tryAcquire(RequestPriority.HIGH, 0));
+    Assertions.assertFalse(limit.tryAcquire(RequestPriority.HIGH, 0));
+    Assertions.assertEquals(2, limit.getInFlight());
+  }
+
+  @Test
+  public void givenLowPriority_shouldShedBeforeLimitIsReached() throws Exception {
+    GradientConcurrencyLimit limit = new GradientConcurrencyLimit(4, 1, 10, 10);
+
+    for (int i = 0; i < 3; i++) {
+      Assertions.assertTrue(limit.tryAcquire(RequestPriority.LOW, 0));
+    }
+    Assertions.assertFalse(limit.tryAcquire(RequestPriority.LOW, TimeUnit.SECONDS.toNanos(1)));
+    Assertions.assertEquals(0, limit.getQueued());
+    Assertions.assertTrue(limit.tryAcquire(RequestPriority.HIGH, 0));
+  }
+
+  @Test
+  public void givenQueuedRequests_shouldGrantReleasedSlotToHigherPriority() throws Exception {
+    GradientConcurrencyLimit limit = new GradientConcurrencyLimit(1, 1, 10, 10);
+    Assertions.assertTrue(limit.tryAcquire(RequestPriority.HIGH, 0));
+
+    CompletableFuture<Boolean> normal = acquireAsync(limit, RequestPriority.NORMAL);
+    awaitQueued(limit, 1);
+    CompletableFuture<Boolean> high = acquireAsync(limit, RequestPriority.HIGH);
+    awaitQueued(limit, 2);
+
+    limit.release(TimeUnit.MILLISECONDS.toNanos(1));
+    Assertions.assertTrue(high.get(10, TimeUnit.SECONDS));
+    Assertions.assertFalse(normal.isDone());
+
+    limit.release(TimeUnit.MILLISECONDS.toNanos(1));
+    Assertions.assertTrue(normal.get(10, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void givenRisingLatency_shouldLowerLimit() throws Exception {
+    GradientConcurrencyLimit limit = new GradientConcurrencyLimit(20, 4, 200, 10);
+    for (int i = 0; i < 15; i++) {
+      Assertions.assertTrue(limit.tryAcquire(RequestPriority.HIGH, 0));
+    }
+
+    sample(limit, 100, TimeUnit.MILLISECONDS.toNanos(1));
+    int limitAtNormalLatency = limit.getLimit();
+    sample(limit, 100, TimeUnit.MILLISECONDS.toNanos(20));
+
+    Assertions.assertTrue(limitAtNormalLatency >= 20);
+    Assertions.assertTrue(limit.getLimit() < limitAtNormalLatency);
+  }
+
+  @Test
+  public void givenUnsampledReleases_shouldKeepLimit() throws Exception {
+    GradientConcurrencyLimit limit = new GradientConcurrencyLimit(20, 4, 200, 10);
+    for (int i = 0; i < 15; i++) {
+      Assertions.assertTrue(limit.tryAcquire(RequestPriority.HIGH, 0));
+    }
+    sample(limit, 100, TimeUnit.MILLISECONDS.toNanos(20));
+    int limitAtNormalLatency = limit.getLimit();
+
+    for (int i = 0; i < 100; i++) {
+      Assertions.assertTrue(limit.tryAcquire(RequestPriority.HIGH, 0));
+      limit.release();
+    }
+
+    Assertions.assertEquals(limitAtNormalLatency, limit.getLimit());
+    Assertions.assertEquals(15, limit.getInFlight());
+  }
+
+  private void sample(GradientConcurrencyLimit limit, int samples, long rttNanos)
+      throws InterruptedException {
+    for (int i = 0; i < samples; i++) {
+      if (limit.tryAcquire(RequestPriority.HIGH, 0)) {
+        limit.release(rttNanos);
+      }
+    }
+  }
+
+  private CompletableFuture<Boolean> acquireAsync(
+      GradientConcurrencyLimit limit, RequestPriority priority) {
+    return CompletableFuture.supplyAsync(
+        () -> {
+          try {
+            return limit.tryAcquire(priority, TimeUnit.SECONDS.toNanos(10));
+          } catch (InterruptedException ex) {
+            throw new IllegalStateException(ex);
+          }
+        });
+  }
+
+  private void awaitQueued(GradientConcurrencyLimit limit, int queued)
+      throws InterruptedException {
+    while (limit.getQueued() < queued) {
+      Thread.sleep(1);
+    }
+  }
+}
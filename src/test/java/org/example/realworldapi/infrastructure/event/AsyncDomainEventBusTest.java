@@ -0,0 +1,247 @@
+package org.example.realworldapi.infrastructure.event;
+
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.Timer;
+import org.example.realworldapi.domain.model.event.CommentDeleted;
+import org.example.realworldapi.domain.model.event.DomainEvent;
+import org.example.realworldapi.domain.model.event.DomainEventConsumer;
+import org.example.realworldapi.infrastructure.transaction.TransactionCallbacks;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import javax.enterprise.inject.Instance;
+import javax.transaction.Status;
+import javax.transaction.Synchronization;
+import javax.transaction.TransactionSynchronizationRegistry;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class AsyncDomainEventBusTest {
+
+  private static final long TIMEOUT_SECONDS = 5;
+  private static final long QUIET_MILLIS = 200;
+
+  private TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+  private MetricRegistry metricRegistry;
+  private Map<String, Counter> counters;
+  private Timer lag;
+  private RecordingConsumer consumer;
+  private AsyncDomainEventBus eventBus;
+
+  @BeforeEach
+  public void beforeEach() {
+    transactionSynchronizationRegistry = mock(TransactionSynchronizationRegistry.class);
+    givenStatus(Status.STATUS_NO_TRANSACTION);
+    metricRegistry = mock(MetricRegistry.class);
+    counters = new ConcurrentHashMap<>();
+    when(metricRegistry.counter(any(Metadata.class), any(Tag.class)))
+        .thenAnswer(
+            invocation ->
+                counters.computeIfAbsent(
+                    invocation.<Metadata>getArgument(0).getName(), name -> mock(Counter.class)));
+    lag = mock(Timer.class);
+    when(metricRegistry.timer(any(Metadata.class), any(Tag.class))).thenReturn(lag);
+    consumer = new RecordingConsumer();
+  }
+
+  @AfterEach
+  public void afterEach() {
+    consumer.release();
+    if (eventBus != null) {
+      eventBus.onStop(null);
+    }
+  }
+
+  @Test
+  public void givenActiveTransaction_shouldDeliverEventOnlyAfterCommit() throws Exception {
+    eventBus = start(10, 10);
+    givenStatus(Status.STATUS_ACTIVE);
+    DomainEvent event = event(1L);
+
+    eventBus.publish(event);
+
+    Assertions.assertNull(consumer.batches.poll(QUIET_MILLIS, TimeUnit.MILLISECONDS));
+    Assertions.assertNull(counter("published"));
+    registeredSynchronization().afterCompletion(Status.STATUS_COMMITTED);
+    verify(counter("published")).inc();
+    Assertions.assertEquals(Collections.singletonList(event), consumer.nextBatch());
+    verify(counter("consumed"), timeout(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS))).inc(1);
+  }
+
+  @Test
+  public void givenActiveTransaction_whenRolledBack_shouldNotDeliverEvent() throws Exception {
+    eventBus = start(10, 10);
+    givenStatus(Status.STATUS_ACTIVE);
+
+    eventBus.publish(event(1L));
+
+    registeredSynchronization().afterCompletion(Status.STATUS_ROLLEDBACK);
+    Assertions.assertNull(consumer.batches.poll(QUIET_MILLIS, TimeUnit.MILLISECONDS));
+    Assertions.assertNull(counter("published"));
+    verify(lag, never()).update(anyLong(), any(TimeUnit.class));
+  }
+
+  @Test
+  public void givenBusyConsumer_shouldDeliverPendingEventsInBatches() throws Exception {
+    eventBus = start(10, 2);
+    consumer.block();
+    DomainEvent first = event(1L);
+    DomainEvent second = event(2L);
+    DomainEvent third = event(3L);
+    DomainEvent fourth = event(4L);
+
+    eventBus.publish(first);
+    consumer.awaitConsuming();
+    eventBus.publish(second);
+    eventBus.publish(third);
+    eventBus.publish(fourth);
+    consumer.release();
+
+    Assertions.assertEquals(Collections.singletonList(first), consumer.nextBatch());
+    Assertions.assertEquals(Arrays.asList(second, third), consumer.nextBatch());
+    Assertions.assertEquals(Collections.singletonList(fourth), consumer.nextBatch());
+  }
+
+  @Test
+  public void givenFullQueue_shouldDropAndCountEvents() throws Exception {
+    eventBus = start(2, 10);
+    consumer.block();
+
+    eventBus.publish(event(1L));
+    consumer.awaitConsuming();
+    eventBus.publish(event(2L));
+    eventBus.publish(event(3L));
+    eventBus.publish(event(4L));
+    eventBus.publish(event(5L));
+
+    verify(counter("dropped"), times(2)).inc();
+    consumer.release();
+    consumer.nextBatch();
+    Assertions.assertEquals(2, consumer.nextBatch().size());
+  }
+
+  @Test
+  public void givenQueuedEvents_shouldRecordLagFromCommit() throws Exception {
+    eventBus = start(10, 10);
+    consumer.block();
+
+    eventBus.publish(event(1L));
+    consumer.awaitConsuming();
+    eventBus.publish(event(2L));
+    Thread.sleep(QUIET_MILLIS);
+    consumer.release();
+    consumer.nextBatch();
+    consumer.nextBatch();
+
+    ArgumentCaptor<Long> lagNanos = ArgumentCaptor.forClass(Long.class);
+    verify(lag, times(2)).update(lagNanos.capture(), eq(TimeUnit.NANOSECONDS));
+    Assertions.assertTrue(
+        lagNanos.getAllValues().get(1) >= TimeUnit.MILLISECONDS.toNanos(QUIET_MILLIS));
+  }
+
+  private AsyncDomainEventBus start(int queueSize, int batchSize) {
+    @SuppressWarnings("unchecked")
+    Instance<DomainEventConsumer> consumers = mock(Instance.class);
+    when(consumers.iterator())
+        .thenAnswer(
+            invocation -> Collections.<DomainEventConsumer>singletonList(consumer).iterator());
+    AsyncDomainEventBus domainEventBus =
+        new AsyncDomainEventBus(
+            new TransactionCallbacks(transactionSynchronizationRegistry),
+            consumers,
+            metricRegistry,
+            queueSize,
+            batchSize);
+    domainEventBus.onStart(null);
+    return domainEventBus;
+  }
+
+  private void givenStatus(int status) {
+    when(transactionSynchronizationRegistry.getTransactionStatus()).thenReturn(status);
+  }
+
+  private Synchronization registeredSynchronization() {
+    ArgumentCaptor<Synchronization> synchronization =
+        ArgumentCaptor.forClass(Synchronization.class);
+    verify(transactionSynchronizationRegistry)
+        .registerInterposedSynchronization(synchronization.capture());
+    return synchronization.getValue();
+  }
+
+  private Counter counter(String name) {
+    return counters.get("domain-events." + name);
+  }
+
+  private DomainEvent event(Long commentId) {
+    return new CommentDeleted(1L, commentId);
+  }
+
+  private static class RecordingConsumer implements DomainEventConsumer {
+
+    private final BlockingQueue<List<DomainEvent>> batches = new LinkedBlockingQueue<>();
+    private final CountDownLatch consuming = new CountDownLatch(1);
+    private volatile CountDownLatch blocked = new CountDownLatch(0);
+
+    @Override
+    public String getName() {
+      return "recording";
+    }
+
+    @Override
+    public boolean accepts(DomainEvent event) {
+      return true;
+    }
+
+    @Override
+    public void consume(List<DomainEvent> events) {
+      batches.add(events);
+      consuming.countDown();
+      try {
+        blocked.await();
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    private void block() {
+      blocked = new CountDownLatch(1);
+    }
+
+    private void release() {
+      blocked.countDown();
+    }
+
+    private void awaitConsuming() throws InterruptedException {
+      Assertions.assertTrue(consuming.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    private List<DomainEvent> nextBatch() throws InterruptedException {
+      List<DomainEvent> batch = batches.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+      Assertions.assertNotNull(batch, "no batch was delivered");
+      return batch;
+    }
+  }
+}
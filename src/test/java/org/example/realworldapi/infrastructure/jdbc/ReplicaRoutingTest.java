@@ -0,0 +1,174 @@
+package org.example.realworldapi.infrastructure.jdbc;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+public class ReplicaRoutingTest {
+
+  private static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1";
+  private static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+  private static final String ROUTED_PRIMARY_URL =
+      InstrumentedDriver.URL_PREFIX + PRIMARY_URL.substring("jdbc:".length());
+
+  private Connection connection;
+
+  @BeforeEach
+  public void beforeEach() throws SQLException {
+    createItems(PRIMARY_URL, "primary");
+    createItems(REPLICA_URL, "replica");
+    ReplicaRouting.configure(
+        REPLICA_URL,
+        "sa",
+        "",
+        TimeUnit.SECONDS.toNanos(1),
+        1,
+        TimeUnit.MILLISECONDS.toNanos(10));
+    ReplicaRouting.recordLag(0);
+    connection = new InstrumentedDriver().connect(ROUTED_PRIMARY_URL, credentials());
+  }
+
+  @AfterEach
+  public void afterEach() throws SQLException {
+    connection.close();
+    ReadOnlyTransaction.exit();
+    ReplicaRouting.endRequest();
+    ReplicaRouting.configure(null, null, null, 0, 0, 0);
+    execute(PRIMARY_URL, "drop all objects");
+    execute(REPLICA_URL, "drop all objects");
+  }
+
+  @Test
+  public void givenNoReadOnlyScope_whenSelect_shouldReadFromPrimary() throws SQLException {
+    Assertions.assertEquals("primary", selectItem());
+  }
+
+  @Test
+  public void givenReadOnlyScope_whenSelect_shouldReadFromReplica() throws SQLException {
+    ReadOnlyTransaction.enter();
+
+    Assertions.assertEquals("replica", selectItem());
+  }
+
+  @Test
+  public void givenReplicaLagAboveStaleness_whenSelect_shouldReadFromPrimary()
+      throws SQLException {
+    ReplicaRouting.recordLag(TimeUnit.SECONDS.toNanos(2));
+    ReadOnlyTransaction.enter();
+
+    Assertions.assertEquals("primary", selectItem());
+  }
+
+  @Test
+  public void givenRequestPinnedToPrimary_whenSelect_shouldReadFromPrimary() throws SQLException {
+    ReplicaRouting.beginRequest(true);
+    ReadOnlyTransaction.enter();
+
+    Assertions.assertEquals("primary", selectItem());
+    Assertions.assertFalse(ReplicaRouting.endRequest());
+  }
+
+  @Test
+  public void givenRequestThatWrote_whenSelect_shouldReadOwnWriteFromPrimary()
+      throws SQLException {
+    ReplicaRouting.beginRequest(false);
+    try (PreparedStatement insert =
+        connection.prepareStatement("insert into ITEMS (name) values ('written')")) {
+      insert.executeUpdate();
+    }
+    ReadOnlyTransaction.enter();
+
+    try (PreparedStatement select =
+        connection.prepareStatement("select count(*) from ITEMS where name = 'written'")) {
+      ResultSet resultSet = select.executeQuery();
+      resultSet.next();
+      Assertions.assertEquals(1, resultSet.getInt(1));
+    }
+    Assertions.assertTrue(ReplicaRouting.endRequest());
+  }
+
+  @Test
+  public void givenReplicaPoolExhausted_whenSelect_shouldReadFromPrimaryUntilReleased()
+      throws SQLException {
+    ReadOnlyTransaction.enter();
+    connection.setAutoCommit(false);
+    try (Connection other = new InstrumentedDriver().connect(ROUTED_PRIMARY_URL, credentials())) {
+      other.setAutoCommit(false);
+      Assertions.assertEquals("replica", selectItem());
+      Assertions.assertEquals(1, ReplicaRouting.getActiveReplicaConnections());
+
+      Assertions.assertEquals("primary", selectItem(other));
+      other.commit();
+
+      connection.commit();
+      Assertions.assertEquals(0, ReplicaRouting.getActiveReplicaConnections());
+      Assertions.assertEquals(1, ReplicaRouting.getIdleReplicaConnections());
+      Assertions.assertEquals("replica", selectItem(other));
+      other.commit();
+    }
+  }
+
+  @Test
+  public void givenHeartbeatNotReplicated_whenBeat_shouldFallBackToPrimary() throws SQLException {
+    ReplicaLagMonitor lagMonitor = new ReplicaLagMonitor(ROUTED_PRIMARY_URL, "sa", "");
+    try {
+      lagMonitor.beat();
+      Assertions.assertFalse(ReplicaRouting.isReplicaFresh());
+
+      long beatAt = System.currentTimeMillis();
+      execute(
+          REPLICA_URL,
+          "create table REPLICA_HEARTBEAT (id integer primary key, beatAt bigint)",
+          "insert into REPLICA_HEARTBEAT (id, beatAt) values (1, " + beatAt + ")");
+      lagMonitor.beat();
+      Assertions.assertTrue(ReplicaRouting.isReplicaFresh());
+    } finally {
+      lagMonitor.close();
+    }
+  }
+
+  private String selectItem() throws SQLException {
+    return selectItem(connection);
+  }
+
+  private String selectItem(Connection connection) throws SQLException {
+    try (PreparedStatement select = connection.prepareStatement("select name from ITEMS")) {
+      ResultSet resultSet = select.executeQuery();
+      resultSet.next();
+      return resultSet.getString(1);
+    }
+  }
+
+  private void createItems(String url, String name) throws SQLException {
+    execute(
+        url,
+        "create table ITEMS (name varchar(20))",
+        "insert into ITEMS (name) values ('" + name + "')");
+  }
+
+  private void execute(String url, String... statements) throws SQLException {
+    try (Connection connection = DriverManager.getConnection(url, credentials());
+        Statement statement = connection.createStatement()) {
+      for (String sql : statements) {
+        statement.execute(sql);
+      }
+    }
+  }
+
+  private Properties credentials() {
+    Properties info = new Properties();
+    info.setProperty("user", "sa");
+    info.setProperty("password", "");
+    return info;
+  }
+}
@@ -0,0 +1,115 @@
+package org.example.realworldapi.infrastructure.transaction;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import javax.transaction.Status;
+import javax.transaction.Synchronization;
+import javax.transaction.TransactionSynchronizationRegistry;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TransactionCallbacksTest {
+
+  private TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+  private TransactionCallbacks transactionCallbacks;
+  private Runnable action;
+
+  @BeforeEach
+  public void beforeEach() {
+    transactionSynchronizationRegistry = mock(TransactionSynchronizationRegistry.class);
+    transactionCallbacks = new TransactionCallbacks(transactionSynchronizationRegistry);
+    action = mock(Runnable.class);
+  }
+
+  @Test
+  public void givenNoTransaction_shouldRunActionImmediately() {
+    givenStatus(Status.STATUS_NO_TRANSACTION);
+
+    transactionCallbacks.afterCommit(action);
+
+    verify(action).run();
+    verify(transactionSynchronizationRegistry, never()).registerInterposedSynchronization(any());
+  }
+
+  @Test
+  public void givenActiveTransaction_shouldRunActionOnlyAfterCommit() {
+    givenStatus(Status.STATUS_ACTIVE);
+
+    transactionCallbacks.afterCommit(action);
+
+    Synchronization synchronization = registeredSynchronization();
+    verify(action, never()).run();
+    synchronization.beforeCompletion();
+    synchronization.afterCompletion(Status.STATUS_COMMITTED);
+    verify(action, times(1)).run();
+  }
+
+  @Test
+  public void givenActiveTransaction_whenRolledBack_shouldNotRunAction() {
+    givenStatus(Status.STATUS_ACTIVE);
+
+    transactionCallbacks.afterCommit(action);
+
+    registeredSynchronization().afterCompletion(Status.STATUS_ROLLEDBACK);
+    verify(action, never()).run();
+  }
+
+  @Test
+  public void givenTransactionMarkedRollbackOnly_shouldDropAction() {
+    givenStatus(Status.STATUS_MARKED_ROLLBACK);
+
+    transactionCallbacks.afterCommit(action);
+
+    verify(action, never()).run();
+    verify(transactionSynchronizationRegistry, never()).registerInterposedSynchronization(any());
+  }
+
+  @Test
+  public void givenTransactionRollingBack_shouldDropAction() {
+    givenStatus(Status.STATUS_ROLLING_BACK);
+
+    transactionCallbacks.afterCommit(action);
+
+    verify(action, never()).run();
+    verify(transactionSynchronizationRegistry, never()).registerInterposedSynchronization(any());
+  }
+
+  @Test
+  public void givenTransactionRolledBack_shouldDropAction() {
+    givenStatus(Status.STATUS_ROLLEDBACK);
+
+    transactionCallbacks.afterCommit(action);
+
+    verify(action, never()).run();
+    verify(transactionSynchronizationRegistry, never()).registerInterposedSynchronization(any());
+  }
+
+  @Test
+  public void givenUnknownTransactionStatus_shouldDropAction() {
+    givenStatus(Status.STATUS_UNKNOWN);
+
+    transactionCallbacks.afterCommit(action);
+
+    verify(action, never()).run();
+    verify(transactionSynchronizationRegistry, never()).registerInterposedSynchronization(any());
+  }
+
+  private void givenStatus(int status) {
+    when(transactionSynchronizationRegistry.getTransactionStatus()).thenReturn(status);
+  }
+
+  private Synchronization registeredSynchronization() {
+    ArgumentCaptor<Synchronization> synchronization =
+        ArgumentCaptor.forClass(Synchronization.class);
+    verify(transactionSynchronizationRegistry)
+        .registerInterposedSynchronization(synchronization.capture());
+    return synchronization.getValue();
+  }
+}
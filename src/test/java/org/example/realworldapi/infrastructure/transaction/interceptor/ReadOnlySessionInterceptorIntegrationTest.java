@@ -0,0 +1,126 @@
+package org.example.realworldapi.infrastructure.transaction.interceptor;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.example.realworldapi.AbstractIntegrationTest;
+import org.example.realworldapi.domain.model.entity.persistent.User;
+import org.example.realworldapi.infrastructure.transaction.annotation.ReadOnly;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.persistence.EntityManager;
+import javax.transaction.Transactional;
+import java.sql.Connection;
+
+@QuarkusTest
+public class ReadOnlySessionInterceptorIntegrationTest extends AbstractIntegrationTest {
+
+  @Inject UserBioUpdater userBioUpdater;
+
+  @Test
+  public void givenReadOnlyTransaction_whenModifyLoadedEntity_shouldNotFlushChanges() {
+    User user = createUser("user1", "user1@mail.com", "bio", "image", "123");
+
+    SessionState sessionState = userBioUpdater.updateBioReadOnly(user.getId(), "updated bio");
+
+    Assertions.assertTrue(sessionState.defaultReadOnly);
+    Assertions.assertTrue(sessionState.entityReadOnly);
+    Assertions.assertEquals(FlushMode.MANUAL, sessionState.flushMode);
+    Assertions.assertTrue(sessionState.connectionReadOnly);
+    Assertions.assertEquals("bio", findBio(user.getId()));
+  }
+
+  @Test
+  public void givenReadOnlyTransaction_whenFlushModifiedEntity_shouldNotWriteChanges() {
+    User user = createUser("user1", "user1@mail.com", "bio", "image", "123");
+
+    userBioUpdater.updateBioAndFlushReadOnly(user.getId(), "updated bio");
+
+    Assertions.assertEquals("bio", findBio(user.getId()));
+  }
+
+  @Test
+  public void givenReadWriteTransaction_whenModifyLoadedEntity_shouldFlushChanges() {
+    User user = createUser("user1", "user1@mail.com", "bio", "image", "123");
+
+    SessionState sessionState = userBioUpdater.updateBio(user.getId(), "updated bio");
+
+    Assertions.assertFalse(sessionState.defaultReadOnly);
+    Assertions.assertFalse(sessionState.entityReadOnly);
+    Assertions.assertFalse(sessionState.connectionReadOnly);
+    Assertions.assertEquals("updated bio", findBio(user.getId()));
+  }
+
+  @Test
+  public void givenReadOnlyTransaction_whenNoStatementExecuted_shouldUseReadOnlyConnection() {
+    Assertions.assertTrue(userBioUpdater.connectionReadOnlyBeforeFirstStatement());
+  }
+
+  @Test
+  public void givenReadWriteTransactionAfterReadOnlyOne_whenModify_shouldFlushChanges() {
+    User user = createUser("user1", "user1@mail.com", "bio", "image", "123");
+    userBioUpdater.updateBioReadOnly(user.getId(), "updated bio");
+
+    SessionState sessionState = userBioUpdater.updateBio(user.getId(), "updated bio");
+
+    Assertions.assertFalse(sessionState.connectionReadOnly);
+    Assertions.assertEquals("updated bio", findBio(user.getId()));
+  }
+
+  private String findBio(Long userId) {
+    return transaction(() -> entityManager.find(User.class, userId).getBio());
+  }
+
+  @ApplicationScoped
+  public static class UserBioUpdater {
+
+    @Inject EntityManager entityManager;
+
+    @Transactional
+    @ReadOnly
+    public SessionState updateBioReadOnly(Long userId, String bio) {
+      return update(entityManager, userId, bio);
+    }
+
+    @Transactional
+    @ReadOnly
+    public void updateBioAndFlushReadOnly(Long userId, String bio) {
+      update(entityManager, userId, bio);
+      entityManager.flush();
+    }
+
+    @Transactional
+    @ReadOnly
+    public boolean connectionReadOnlyBeforeFirstStatement() {
+      return entityManager.unwrap(Session.class).doReturningWork(Connection::isReadOnly);
+    }
+
+    @Transactional
+    public SessionState updateBio(Long userId, String bio) {
+      return update(entityManager, userId, bio);
+    }
+
+    private static SessionState update(EntityManager entityManager, Long userId, String bio) {
+      User user = entityManager.find(User.class, userId);
+      user.setBio(bio);
+      Session session = entityManager.unwrap(Session.class);
+      SessionState sessionState = new SessionState();
+      sessionState.defaultReadOnly = session.isDefaultReadOnly();
+      sessionState.entityReadOnly = session.isReadOnly(user);
+      sessionState.flushMode = session.getHibernateFlushMode();
+      sessionState.connectionReadOnly = session.doReturningWork(Connection::isReadOnly);
+      return sessionState;
+    }
+  }
+
+  public static class SessionState {
+
+    private boolean defaultReadOnly;
+    private boolean entityReadOnly;
+    private FlushMode flushMode;
+    private boolean connectionReadOnly;
+  }
+}
@@ -0,0 +1,26 @@
+package org.example.realworldapi.infrastructure.web.security.filter;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class RateLimitFilterTest {
+
+  @Test
+  public void givenSpoofedForwardedFor_shouldUseAddressAddedByTrustedProxy() {
+    Assertions.assertEquals(
+        "203.0.113.7", RateLimitFilter.getForwardedFor("1.2.3.4, 203.0.113.7", 1));
+  }
+
+  @Test
+  public void givenTwoTrustedProxies_shouldUseSecondAddressFromTheRight() {
+    Assertions.assertEquals(
+        "203.0.113.7",
+        RateLimitFilter.getForwardedFor("1.2.3.4, 203.0.113.7, 10.0.0.2", 2));
+  }
+
+  @Test
+  public void givenFewerAddressesThanTrustedProxies_shouldNotUseForwardedFor() {
+    Assertions.assertNull(RateLimitFilter.getForwardedFor("203.0.113.7", 2));
+    Assertions.assertNull(RateLimitFilter.getForwardedFor(null, 1));
+  }
+}
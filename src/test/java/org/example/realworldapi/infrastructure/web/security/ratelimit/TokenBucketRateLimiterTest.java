@@ -0,0 +1,52 @@
+package org.example.realworldapi.infrastructure.web.security.ratelimit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class TokenBucketRateLimiterTest {
+
+  private static final long NOW = TimeUnit.HOURS.toNanos(1);
+
+  @Test
+  public void givenFullBucket_shouldAllowBurstUpToCapacity() {
+    TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(3, 60, 100);
+
+    Assertions.assertEquals(0, limiter.tryAcquire("user:1", NOW));
+    Assertions.assertEquals(0, limiter.tryAcquire("user:1", NOW));
+    Assertions.assertEquals(0, limiter.tryAcquire("user:1", NOW));
+    Assertions.assertEquals(TimeUnit.SECONDS.toNanos(1), limiter.tryAcquire("user:1", NOW));
+  }
+
+  @Test
+  public void givenEmptyBucket_shouldRefillOneTokenPerInterval() {
+    TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 60, 100);
+
+    Assertions.assertEquals(0, limiter.tryAcquire("ip:10.0.0.1", NOW));
+    long halfInterval = TimeUnit.MILLISECONDS.toNanos(500);
+    Assertions.assertEquals(halfInterval, limiter.tryAcquire("ip:10.0.0.1", NOW + halfInterval));
+    Assertions.assertEquals(
+        0, limiter.tryAcquire("ip:10.0.0.1", NOW + TimeUnit.SECONDS.toNanos(1)));
+  }
+
+  @Test
+  public void givenDistinctKeys_shouldUseSeparateBuckets() {
+    TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 60, 100);
+
+    Assertions.assertEquals(0, limiter.tryAcquire("user:1", NOW));
+    Assertions.assertEquals(0, limiter.tryAcquire("user:2", NOW));
+    Assertions.assertTrue(limiter.tryAcquire("user:1", NOW) > 0);
+  }
+
+  @Test
+  public void givenIdleBucket_shouldNotAccumulateMoreThanCapacity() {
+    TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(2, 60, 100);
+    long later = NOW + TimeUnit.MINUTES.toNanos(10);
+
+    Assertions.assertEquals(0, limiter.tryAcquire("user:1", NOW));
+    Assertions.assertEquals(0, limiter.tryAcquire("user:1", later));
+    Assertions.assertEquals(0, limiter.tryAcquire("user:1", later));
+    Assertions.assertTrue(limiter.tryAcquire("user:1", later) > 0);
+  }
+}
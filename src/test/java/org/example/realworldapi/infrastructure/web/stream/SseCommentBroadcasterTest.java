@@ -0,0 +1,236 @@
+package org.example.realworldapi.infrastructure.web.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.example.realworldapi.domain.model.event.CommentDeleted;
+import org.example.realworldapi.domain.model.event.DomainEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.ws.rs.sse.OutboundSseEvent;
+import javax.ws.rs.sse.Sse;
+import javax.ws.rs.sse.SseEventSink;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SseCommentBroadcasterTest {
+
+  private static final long ARTICLE_ID = 1L;
+  private static final long OTHER_ARTICLE_ID = 2L;
+  private static final long TIMEOUT_SECONDS = 5;
+  private static final long WRITE_TIMEOUT_MILLIS = 60000;
+
+  private MetricRegistry metricRegistry;
+  private Counter droppedEvents;
+  private Sse sse;
+  private SseCommentBroadcaster broadcaster;
+
+  @BeforeEach
+  public void beforeEach() {
+    metricRegistry = mock(MetricRegistry.class);
+    droppedEvents = mock(Counter.class);
+    when(metricRegistry.counter(any(Metadata.class))).thenReturn(droppedEvents);
+    sse = mock(Sse.class);
+    when(sse.newEventBuilder()).thenAnswer(invocation -> eventBuilder());
+  }
+
+  @AfterEach
+  public void afterEach() {
+    if (broadcaster != null) {
+      broadcaster.onStop(null);
+    }
+  }
+
+  @Test
+  public void givenSubscriber_shouldDeliverCommentEventsOfItsArticleOnly() throws Exception {
+    broadcaster = start(8, "drop-oldest", 10);
+    RecordingSink subscriber = subscribe(ARTICLE_ID);
+    RecordingSink otherSubscriber = subscribe(OTHER_ARTICLE_ID);
+
+    broadcaster.consume(deleted(ARTICLE_ID, 10L));
+
+    subscriber.completeNextSend();
+    Assertions.assertEquals(Collections.singletonList("10"), subscriber.sentIds);
+    verify(otherSubscriber.eventSink, never()).send(any());
+  }
+
+  @Test
+  public void givenSlowSubscriberAndDropOldest_shouldDropOldestQueuedEvent() throws Exception {
+    broadcaster = start(2, "drop-oldest", 10);
+    RecordingSink subscriber = subscribe(ARTICLE_ID);
+
+    broadcaster.consume(deleted(ARTICLE_ID, 1L));
+    CompletableFuture<Object> firstSend = subscriber.nextSend();
+    broadcaster.consume(deleted(ARTICLE_ID, 2L, 3L, 4L));
+
+    verify(droppedEvents).inc();
+    firstSend.complete(null);
+    subscriber.completeNextSend();
+    subscriber.completeNextSend();
+    Assertions.assertEquals(Arrays.asList("1", "3", "4"), subscriber.sentIds);
+    verify(subscriber.eventSink, never()).close();
+  }
+
+  @Test
+  public void givenSlowSubscriberAndDisconnect_shouldCloseStreamOnOverflow() throws Exception {
+    broadcaster = start(1, "disconnect", 1);
+    RecordingSink subscriber = subscribe(ARTICLE_ID);
+
+    broadcaster.consume(deleted(ARTICLE_ID, 1L));
+    subscriber.nextSend();
+    broadcaster.consume(deleted(ARTICLE_ID, 2L, 3L));
+
+    verify(subscriber.eventSink).close();
+    verify(droppedEvents).inc(2);
+    Assertions.assertTrue(broadcaster.subscribe(ARTICLE_ID, mock(SseEventSink.class), sse));
+  }
+
+  @Test
+  public void givenStalledSubscriber_shouldCloseItAfterWriteTimeoutAndKeepDeliveringToOthers()
+      throws Exception {
+    broadcaster = start(8, "drop-oldest", 3, 100);
+    CountDownLatch unblock = new CountDownLatch(1);
+    List<SseEventSink> stalledSinks = new ArrayList<>();
+    try {
+      for (int stalled = 0; stalled < 2; stalled++) {
+        SseEventSink stalledSink = mock(SseEventSink.class);
+        when(stalledSink.send(any()))
+            .thenAnswer(
+                invocation -> {
+                  unblock.await();
+                  return new CompletableFuture<>();
+                });
+        Assertions.assertTrue(broadcaster.subscribe(ARTICLE_ID, stalledSink, sse));
+        stalledSinks.add(stalledSink);
+      }
+      RecordingSink subscriber = subscribe(ARTICLE_ID);
+
+      broadcaster.consume(deleted(ARTICLE_ID, 1L));
+      subscriber.completeNextSend();
+      broadcaster.consume(deleted(ARTICLE_ID, 2L));
+      subscriber.completeNextSend();
+
+      Assertions.assertEquals(Arrays.asList("1", "2"), subscriber.sentIds);
+      for (SseEventSink stalledSink : stalledSinks) {
+        verify(stalledSink, timeout(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS))).close();
+      }
+      verify(subscriber.eventSink, never()).close();
+      Assertions.assertTrue(broadcaster.subscribe(ARTICLE_ID, mock(SseEventSink.class), sse));
+    } finally {
+      unblock.countDown();
+    }
+  }
+
+  @Test
+  public void givenMaxSubscribers_shouldRejectNewSubscriptions() {
+    broadcaster = start(8, "drop-oldest", 2);
+
+    Assertions.assertTrue(broadcaster.subscribe(ARTICLE_ID, mock(SseEventSink.class), sse));
+    Assertions.assertTrue(broadcaster.subscribe(OTHER_ARTICLE_ID, mock(SseEventSink.class), sse));
+    Assertions.assertFalse(broadcaster.subscribe(ARTICLE_ID, mock(SseEventSink.class), sse));
+  }
+
+  private SseCommentBroadcaster start(int queueSize, String overflow, int maxSubscribers) {
+    return start(queueSize, overflow, maxSubscribers, WRITE_TIMEOUT_MILLIS);
+  }
+
+  private SseCommentBroadcaster start(
+      int queueSize, String overflow, int maxSubscribers, long writeTimeoutMillis) {
+    SseCommentBroadcaster commentBroadcaster =
+        new SseCommentBroadcaster(
+            new ObjectMapper(),
+            metricRegistry,
+            queueSize,
+            overflow,
+            maxSubscribers,
+            1,
+            3600,
+            writeTimeoutMillis);
+    commentBroadcaster.onStart(null);
+    return commentBroadcaster;
+  }
+
+  private RecordingSink subscribe(long articleId) {
+    RecordingSink sink = new RecordingSink();
+    Assertions.assertTrue(broadcaster.subscribe(articleId, sink.eventSink, sse));
+    return sink;
+  }
+
+  private List<DomainEvent> deleted(long articleId, Long... commentIds) {
+    List<DomainEvent> events = new ArrayList<>();
+    for (Long commentId : commentIds) {
+      events.add(new CommentDeleted(articleId, commentId));
+    }
+    return events;
+  }
+
+  private OutboundSseEvent.Builder eventBuilder() {
+    OutboundSseEvent.Builder builder = mock(OutboundSseEvent.Builder.class, RETURNS_SELF);
+    AtomicReference<String> id = new AtomicReference<>();
+    when(builder.id(anyString()))
+        .thenAnswer(
+            invocation -> {
+              id.set(invocation.getArgument(0));
+              return builder;
+            });
+    when(builder.build())
+        .thenAnswer(
+            invocation -> {
+              OutboundSseEvent event = mock(OutboundSseEvent.class);
+              when(event.getId()).thenReturn(id.get());
+              return event;
+            });
+    return builder;
+  }
+
+  private static class RecordingSink {
+
+    private final SseEventSink eventSink = mock(SseEventSink.class);
+    private final List<String> sentIds = new CopyOnWriteArrayList<>();
+    private final BlockingQueue<CompletableFuture<Object>> sends = new LinkedBlockingQueue<>();
+
+    private RecordingSink() {
+      when(eventSink.send(any()))
+          .thenAnswer(
+              invocation -> {
+                OutboundSseEvent event = invocation.getArgument(0);
+                sentIds.add(event.getId());
+                CompletableFuture<Object> send = new CompletableFuture<>();
+                sends.add(send);
+                return send;
+              });
+    }
+
+    private CompletableFuture<Object> nextSend() throws InterruptedException {
+      CompletableFuture<Object> send = sends.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+      Assertions.assertNotNull(send, "no event was sent");
+      return send;
+    }
+
+    private void completeNextSend() throws InterruptedException {
+      nextSend().complete(null);
+    }
+  }
+}
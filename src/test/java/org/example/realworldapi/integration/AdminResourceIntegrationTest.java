@@ -0,0 +1,136 @@
+package org.example.realworldapi.integration;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.apache.http.HttpStatus;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.example.realworldapi.AbstractIntegrationTest;
+import org.example.realworldapi.domain.model.entity.persistent.Article;
+import org.example.realworldapi.domain.model.entity.persistent.User;
+import org.example.realworldapi.infrastructure.jdbc.SlowQueryLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.inject.Inject;
+import javax.ws.rs.core.MediaType;
+import java.util.concurrent.TimeUnit;
+
+import static io.restassured.RestAssured.given;
+import static org.example.realworldapi.constants.TestConstants.*;
+import static org.hamcrest.Matchers.*;
+
+@QuarkusTest
+public class AdminResourceIntegrationTest extends AbstractIntegrationTest {
+
+  private final String SLOW_QUERIES_PATH = API_PREFIX + "/admin/slow-queries";
+  private final String ARTICLES_PATH = API_PREFIX + "/articles";
+
+  @Inject
+  @ConfigProperty(name = "sql.slow-query.enabled", defaultValue = "false")
+  boolean slowQueryEnabled;
+
+  @Inject
+  @ConfigProperty(name = "sql.slow-query.threshold.millis", defaultValue = "200")
+  long slowQueryThresholdMillis;
+
+  @Inject
+  @ConfigProperty(name = "sql.slow-query.explain", defaultValue = "false")
+  boolean slowQueryExplain;
+
+  @Inject
+  @ConfigProperty(name = "sql.slow-query.parameters", defaultValue = "false")
+  boolean slowQueryParameters;
+
+  @Inject
+  @ConfigProperty(name = "sql.slow-query.capacity", defaultValue = "100")
+  int slowQueryCapacity;
+
+  @AfterEach
+  public void restoreSlowQueryLog() {
+    SlowQueryLog.configure(
+        slowQueryEnabled,
+        TimeUnit.MILLISECONDS.toNanos(slowQueryThresholdMillis),
+        slowQueryExplain,
+        slowQueryParameters,
+        slowQueryCapacity);
+  }
+
+  @Test
+  public void shouldReturn401WhenExecuteSlowQueriesEndpointWithoutAuthorization() {
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .get(SLOW_QUERIES_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_UNAUTHORIZED)
+        .body("errors.body", hasItem("UNAUTHORIZED"));
+  }
+
+  @Test
+  public void givenLoggedUserWithoutAdminRole_whenExecuteSlowQueriesEndpoint_shouldReturn403() {
+
+    User loggedUser = createUser("loggedUser", "loggeduser@mail.com", "bio", "image", "123");
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + loggedUser.getToken())
+        .get(SLOW_QUERIES_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_FORBIDDEN);
+  }
+
+  @Test
+  public void givenUserNamedAdminWithoutAdminFlag_whenExecuteSlowQueriesEndpoint_shouldReturn403() {
+
+    User loggedUser = createUser("admin", "admin@mail.com", "bio", "image", "123");
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + loggedUser.getToken())
+        .get(SLOW_QUERIES_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_FORBIDDEN);
+  }
+
+  @Test
+  public void givenLoggedAdminAndASlowQuery_whenExecuteSlowQueriesEndpoint_shouldReturnIt() {
+
+    User admin = createAdmin("user1", "user1@mail.com");
+    Article article = createArticle(admin, "Title", "Description", "Body");
+
+    SlowQueryLog.configure(true, 0, false, true, slowQueryCapacity);
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .pathParam("slug", article.getSlug())
+        .get(ARTICLES_PATH + "/{slug}")
+        .then()
+        .statusCode(HttpStatus.SC_OK);
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + admin.getToken())
+        .get(SLOW_QUERIES_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body(
+            "enabled",
+            is(true),
+            "slowQueriesCount",
+            greaterThan(0),
+            "slowQueries.parameters.flatten()",
+            hasItem(article.getSlug()),
+            "slowQueries.repositoryMethod",
+            hasItem(notNullValue()));
+  }
+
+  private User createAdmin(String username, String email) {
+    User user = createUser(username, email, "bio", "image", "123");
+    return transaction(
+        () -> {
+          User admin = entityManager.find(User.class, user.getId());
+          admin.setAdmin(true);
+          admin.setToken(tokenProvider.createUserToken(admin.getId().toString(), true));
+          return admin;
+        });
+  }
+}
@@ -8,6 +8,7 @@ import org.example.realworldapi.domain.model.entity.persistent.Article;
 import org.example.realworldapi.domain.model.entity.persistent.Comment;
 import org.example.realworldapi.domain.model.entity.persistent.Tag;
 import org.example.realworldapi.domain.model.entity.persistent.User;
+import org.example.realworldapi.extension.SqlStatementBudget;
 import org.example.realworldapi.infrastructure.web.model.request.NewArticleRequest;
 import org.example.realworldapi.infrastructure.web.model.request.NewCommentRequest;
 import org.example.realworldapi.infrastructure.web.model.request.UpdateArticleRequest;
@@ -27,6 +28,7 @@ public class ArticlesResourceIntegrationTest extends AbstractIntegrationTest {
 
   private final String ARTICLES_PATH = API_PREFIX + "/articles";
   private final String FEED_PATH = ARTICLES_PATH + "/feed";
+  private final String SEARCH_PATH = ARTICLES_PATH + "/search";
 
   @Test
   public void shouldReturn401WhenExecuteFeedEndpointWithoutAuthorization() {
@@ -42,6 +44,7 @@ public class ArticlesResourceIntegrationTest extends AbstractIntegrationTest {
   }
 
   @Test
+  @SqlStatementBudget(max = 40)
   public void
       given10ArticlesForLoggedUser_whenExecuteFeedEndpointWithOffset0AndLimit5_shouldReturnListOf5Articles() {
 
@@ -100,6 +103,7 @@ public class ArticlesResourceIntegrationTest extends AbstractIntegrationTest {
   }
 
   @Test
+  @SqlStatementBudget(max = 60)
   public void
       given8ArticlesForLoggedUser_whenExecuteFeedEndpointWithOffset0AndLimit10_shouldReturnListOf8Articles() {
 
@@ -306,6 +310,132 @@ public class ArticlesResourceIntegrationTest extends AbstractIntegrationTest {
             is(5));
   }
 
+  @Test
+  public void
+      givenArticlesWithOverlappingTags_whenExecuteGlobalArticlesEndpointWithTagMode_shouldReturnUnionOrIntersection() {
+
+    User loggedUser =
+        createUser("loggedUser", "loggeduser@mail.com", "bio", "image", "loggeduser123");
+
+    Article article1 = createArticle(loggedUser, "Title 1", "Description", "Body");
+    Article article2 = createArticle(loggedUser, "Title 2", "Description", "Body");
+    Article article3 = createArticle(loggedUser, "Title 3", "Description", "Body");
+
+    Tag tag1 = createTag("Tag 1");
+    Tag tag2 = createTag("Tag 2");
+
+    createArticlesTags(Arrays.asList(article1, article3), tag1);
+    createArticlesTags(Arrays.asList(article2, article3), tag2);
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .queryParam("tag", tag1.getName(), tag2.getName())
+        .get(ARTICLES_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body(
+            "articles.slug",
+            contains(article3.getSlug(), article2.getSlug(), article1.getSlug()),
+            "articlesCount",
+            is(3));
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .queryParam("tag", tag1.getName(), tag2.getName())
+        .queryParam("tagMode", "all")
+        .get(ARTICLES_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body(
+            "articles.slug",
+            contains(article3.getSlug()),
+            "articles[0].tagList",
+            hasItems(tag1.getName(), tag2.getName()),
+            "articlesCount",
+            is(1));
+  }
+
+  @Test
+  public void
+      givenArticlesMatchingSeveralTags_whenExecuteGlobalArticlesEndpointWithTagsAndAuthor_shouldCountEachArticleOnce() {
+
+    User loggedUser =
+        createUser("loggedUser", "loggeduser@mail.com", "bio", "image", "loggeduser123");
+    User user = createUser("user", "user@mail.com", "bio", "image", "user123");
+
+    List<Article> articles = createArticles(loggedUser, "Title", "Description", "Body", 2);
+    List<Article> otherArticles = createArticles(user, "Other", "Description", "Body", 2);
+
+    Tag tag1 = createTag("Tag 1");
+    Tag tag2 = createTag("Tag 2");
+
+    createArticlesTags(articles, tag1, tag2);
+    createArticlesTags(otherArticles, tag1, tag2);
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .queryParam("tag", tag1.getName(), tag2.getName())
+        .queryParam("author", loggedUser.getUsername(), "unknown")
+        .get(ARTICLES_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body("articles.size()", is(2), "articlesCount", is(2));
+  }
+
+  @Test
+  public void
+      givenArticleFavoritedThroughEndpoint_whenExecuteFeedEndpoint_shouldReturnUpdatedSummary() {
+
+    User loggedUser =
+        createUser("loggedUser", "loggeduser@mail.com", "bio", "image", "loggeduser123");
+    User user = createUser("user", "user@mail.com", "bio", "image", "user123");
+
+    Article article = createArticle(user, "Title", "Description", "Body");
+
+    follow(loggedUser, user);
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + loggedUser.getToken())
+        .pathParam("slug", article.getSlug())
+        .post(ARTICLES_PATH + "/{slug}/favorite")
+        .then()
+        .statusCode(HttpStatus.SC_OK);
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + loggedUser.getToken())
+        .get(FEED_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body(
+            "articles.slug",
+            contains(article.getSlug()),
+            "articles[0].favorited",
+            is(true),
+            "articles[0].favoritesCount",
+            is(1),
+            "articles[0].author.username",
+            is(user.getUsername()),
+            "articles[0].author.following",
+            is(true),
+            "articlesCount",
+            is(1));
+  }
+
+  @Test
+  public void givenInvalidTagMode_whenExecuteGlobalArticlesEndpoint_shouldReturnStatusCode400() {
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .queryParam("tag", "Tag 1")
+        .queryParam("tagMode", "some")
+        .get(ARTICLES_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_BAD_REQUEST)
+        .body("errors.body", hasItem("invalid tag mode"));
+  }
+
   @Test
   public void shouldReturn401WhenExecuteCreateArticleEndpointWithoutToken() {
 
@@ -358,6 +488,60 @@ public class ArticlesResourceIntegrationTest extends AbstractIntegrationTest {
             hasKey("author"));
   }
 
+  @Test
+  public void
+      givenArticleRequestWithLongTags_whenExecuteCreateArticleEndpoint_shouldListArticleWithAllTags()
+          throws JsonProcessingException {
+
+    User loggedUser =
+        createUser("loggedUser", "loggeduser@mail.com", "bio", "image", "loggeduser123");
+
+    String[] tags = new String[5];
+    for (int tag = 0; tag < tags.length; tag++) {
+      char[] name = new char[250];
+      Arrays.fill(name, (char) ('a' + tag));
+      tags[tag] = new String(name);
+    }
+    NewArticleRequest newArticleRequest = createNewArticle("Title", "Description", "Body", tags);
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + loggedUser.getToken())
+        .body(objectMapper.writeValueAsString(newArticleRequest))
+        .post(ARTICLES_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_CREATED);
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .get(ARTICLES_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body("articles.size()", is(1), "articles[0].tagList", hasItems(tags));
+  }
+
+  @Test
+  public void
+      givenExistentArticleWithSameTitle_whenExecuteCreateArticleEndpoint_shouldReturnArticleWithSuffixedSlug()
+          throws JsonProcessingException {
+
+    User loggedUser =
+        createUser("loggedUser", "loggeduser@mail.com", "bio", "image", "loggeduser123");
+
+    Article existentArticle = createArticle(loggedUser, "Title", "Description", "Body");
+
+    NewArticleRequest newArticleRequest = createNewArticle("Title", "Description", "Body");
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + loggedUser.getToken())
+        .body(objectMapper.writeValueAsString(newArticleRequest))
+        .post(ARTICLES_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_CREATED)
+        .body("article.slug", is(existentArticle.getSlug() + "-2"));
+  }
+
   @Test
   public void
       givenValidArticleRequestWithTags_whenExecuteCreateArticleEndpoint_shouldReturnACreatedArticle()
@@ -408,6 +592,7 @@ public class ArticlesResourceIntegrationTest extends AbstractIntegrationTest {
   }
 
   @Test
+  @SqlStatementBudget(max = 10)
   public void
       givenExistentArticle_whenExecuteGetArticleBySlugEndpoint_shouldReturnArticleWithStatusCode200() {
 
@@ -510,6 +695,170 @@ public class ArticlesResourceIntegrationTest extends AbstractIntegrationTest {
             hasKey("author"));
   }
 
+  @Test
+  @SqlStatementBudget(max = 10)
+  public void
+      givenExistentArticleWith3Comments_whenExecuteGetCommentsBySlugEndpointWithLimit2_shouldReturnPagesWithCommentAuthors() {
+
+    User loggedUser =
+        createUser("loggedUser", "loggeduser@mail.com", "bio", "image", "loggeduser123");
+    User user1 = createUser("user1", "user1@mail.com", "bio", "image", "user123");
+    User user2 = createUser("user2", "user2@mail.com", "bio", "image", "user123");
+    Article article = createArticle(loggedUser, "Title", "Description", "Body");
+
+    follow(loggedUser, user2);
+
+    createComment(user1, article, "comment1");
+    createComment(user2, article, "comment2");
+    createComment(user1, article, "comment3");
+
+    String nextPage =
+        given()
+            .contentType(MediaType.APPLICATION_JSON)
+            .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + loggedUser.getToken())
+            .pathParam("slug", article.getSlug())
+            .queryParam("limit", 2)
+            .get(ARTICLES_PATH + "/{slug}/comments")
+            .then()
+            .statusCode(HttpStatus.SC_OK)
+            .header("Link", containsString("rel=\"next\""))
+            .body(
+                "comments.size()",
+                is(2),
+                "comments[0].body",
+                is("comment1"),
+                "comments[0].author.username",
+                is(user1.getUsername()),
+                "comments[0].author.following",
+                is(false),
+                "comments[1].body",
+                is("comment2"),
+                "comments[1].author.username",
+                is(user2.getUsername()),
+                "comments[1].author.following",
+                is(true))
+            .extract()
+            .header("Link");
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + loggedUser.getToken())
+        .get(nextPage.substring(nextPage.indexOf('<') + 1, nextPage.indexOf('>')))
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .header("Link", nullValue())
+        .body(
+            "comments.size()",
+            is(1),
+            "comments[0].body",
+            is("comment3"),
+            "comments[0].author.username",
+            is(user1.getUsername()));
+  }
+
+  @Test
+  public void
+      givenInvalidCursor_whenExecuteGetCommentsBySlugEndpoint_shouldReturnStatusCode400() {
+
+    User loggedUser =
+        createUser("loggedUser", "loggeduser@mail.com", "bio", "image", "loggeduser123");
+    Article article = createArticle(loggedUser, "Title", "Description", "Body");
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .pathParam("slug", article.getSlug())
+        .queryParam("after", "invalid")
+        .get(ARTICLES_PATH + "/{slug}/comments")
+        .then()
+        .statusCode(HttpStatus.SC_BAD_REQUEST)
+        .body("errors.body", hasItem("invalid cursor"));
+  }
+
+  @Test
+  public void
+      givenIndexedArticles_whenExecuteSearchEndpointWithLimit2_shouldReturnRankedPagesOfMatchingArticles() {
+
+    User loggedUser =
+        createUser("loggedUser", "loggeduser@mail.com", "bio", "image", "loggeduser123");
+    Article titleMatch = createArticle(loggedUser, "Quarkus tuning", "Description", "Body");
+    Article bodyMatch =
+        createArticle(loggedUser, "Title", "Description", "Notes about quarkus startup");
+    Article tagMatch = createArticle(loggedUser, "Other", "Description", "Body");
+    createArticle(loggedUser, "Unrelated", "Description", "Body");
+    createArticlesTags(Arrays.asList(tagMatch), createTag("quarkus"));
+
+    articleSearchIndexer.rebuild();
+
+    String nextPage =
+        given()
+            .contentType(MediaType.APPLICATION_JSON)
+            .queryParam("q", "Quarkus")
+            .queryParam("limit", 2)
+            .get(SEARCH_PATH)
+            .then()
+            .statusCode(HttpStatus.SC_OK)
+            .header("Link", containsString("rel=\"next\""))
+            .body(
+                "articles.size()",
+                is(2),
+                "articles[0].slug",
+                is(titleMatch.getSlug()),
+                "articles[1].slug",
+                is(tagMatch.getSlug()),
+                "articles[1].tagList",
+                hasItem("quarkus"),
+                "articlesCount",
+                is(3))
+            .extract()
+            .header("Link");
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .get(nextPage.substring(nextPage.indexOf('<') + 1, nextPage.indexOf('>')))
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .header("Link", nullValue())
+        .body("articles.size()", is(1), "articles[0].slug", is(bodyMatch.getSlug()));
+  }
+
+  @Test
+  public void givenIndexedArticleMissingFromDatabase_whenExecuteSearchEndpoint_shouldNotCountIt() {
+
+    User loggedUser =
+        createUser("loggedUser", "loggeduser@mail.com", "bio", "image", "loggeduser123");
+    Article article = createArticle(loggedUser, "Quarkus tuning", "Description", "Body");
+
+    articleSearchIndexer.rebuild();
+    articleSearchIndex.index(
+        article.getId() + 1000, "Quarkus removed", "Description", "Body", Arrays.asList());
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .queryParam("q", "Quarkus")
+        .get(SEARCH_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body(
+            "articles.size()",
+            is(1),
+            "articles[0].slug",
+            is(article.getSlug()),
+            "articlesCount",
+            is(1));
+  }
+
+  @Test
+  public void givenBlankQuery_whenExecuteSearchEndpoint_shouldReturnStatusCode422() {
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .queryParam("q", " ")
+        .get(SEARCH_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_UNPROCESSABLE_ENTITY)
+        .body("errors.body", hasItem("query must not be blank"));
+  }
+
   @Test
   public void
       givenExistentArticleWithoutComments_whenExecuteCreateCommentEndpoint_shouldReturnCommentWithStatusCode200()
@@ -545,6 +894,68 @@ public class ArticlesResourceIntegrationTest extends AbstractIntegrationTest {
             is(loggedUser.getUsername()));
   }
 
+  @Test
+  public void
+      givenCachedCommentThread_whenExecuteCreateAndDeleteCommentEndpoints_shouldReturnUpdatedThread()
+          throws JsonProcessingException {
+
+    User loggedUser =
+        createUser("loggedUser", "loggeduser@mail.com", "bio", "image", "loggeduser123");
+    Article article = createArticle(loggedUser, "Title", "Description", "Body");
+
+    given()
+        .pathParam("slug", article.getSlug())
+        .get(ARTICLES_PATH + "/{slug}/comments")
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body("comments.size()", is(0));
+
+    NewCommentRequest newCommentRequest = new NewCommentRequest();
+    newCommentRequest.setBody("comment body");
+
+    Integer commentId =
+        given()
+            .contentType(MediaType.APPLICATION_JSON)
+            .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + loggedUser.getToken())
+            .pathParam("slug", article.getSlug())
+            .body(objectMapper.writeValueAsString(newCommentRequest))
+            .post(ARTICLES_PATH + "/{slug}/comments")
+            .then()
+            .statusCode(HttpStatus.SC_OK)
+            .extract()
+            .path("comment.id");
+
+    given()
+        .pathParam("slug", article.getSlug())
+        .get(ARTICLES_PATH + "/{slug}/comments")
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body(
+            "comments.size()",
+            is(1),
+            "comments[0].id",
+            is(commentId),
+            "comments[0].body",
+            is(newCommentRequest.getBody()),
+            "comments[0].author.username",
+            is(loggedUser.getUsername()));
+
+    given()
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + loggedUser.getToken())
+        .pathParam("slug", article.getSlug())
+        .pathParam("id", commentId)
+        .delete(ARTICLES_PATH + "/{slug}/comments/{id}")
+        .then()
+        .statusCode(HttpStatus.SC_OK);
+
+    given()
+        .pathParam("slug", article.getSlug())
+        .get(ARTICLES_PATH + "/{slug}/comments")
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body("comments.size()", is(0));
+  }
+
   @Test
   public void
       givenExistentArticleWithComments_whenExecuteDeleteCommentEndpoint_shouldReturnStatusCode200() {
@@ -10,6 +10,8 @@ import javax.ws.rs.core.MediaType;
 
 import static io.restassured.RestAssured.given;
 import static org.example.realworldapi.constants.TestConstants.API_PREFIX;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.is;
 
@@ -37,4 +39,24 @@ public class TagsResourceIntegrationTest extends AbstractIntegrationTest {
             "tags",
             hasItems(tag1.getName(), tag2.getName(), tag3.getName(), tag4.getName()));
   }
+
+  @Test
+  public void whenExecuteGetTagsEndpoint_shouldReturnServerTimingHeader() {
+
+    createTag("tag 1");
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .get(TAGS_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .header(
+            "Server-Timing",
+            allOf(
+                containsString("auth;dur="),
+                containsString("db;dur="),
+                containsString("hydration;dur="),
+                containsString("serialization;dur="),
+                containsString("total;dur=")));
+  }
 }
@@ -53,7 +53,7 @@ public class UserResourceIntegrationTest extends AbstractIntegrationTest {
   public void givenAInexistentUser_whenExecuteGetUserEndpoint_shouldReturn404NotFound() {
 
     String authorizationHeader =
-        AUTHORIZATION_HEADER_VALUE_PREFIX + tokenProvider.createUserToken("1");
+        AUTHORIZATION_HEADER_VALUE_PREFIX + tokenProvider.createUserToken("1", false);
 
     given()
         .header(AUTHORIZATION_HEADER, authorizationHeader)